@@ -0,0 +1,101 @@
+package com.readme.config;
+
+import com.readme.util.CircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the circuit breaker guarding the GitHub integration.
+ *
+ * <p>Thresholds are set under {@code readme.github.circuit-breaker.*}. The
+ * circuit state is exported as the {@code readme.github.circuit.state} gauge
+ * (0 closed, 1 open, 2 half-open), transitions are counted by
+ * {@code readme.github.circuit.transitions} and published as
+ * {@link StateChangedEvent} application events, and calls refused while the
+ * circuit is open are counted by {@code readme.github.circuit.rejected}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class CircuitBreakerConfig {
+
+  private static final Logger logger = LoggerFactory.getLogger(CircuitBreakerConfig.class);
+
+  private static final String NAME = "github";
+
+  /**
+   * Application event published when a circuit changes state.
+   *
+   * @param name the circuit name
+   * @param from the previous state
+   * @param to the new state
+   * @param timestamp when the transition happened
+   */
+  public record StateChangedEvent(String name, CircuitBreaker.State from,
+                                  CircuitBreaker.State to, Instant timestamp) {
+  }
+
+  /**
+   * Creates the circuit breaker for GitHub calls.
+   *
+   * @param windowSize number of most recent calls the rates are computed over
+   * @param minimumCalls calls required before the circuit may open
+   * @param failureRateThreshold failure percentage that opens the circuit
+   * @param slowCallRateThreshold slow call percentage that opens the circuit
+   * @param slowCallDuration duration from which a call counts as slow
+   * @param openDuration how long the circuit stays open before probing
+   * @param halfOpenCalls number of probe calls in the half-open state
+   * @param meterRegistry registry for the circuit metrics
+   * @param eventPublisher publisher for state change events
+   * @return the circuit breaker
+   */
+  @Bean
+  public CircuitBreaker githubCircuitBreaker(
+      @Value("${readme.github.circuit-breaker.window-size:20}") int windowSize,
+      @Value("${readme.github.circuit-breaker.minimum-calls:10}") int minimumCalls,
+      @Value("${readme.github.circuit-breaker.failure-rate-threshold:50}")
+      float failureRateThreshold,
+      @Value("${readme.github.circuit-breaker.slow-call-rate-threshold:80}")
+      float slowCallRateThreshold,
+      @Value("${readme.github.circuit-breaker.slow-call-duration:5s}") Duration slowCallDuration,
+      @Value("${readme.github.circuit-breaker.open-duration:30s}") Duration openDuration,
+      @Value("${readme.github.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+      MeterRegistry meterRegistry,
+      ApplicationEventPublisher eventPublisher) {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(windowSize, minimumCalls,
+        failureRateThreshold, slowCallRateThreshold, slowCallDuration, openDuration,
+        halfOpenCalls);
+
+    Gauge.builder("readme.github.circuit.state", circuitBreaker,
+            breaker -> breaker.getState().ordinal())
+        .description("0 = closed, 1 = open, 2 = half-open")
+        .register(meterRegistry);
+    FunctionCounter.builder("readme.github.circuit.rejected", circuitBreaker,
+            CircuitBreaker::getRejected)
+        .register(meterRegistry);
+
+    circuitBreaker.addListener((from, to) -> {
+      if (to == CircuitBreaker.State.OPEN) {
+        logger.warn("GitHub circuit breaker {} -> {}: failing fast for {}", from, to,
+            openDuration);
+      } else {
+        logger.info("GitHub circuit breaker {} -> {}", from, to);
+      }
+      meterRegistry.counter("readme.github.circuit.transitions",
+          "from", from.name(), "to", to.name()).increment();
+      eventPublisher.publishEvent(new StateChangedEvent(NAME, from, to, Instant.now()));
+    });
+    return circuitBreaker;
+  }
+}
@@ -0,0 +1,61 @@
+package com.readme.config;
+
+import com.readme.util.HedgePolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of request hedging for idempotent GitHub reads.
+ *
+ * <p>Settings live under {@code readme.github.hedging.*}; a
+ * {@code budget-percent} of 0 disables hedging. Issued, winning and
+ * budget-denied hedges are counted by {@code readme.github.hedge.requests},
+ * {@code readme.github.hedge.wins} and {@code readme.github.hedge.denied}
+ * (the win rate is wins over requests), and the current hedge delay is
+ * exported as the {@code readme.github.hedge.delay} gauge.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class HedgingConfig {
+
+  /**
+   * Creates the hedge policy for GitHub reads.
+   *
+   * @param percentile latency percentile used as hedge delay
+   * @param budgetPercent hedges allowed per hundred reads
+   * @param minDelay lowest hedge delay
+   * @param maxDelay highest hedge delay
+   * @param meterRegistry registry for the hedging metrics
+   * @return the hedge policy
+   */
+  @Bean
+  public HedgePolicy githubHedgePolicy(
+      @Value("${readme.github.hedging.percentile:95}") double percentile,
+      @Value("${readme.github.hedging.budget-percent:10}") int budgetPercent,
+      @Value("${readme.github.hedging.min-delay:50ms}") Duration minDelay,
+      @Value("${readme.github.hedging.max-delay:2s}") Duration maxDelay,
+      MeterRegistry meterRegistry) {
+    HedgePolicy policy = new HedgePolicy(percentile, budgetPercent, minDelay, maxDelay);
+
+    FunctionCounter.builder("readme.github.hedge.requests", policy, HedgePolicy::getHedges)
+        .register(meterRegistry);
+    FunctionCounter.builder("readme.github.hedge.wins", policy, HedgePolicy::getWins)
+        .register(meterRegistry);
+    FunctionCounter.builder("readme.github.hedge.denied", policy, HedgePolicy::getDenied)
+        .register(meterRegistry);
+    Gauge.builder("readme.github.hedge.delay", policy,
+            p -> (double) p.getDelayNanos() / TimeUnit.MILLISECONDS.toNanos(1))
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+    return policy;
+  }
+}
@@ -0,0 +1,139 @@
+package com.readme.config;
+
+import com.readme.util.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration for per-client admission control on the expensive
+ * endpoints.
+ *
+ * <p>README generation ({@code /api/generate/**}) and GitHub export
+ * ({@code /api/export}) each have their own {@link RateLimiter}, configured
+ * under {@code readme.rate-limit.generate.*} and
+ * {@code readme.rate-limit.export.*}. Clients are identified by their remote
+ * address or, when {@code readme.rate-limit.client-header} is set (for
+ * deployments behind a gateway that authenticates API keys), by that header.
+ * Rejected requests get {@code 429 Too Many Requests} with
+ * {@code Retry-After}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class RateLimitConfig implements WebMvcConfigurer {
+
+  private static final int MAX_CLIENT_KEY_LENGTH = 128;
+
+  private final boolean enabled;
+  private final String clientHeader;
+  private final RateLimiter generateLimiter;
+  private final RateLimiter exportLimiter;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructs the rate limit configuration.
+   *
+   * @param enabled whether rate limiting is active
+   * @param clientHeader request header identifying clients; blank to use the remote address
+   * @param generatePerMinute sustained generation requests per client and minute
+   * @param generateBurst generation requests a client may send at once
+   * @param exportPerMinute sustained export requests per client and minute
+   * @param exportBurst export requests a client may send at once
+   * @param meterRegistry registry for rejection metrics
+   */
+  public RateLimitConfig(
+      @Value("${readme.rate-limit.enabled:true}") boolean enabled,
+      @Value("${readme.rate-limit.client-header:}") String clientHeader,
+      @Value("${readme.rate-limit.generate.per-minute:120}") int generatePerMinute,
+      @Value("${readme.rate-limit.generate.burst:20}") int generateBurst,
+      @Value("${readme.rate-limit.export.per-minute:10}") int exportPerMinute,
+      @Value("${readme.rate-limit.export.burst:3}") int exportBurst,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.clientHeader = clientHeader;
+    this.generateLimiter = new RateLimiter(generatePerMinute, generateBurst);
+    this.exportLimiter = new RateLimiter(exportPerMinute, exportBurst);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    if (!enabled) {
+      return;
+    }
+    registry.addInterceptor(new RateLimitInterceptor("generate", generateLimiter))
+        .addPathPatterns("/api/generate", "/api/generate/**");
+    registry.addInterceptor(new RateLimitInterceptor("export", exportLimiter))
+        .addPathPatterns("/api/export");
+  }
+
+  /**
+   * Rejects requests from clients that exhausted their bucket.
+   */
+  private final class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter limiter;
+    private final Counter rejected;
+
+    RateLimitInterceptor(String endpoint, RateLimiter limiter) {
+      this.limiter = limiter;
+      this.rejected = meterRegistry.counter("readme.ratelimit.rejected", "endpoint", endpoint);
+      meterRegistry.gauge("readme.ratelimit.clients", Tags.of("endpoint", endpoint), limiter,
+          RateLimiter::size);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) throws IOException {
+      // Async handlers are re-dispatched to deliver their result; the token
+      // was already taken on the initial dispatch
+      if (HttpMethod.OPTIONS.matches(request.getMethod())
+          || request.getDispatcherType() == DispatcherType.ASYNC) {
+        return true;
+      }
+      long waitNanos = limiter.tryAcquire(clientKey(request));
+      if (waitNanos == 0) {
+        return true;
+      }
+
+      rejected.increment();
+      long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1);
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+      response.getWriter().write("{\"status\":\"error\",\"error\":\"Too many requests, retry in "
+          + retryAfter + "s\"}");
+      return false;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+      if (StringUtils.isNotEmpty(clientHeader)) {
+        String key = request.getHeader(clientHeader);
+        if (StringUtils.isNotBlank(key)) {
+          return "key:" + StringUtils.left(key, MAX_CLIENT_KEY_LENGTH);
+        }
+      }
+      return "ip:" + request.getRemoteAddr();
+    }
+  }
+}
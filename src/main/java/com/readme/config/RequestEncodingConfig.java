@@ -0,0 +1,367 @@
+package com.readme.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import com.readme.exception.RequestBodyTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration for the encodings accepted and produced by the API,
+ * aimed at high-volume automation clients.
+ *
+ * <p>Request bodies sent with {@code Content-Encoding: gzip} or
+ * {@code Content-Encoding: zstd} are decompressed as a stream while Jackson
+ * parses them; no decompressed copy is buffered. The decompressed size is
+ * capped by {@code readme.request.max-decompressed-size}, and exceeding it
+ * aborts parsing with a {@link RequestBodyTooLargeException}. Other encodings
+ * are refused with {@code 415 Unsupported Media Type}.
+ *
+ * <p>Smile ({@code application/x-jackson-smile}) and CBOR
+ * ({@code application/cbor}) converters share the settings of the
+ * application's JSON mapper. They are registered after the JSON converter,
+ * so JSON stays the default and binary encodings are only used when
+ * requested through {@code Content-Type} or {@code Accept}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+public class RequestEncodingConfig implements WebMvcConfigurer {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final ObjectMapper objectMapper;
+  private final long maxDecompressedBytes;
+
+  /**
+   * Constructs the encoding configuration.
+   *
+   * @param objectMapper the application's JSON mapper, whose settings the binary mappers copy
+   * @param maxDecompressedSize largest accepted request body after decompression
+   */
+  public RequestEncodingConfig(
+      ObjectMapper objectMapper,
+      @Value("${readme.request.max-decompressed-size:1MB}") DataSize maxDecompressedSize) {
+    this.objectMapper = objectMapper;
+    this.maxDecompressedBytes = maxDecompressedSize.toBytes();
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new MappingJackson2SmileHttpMessageConverter(
+        objectMapper.copyWith(new SmileFactory())));
+    converters.add(new MappingJackson2CborHttpMessageConverter(
+        objectMapper.copyWith(new CBORFactory())));
+  }
+
+  /**
+   * Registers the request decompression filter on the API.
+   *
+   * @return the filter registration
+   */
+  @Bean
+  public FilterRegistrationBean<RequestDecompressionFilter> requestDecompressionFilter() {
+    FilterRegistrationBean<RequestDecompressionFilter> registration =
+        new FilterRegistrationBean<>(new RequestDecompressionFilter(maxDecompressedBytes));
+    registration.addUrlPatterns("/api/*");
+    return registration;
+  }
+
+  /**
+   * Supported request content encodings.
+   */
+  private enum Codec {
+    GZIP, ZSTD;
+
+    static Codec of(String encoding) {
+      return switch (encoding.trim().toLowerCase(Locale.ROOT)) {
+        case "gzip", "x-gzip" -> GZIP;
+        case "zstd" -> ZSTD;
+        default -> null;
+      };
+    }
+
+    InputStream open(InputStream in) throws IOException {
+      return switch (this) {
+        case GZIP -> new GZIPInputStream(in, BUFFER_SIZE);
+        case ZSTD -> new ZstdInputStreamNoFinalizer(in, RecyclingBufferPool.INSTANCE);
+      };
+    }
+  }
+
+  /**
+   * Decodes compressed request bodies.
+   */
+  static final class RequestDecompressionFilter extends OncePerRequestFilter {
+
+    private final long maxBytes;
+
+    RequestDecompressionFilter(long maxBytes) {
+      this.maxBytes = maxBytes;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+      String encoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+      if (encoding == null || encoding.isBlank() || "identity".equalsIgnoreCase(encoding.trim())) {
+        chain.doFilter(request, response);
+        return;
+      }
+
+      Codec codec = Codec.of(encoding);
+      if (codec == null) {
+        response.setStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+        response.setHeader("Accept-Encoding", "gzip, zstd");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"status\":\"error\",\"error\":"
+            + "\"Unsupported Content-Encoding, use gzip or zstd\"}");
+        return;
+      }
+      // Message converters read the body without closing it, and the zstd
+      // decoder only frees its native stream and pooled buffer on close
+      DecompressedRequest decompressed = new DecompressedRequest(request, codec, maxBytes);
+      try {
+        chain.doFilter(decompressed, response);
+      } finally {
+        decompressed.close();
+      }
+    }
+  }
+
+  /**
+   * Request whose body is decompressed on the fly. Content-Encoding and
+   * Content-Length no longer describe the body and are hidden.
+   */
+  private static final class DecompressedRequest extends HttpServletRequestWrapper {
+
+    private final Codec codec;
+    private final long maxBytes;
+    private ServletInputStream body;
+
+    DecompressedRequest(HttpServletRequest request, Codec codec, long maxBytes) {
+      super(request);
+      this.codec = codec;
+      this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+      if (body == null) {
+        body = new BoundedInputStream(super.getInputStream(), codec, maxBytes);
+      }
+      return body;
+    }
+
+    /**
+     * Releases the decoder, if the body was read.
+     */
+    void close() throws IOException {
+      if (body != null) {
+        body.close();
+      }
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+      String charset = getCharacterEncoding();
+      return new BufferedReader(new InputStreamReader(getInputStream(),
+          charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getContentLength() {
+      return -1;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+      return -1;
+    }
+
+    @Override
+    public String getHeader(String name) {
+      return isHidden(name) ? null : super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+      return isHidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+      List<String> names = Collections.list(super.getHeaderNames());
+      names.removeIf(DecompressedRequest::isHidden);
+      return Collections.enumeration(names);
+    }
+
+    private static boolean isHidden(String name) {
+      return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name)
+          || HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+    }
+  }
+
+  /**
+   * Decoding stream failing once more than the allowed number of bytes was
+   * read. The decoder is opened on the first read, so a non-blocking reader
+   * can register its {@link ReadListener} before any byte is consumed.
+   *
+   * <p>Decoders pull from their source and would block on a partially
+   * received body, so non-blocking reads buffer the compressed body as the
+   * container delivers it, up to the same limit, and decode it once it is
+   * complete.
+   */
+  private static final class BoundedInputStream extends ServletInputStream {
+
+    private final ServletInputStream raw;
+    private final Codec codec;
+    private final long maxBytes;
+    private InputStream source;
+    private InputStream in;
+    private long count;
+    private boolean finished;
+    private volatile boolean buffering;
+
+    BoundedInputStream(ServletInputStream raw, Codec codec, long maxBytes) {
+      this.raw = raw;
+      this.codec = codec;
+      this.maxBytes = maxBytes;
+      this.source = raw;
+    }
+
+    private InputStream decoder() throws IOException {
+      if (in == null) {
+        in = codec.open(source);
+      }
+      return in;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = decoder().read();
+      if (b < 0) {
+        finished = true;
+      } else {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = decoder().read(buffer, offset, length);
+      if (read < 0) {
+        finished = true;
+      } else {
+        count(read);
+      }
+      return read;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (in != null) {
+        in.close();
+      }
+    }
+
+    @Override
+    public boolean isFinished() {
+      return finished;
+    }
+
+    @Override
+    public boolean isReady() {
+      return !buffering;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      buffering = true;
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      byte[] chunk = new byte[BUFFER_SIZE];
+      raw.setReadListener(new ReadListener() {
+        @Override
+        public void onDataAvailable() throws IOException {
+          while (raw.isReady()) {
+            int read = raw.read(chunk);
+            if (read < 0) {
+              return;
+            }
+            compressed.write(chunk, 0, read);
+            if (compressed.size() > maxBytes) {
+              throw tooLarge();
+            }
+          }
+        }
+
+        @Override
+        public void onAllDataRead() throws IOException {
+          source = new ByteArrayInputStream(compressed.toByteArray());
+          buffering = false;
+          readListener.onDataAvailable();
+          if (finished) {
+            readListener.onAllDataRead();
+            // The filter chain returned long ago, before the decoder was opened
+            close();
+          }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+          readListener.onError(error);
+        }
+      });
+    }
+
+    private void count(int bytes) throws RequestBodyTooLargeException {
+      count += bytes;
+      if (count > maxBytes) {
+        throw tooLarge();
+      }
+    }
+
+    private RequestBodyTooLargeException tooLarge() {
+      return new RequestBodyTooLargeException(
+          "Request body exceeds " + maxBytes + " bytes once decompressed");
+    }
+  }
+}
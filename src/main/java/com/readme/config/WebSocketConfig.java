@@ -0,0 +1,58 @@
+package com.readme.config;
+
+import com.readme.controller.LivePreviewHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import org.springframework.web.socket.server.standard.ServletServerContainerFactoryBean;
+
+/**
+ * WebSocket configuration for the live preview channel.
+ * Registers {@link LivePreviewHandler} at {@code /ws/preview} and bounds the
+ * size of incoming edit messages.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+  private final LivePreviewHandler livePreviewHandler;
+  private final int maxMessageSize;
+
+  /**
+   * Constructs the WebSocket configuration.
+   *
+   * @param livePreviewHandler the live preview handler
+   * @param maxMessageSize maximum size in bytes of an incoming text message
+   */
+  public WebSocketConfig(LivePreviewHandler livePreviewHandler,
+                         @Value("${readme.preview.live.max-message-size:65536}")
+                         int maxMessageSize) {
+    this.livePreviewHandler = livePreviewHandler;
+    this.maxMessageSize = maxMessageSize;
+  }
+
+  @Override
+  public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+    registry.addHandler(livePreviewHandler, "/ws/preview").setAllowedOrigins("*");
+  }
+
+  /**
+   * Configures the servlet WebSocket container limits.
+   *
+   * @return the container factory bean
+   */
+  @Bean
+  public ServletServerContainerFactoryBean createWebSocketContainer() {
+    ServletServerContainerFactoryBean container = new ServletServerContainerFactoryBean();
+    container.setMaxTextMessageBufferSize(maxMessageSize);
+    container.setMaxSessionIdleTimeout(15 * 60 * 1000L);
+    return container;
+  }
+}
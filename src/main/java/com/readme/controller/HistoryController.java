@@ -0,0 +1,195 @@
+package com.readme.controller;
+
+import com.readme.dto.HistorySearchResponse;
+import com.readme.model.HistoryEntry;
+import com.readme.service.HistoryService;
+import com.readme.util.HistoryLog;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller exposing the generation history recorded by
+ * {@link HistoryService}. Every endpoint answers {@code 404} unless
+ * {@code readme.history.dir} is set.
+ *
+ * <ul>
+ *   <li>GET /api/history - List entries, newest first</li>
+ *   <li>GET /api/history/search - Full-text and facet search</li>
+ *   <li>GET /api/history/{id} - Entry metadata</li>
+ *   <li>GET /api/history/{id}/readme.md - Stored markdown</li>
+ * </ul>
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/history")
+public class HistoryController {
+
+  private static final int MAX_LIMIT = 500;
+  private static final int MAX_SEARCH_LIMIT = 100;
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private final HistoryService historyService;
+
+  /**
+   * Constructs the history controller.
+   *
+   * @param historyService the generation history
+   */
+  public HistoryController(HistoryService historyService) {
+    this.historyService = historyService;
+  }
+
+  /**
+   * Lists history entries, newest first.
+   *
+   * @param project only entries of this project, ignoring case
+   * @param repository only entries of this repository
+   * @param since only entries recorded at or after this ISO-8601 instant
+   * @param until only entries recorded before this ISO-8601 instant
+   * @param limit the maximum number of entries, at most 500
+   * @return the matching entries
+   * @throws IOException if the history cannot be read
+   */
+  @GetMapping
+  public ResponseEntity<List<HistoryEntry>> list(
+      @RequestParam(required = false) String project,
+      @RequestParam(required = false) String repository,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+      Instant since,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+      Instant until,
+      @RequestParam(defaultValue = "50") int limit) throws IOException {
+    if (!historyService.isEnabled()) {
+      return ResponseEntity.notFound().build();
+    }
+    int bounded = Math.max(1, Math.min(limit, MAX_LIMIT));
+    return ResponseEntity.ok(historyService.find(project, repository, since, until, bounded));
+  }
+
+  /**
+   * Searches entries by words of the markdown or project name and by
+   * request fields, returning facet counts over all matches.
+   *
+   * @param q words that must all appear
+   * @param project only entries of this project, ignoring case
+   * @param technology only entries using all these technologies
+   * @param template only entries generated with this template type or id
+   * @param license only entries with this license
+   * @param limit the maximum number of entries, at most 100
+   * @return the matching entries, newest first, with facet counts
+   * @throws IOException if the history cannot be read
+   */
+  @GetMapping("/search")
+  public ResponseEntity<HistorySearchResponse> search(
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) String project,
+      @RequestParam(required = false) List<String> technology,
+      @RequestParam(required = false) String template,
+      @RequestParam(required = false) String license,
+      @RequestParam(defaultValue = "20") int limit) throws IOException {
+    if (!historyService.isEnabled()) {
+      return ResponseEntity.notFound().build();
+    }
+    int bounded = Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+    return ResponseEntity.ok(historyService.search(q, project,
+        technology == null ? List.of() : technology, template, license, bounded));
+  }
+
+  /**
+   * Returns the metadata of an entry.
+   *
+   * @param id the entry id
+   * @return the entry, or 404 if it is unknown or no longer retained
+   * @throws IOException if the history cannot be read
+   */
+  @GetMapping("/{id}")
+  public ResponseEntity<HistoryEntry> get(@PathVariable long id) throws IOException {
+    if (!historyService.isEnabled()) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.of(historyService.get(id));
+  }
+
+  /**
+   * Serves the markdown of an entry. Clients accepting gzip get the stored
+   * payload as is, handed to the container's sendfile support when available
+   * and otherwise transferred from the log file channel, so the markdown is
+   * neither decompressed nor copied through the heap. Other clients get the
+   * decompressed markdown.
+   *
+   * @param id the entry id
+   * @param request the servlet request
+   * @param response the servlet response
+   * @throws IOException if the history cannot be read or the response written
+   */
+  @GetMapping("/{id}/readme.md")
+  public void getMarkdown(@PathVariable long id, HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+    Optional<HistoryLog.Blob> blob =
+        historyService.isEnabled() ? historyService.blob(id) : Optional.empty();
+    if (blob.isEmpty()) {
+      response.sendError(HttpStatus.NOT_FOUND.value());
+      return;
+    }
+    response.setContentType(ReadmeApiController.TEXT_MARKDOWN_VALUE);
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=86400");
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncoding == null || !acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+      Optional<String> markdown = historyService.read(id);
+      if (markdown.isEmpty()) {
+        response.sendError(HttpStatus.NOT_FOUND.value());
+        return;
+      }
+      byte[] content = markdown.get().getBytes(StandardCharsets.UTF_8);
+      response.setContentLength(content.length);
+      response.getOutputStream().write(content);
+      return;
+    }
+
+    HistoryLog.Blob payload = blob.get();
+    response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    response.setContentLength(payload.length());
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, payload.file().toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, payload.offset());
+      request.setAttribute(SENDFILE_END, payload.offset() + payload.length());
+      return;
+    }
+    try (FileChannel file = FileChannel.open(payload.file(), StandardOpenOption.READ)) {
+      WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+      long position = payload.offset();
+      long end = position + payload.length();
+      while (position < end) {
+        position += file.transferTo(position, end - position, out);
+      }
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.readme.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readme.service.LivePreviewService;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * WebSocket handler for the live preview channel at {@code /ws/preview}.
+ *
+ * <p>Clients send edits as {@code {"seq": 3, "fields": {"usage": "npm start"}}};
+ * the first message should carry the whole form. The server answers with
+ * {@code {"type": "preview", "seq", "markdown", "html"}} for the newest edit,
+ * or {@code {"type": "error", "seq", "error"}} when the form is invalid.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class LivePreviewHandler extends TextWebSocketHandler {
+
+  private static final Logger logger = LoggerFactory.getLogger(LivePreviewHandler.class);
+
+  private static final int SEND_TIME_LIMIT_MILLIS = 5_000;
+  private static final int SEND_BUFFER_LIMIT_BYTES = 512 * 1024;
+
+  private final LivePreviewService livePreviewService;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Constructs the handler.
+   *
+   * @param livePreviewService service that debounces and renders edits
+   * @param objectMapper JSON mapper for incoming messages
+   */
+  public LivePreviewHandler(LivePreviewService livePreviewService, ObjectMapper objectMapper) {
+    this.livePreviewService = livePreviewService;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void afterConnectionEstablished(WebSocketSession session) {
+    WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(
+        session, SEND_TIME_LIMIT_MILLIS, SEND_BUFFER_LIMIT_BYTES);
+    livePreviewService.open(session.getId(), payload -> send(concurrentSession, payload));
+  }
+
+  @Override
+  protected void handleTextMessage(WebSocketSession session, TextMessage message)
+      throws IOException {
+    JsonNode edit = objectMapper.readTree(message.getPayload());
+    livePreviewService.edit(session.getId(), edit.path("seq").asLong(), edit.get("fields"));
+  }
+
+  @Override
+  public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+    livePreviewService.close(session.getId());
+  }
+
+  private void send(WebSocketSession session, String payload) {
+    try {
+      session.sendMessage(new TextMessage(payload));
+    } catch (IOException | IllegalStateException e) {
+      logger.debug("Dropping live preview for closed session {}", session.getId(), e);
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package com.readme.controller;
 
+import com.readme.service.TemplateCatalog;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 /**
@@ -14,13 +16,27 @@ import org.springframework.web.bind.annotation.GetMapping;
 @Controller
 public class MainController {
 
+  private final TemplateCatalog templateCatalog;
+
+  /**
+   * Constructs the main controller.
+   *
+   * @param templateCatalog the template catalog, whose versioned URL is
+   *     passed to the page
+   */
+  public MainController(TemplateCatalog templateCatalog) {
+    this.templateCatalog = templateCatalog;
+  }
+
   /**
    * Serves the main application page.
    *
+   * @param model the view model
    * @return the name of the index template
    */
   @GetMapping("/")
-  public String index() {
+  public String index(Model model) {
+    model.addAttribute("templatesUrl", templateCatalog.getVersionedUrl());
     return "index";
   }
 
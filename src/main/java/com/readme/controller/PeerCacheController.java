@@ -0,0 +1,63 @@
+package com.readme.controller;
+
+import com.readme.dto.ReadmeRequest;
+import com.readme.dto.ReadmeSection;
+import com.readme.exception.ReadmeGenerationException;
+import com.readme.service.PeerCache;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Internal endpoint through which replicas fetch the cache entries owned by
+ * this node (see {@link PeerCache}). It answers {@code 404} unless the peer
+ * tier is configured, and {@code 403} when the shared secret does not match.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+public class PeerCacheController {
+
+  private final PeerCache peerCache;
+
+  /**
+   * Constructs the peer cache controller.
+   *
+   * @param peerCache the peer cache tier
+   */
+  public PeerCacheController(PeerCache peerCache) {
+    this.peerCache = peerCache;
+  }
+
+  /**
+   * Returns the sections of a request owned by this node, generating them on
+   * a miss. The request and response are usually Smile-encoded.
+   *
+   * @param secret the shared peer secret
+   * @param request the README generation request forwarded by a peer
+   * @return the sections in document order, or 400 if the request is invalid
+   */
+  @PostMapping(PeerCache.SECTIONS_PATH)
+  public ResponseEntity<List<ReadmeSection>> getSections(
+      @RequestHeader(name = PeerCache.SECRET_HEADER, required = false) String secret,
+      @Valid @RequestBody ReadmeRequest request) {
+    if (!peerCache.isEnabled()) {
+      return ResponseEntity.notFound().build();
+    }
+    if (!peerCache.isTrusted(secret)) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+    try {
+      return ResponseEntity.ok(peerCache.serveOwned(request));
+    } catch (ReadmeGenerationException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+}
@@ -1,30 +1,68 @@
 package com.readme.controller;
 
 import com.readme.dto.GitHubExportRequest;
+import com.readme.dto.PreviewRequest;
+import com.readme.dto.ReadmePatchRequest;
+import com.readme.dto.ReadmePatchResponse;
 import com.readme.dto.ReadmeRequest;
 import com.readme.dto.ReadmeResponse;
+import com.readme.dto.ReadmeSection;
 import com.readme.exception.GitHubExportException;
 import com.readme.exception.ReadmeGenerationException;
-import com.readme.model.TemplateType;
+import com.readme.exception.RequestBodyTooLargeException;
+import com.readme.exception.ServiceUnavailableException;
+import com.readme.model.License;
+import com.readme.model.Technology;
 import com.readme.service.GitHubService;
+import com.readme.service.HistoryService;
+import com.readme.service.MarkdownRenderService;
+import com.readme.service.PeerCache;
 import com.readme.service.ReadmeGeneratorService;
+import com.readme.service.TemplateCatalog;
+import com.readme.util.LicenseCorpus;
+import com.readme.util.TechnologyCatalog;
 import jakarta.validation.Valid;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Year;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for README generation and export operations.
@@ -32,10 +70,17 @@ import org.springframework.web.bind.annotation.RestController;
  *
  * <p>Endpoints:
  * <ul>
- *   <li>POST /api/generate - Generate README markdown</li>
+ *   <li>POST /api/generate - Generate README markdown (and HTML with render=true); with
+ *       {@code Accept: text/markdown} the raw document, with
+ *       {@code Accept: application/zip} an archive with LICENSE and CONTRIBUTING.md</li>
+ *   <li>POST /api/generate/patch - Generate only the README sections that changed</li>
+ *   <li>POST /api/preview - Render markdown to sanitized HTML</li>
  *   <li>POST /api/export - Export README to GitHub</li>
  *   <li>GET /api/validate-token - Validate GitHub token</li>
  *   <li>GET /api/templates - Get available templates and options</li>
+ *   <li>GET /api/technologies - Suggest technologies by prefix</li>
+ *   <li>GET /api/licenses - List the bundled licenses</li>
+ *   <li>GET /api/licenses/{id} - Get a full LICENSE file for a year and copyright holder</li>
  * </ul>
  *
  * @author README Generator Team
@@ -49,34 +94,84 @@ public class ReadmeApiController {
 
   private static final Logger logger = LoggerFactory.getLogger(ReadmeApiController.class);
 
+  /**
+   * Media type of raw Markdown documents.
+   */
+  public static final String TEXT_MARKDOWN_VALUE = "text/markdown";
+
+  /**
+   * Media type of zip archives.
+   */
+  public static final String APPLICATION_ZIP_VALUE = "application/zip";
+
+  private static final MediaType TEXT_MARKDOWN =
+      MediaType.parseMediaType(TEXT_MARKDOWN_VALUE + ";charset=UTF-8");
+  private static final int STREAM_BUFFER_SIZE = 8192;
+  private static final int MAX_HOLDER_LENGTH = 200;
+
   private final ReadmeGeneratorService readmeGeneratorService;
   private final GitHubService githubService;
+  private final MarkdownRenderService markdownRenderService;
+  private final TemplateCatalog templateCatalog;
+  private final PeerCache peerCache;
+  private final HistoryService historyService;
 
   /**
    * Constructs the API controller with required services.
+   * The GitHub service is injected lazily so the GitHub client stack is only
+   * loaded once an export or token validation is actually requested.
    *
    * @param readmeGeneratorService service for README generation
    * @param githubService service for GitHub operations
+   * @param markdownRenderService service for rendering markdown previews
+   * @param templateCatalog the pre-serialized template catalog
+   * @param peerCache cache tier shared with the other replicas, if configured
+   * @param historyService history recording generated and exported READMEs, if configured
    */
   public ReadmeApiController(ReadmeGeneratorService readmeGeneratorService,
-                             GitHubService githubService) {
+                             @Lazy GitHubService githubService,
+                             MarkdownRenderService markdownRenderService,
+                             TemplateCatalog templateCatalog,
+                             PeerCache peerCache,
+                             HistoryService historyService) {
     this.readmeGeneratorService = readmeGeneratorService;
     this.githubService = githubService;
+    this.markdownRenderService = markdownRenderService;
+    this.templateCatalog = templateCatalog;
+    this.peerCache = peerCache;
+    this.historyService = historyService;
   }
 
   /**
    * Generates README markdown from the provided request.
    *
+   * When {@code render} is set, the rendered HTML is returned alongside the
+   * markdown so the client needs a single round trip for the preview.
+   * Like the Markdown and zip variants, generation goes through the
+   * {@link PeerCache}, which is a pass-through unless replicas are configured.
+   *
    * @param request the README generation request
+   * @param render whether to also render the markdown to HTML
    * @return response containing the generated markdown
    */
   @PostMapping("/generate")
-  public ResponseEntity<ReadmeResponse> generateReadme(@Valid @RequestBody ReadmeRequest request) {
+  public ResponseEntity<ReadmeResponse> generateReadme(
+      @Valid @RequestBody ReadmeRequest request,
+      @RequestParam(defaultValue = "false") boolean render) {
     try {
       logger.info("Received README generation request for project: {}", 
           request.getProjectName());
 
-      String markdown = readmeGeneratorService.generateReadme(request);
+      StringBuilder readme = new StringBuilder();
+      for (ReadmeSection section : peerCache.generateSections(request)) {
+        readme.append(section.getContent());
+      }
+      String markdown = readme.toString();
+      historyService.recordGenerated(request, markdown);
+      if (render) {
+        return ResponseEntity.ok(
+            ReadmeResponse.success(markdown, markdownRenderService.render(markdown)));
+      }
       return ResponseEntity.ok(ReadmeResponse.success(markdown));
 
     } catch (ReadmeGenerationException e) {
@@ -87,92 +182,339 @@ public class ReadmeApiController {
     }
   }
 
+  /**
+   * Generates README markdown as a raw document for clients asking for
+   * {@code text/markdown}. Sections are written to the response as they are
+   * iterated, without building a JSON envelope or an intermediate string.
+   *
+   * @param request the README generation request
+   * @return streamed markdown, or a plain text error message
+   */
+  @PostMapping(value = "/generate", produces = TEXT_MARKDOWN_VALUE)
+  public ResponseEntity<StreamingResponseBody> generateMarkdown(
+      @Valid @RequestBody ReadmeRequest request) {
+    List<ReadmeSection> sections;
+    try {
+      sections = peerCache.generateSections(request);
+    } catch (ReadmeGenerationException e) {
+      logger.error("README generation failed", e);
+      return plainTextError(e.getMessage());
+    }
+    recordGenerated(request, sections);
+
+    return ResponseEntity.ok()
+        .contentType(TEXT_MARKDOWN)
+        .body(out -> {
+          Writer writer = writer(out);
+          writeSections(sections, writer);
+          writer.flush();
+        });
+  }
+
+  /**
+   * Generates a zip archive for clients asking for {@code application/zip}:
+   * README.md, plus LICENSE and CONTRIBUTING.md when the request includes
+   * those sections. Entries are compressed straight into the response stream,
+   * so the archive is never held in memory.
+   *
+   * @param request the README generation request
+   * @return the streamed archive, or a plain text error message
+   */
+  @PostMapping(value = "/generate", produces = APPLICATION_ZIP_VALUE)
+  public ResponseEntity<StreamingResponseBody> generateArchive(
+      @Valid @RequestBody ReadmeRequest request) {
+    List<ReadmeSection> sections;
+    try {
+      sections = peerCache.generateSections(request);
+    } catch (ReadmeGenerationException e) {
+      logger.error("README archive generation failed", e);
+      return plainTextError(e.getMessage());
+    }
+    recordGenerated(request, sections);
+
+    ContentDisposition disposition = ContentDisposition.attachment()
+        .filename(archiveName(request.getProjectName()))
+        .build();
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(APPLICATION_ZIP_VALUE))
+        .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+        .body(out -> {
+          ZipOutputStream zip = new ZipOutputStream(out);
+          Writer writer = writer(zip);
+
+          zip.putNextEntry(new ZipEntry("README.md"));
+          writeSections(sections, writer);
+          writer.flush();
+          zip.closeEntry();
+
+          if (request.isIncludeLicense()) {
+            writeEntry(zip, "LICENSE", readmeGeneratorService.renderLicenseFile(request));
+          }
+          if (request.isIncludeContributing()) {
+            writeEntry(zip, writer, "CONTRIBUTING.md",
+                readmeGeneratorService.generateContributingFile(request));
+          }
+          // Finish rather than close: the servlet container owns the response stream
+          zip.finish();
+          zip.flush();
+        });
+  }
+
+  /**
+   * Generates README sections, returning content only for the sections whose
+   * hash differs from the ones the client already holds.
+   *
+   * @param patchRequest the generation request and the client's known sections
+   * @return response containing all sections in order, with changed content
+   */
+  @PostMapping("/generate/patch")
+  public ResponseEntity<ReadmePatchResponse> generatePatch(
+      @Valid @RequestBody ReadmePatchRequest patchRequest) {
+    try {
+      return ResponseEntity.ok(ReadmePatchResponse.success(
+          readmeGeneratorService.generatePatch(
+              patchRequest.getRequest(), patchRequest.getKnownSections())));
+
+    } catch (ReadmeGenerationException e) {
+      logger.error("README patch generation failed", e);
+      return ResponseEntity
+          .status(HttpStatus.BAD_REQUEST)
+          .body(ReadmePatchResponse.error(e.getMessage()));
+    }
+  }
+
+  /**
+   * Renders markdown to sanitized HTML for the preview pane.
+   *
+   * @param request the preview request containing the markdown
+   * @return response containing the markdown and its rendered HTML
+   */
+  @PostMapping("/preview")
+  public ResponseEntity<ReadmeResponse> preview(@Valid @RequestBody PreviewRequest request) {
+    String markdown = request.getMarkdown();
+    return ResponseEntity.ok(
+        ReadmeResponse.success(markdown, markdownRenderService.render(markdown)));
+  }
+
   /**
    * Exports README content to a GitHub repository.
+   * The request is processed asynchronously: the servlet thread is released
+   * while the GitHub calls are in flight. When too many exports are already in
+   * progress the request is answered with {@code 503} and {@code Retry-After}.
    *
    * @param exportRequest the export request containing repository details and content
-   * @return response containing the operation result
+   * @return future response containing the operation result
    */
   @PostMapping("/export")
-  public ResponseEntity<Map<String, String>> exportToGitHub(
+  public CompletableFuture<ResponseEntity<Map<String, String>>> exportToGitHub(
       @Valid @RequestBody GitHubExportRequest exportRequest) {
-    try {
-      logger.info("Received GitHub export request for repository: {}", 
-          exportRequest.getRepositoryUrl());
-
-      String result = githubService.exportToGitHub(
-          exportRequest.getRepositoryUrl(),
-          exportRequest.getReadmeContent(),
-          exportRequest.getGithubToken()
-      );
-
-      Map<String, String> response = new HashMap<>();
-      response.put("message", result);
-      response.put("status", "success");
-
-      return ResponseEntity.ok(response);
-
-    } catch (GitHubExportException e) {
-      logger.error("GitHub export failed", e);
-      
-      Map<String, String> errorResponse = new HashMap<>();
-      errorResponse.put("error", e.getMessage());
-      errorResponse.put("status", "error");
-      
-      return ResponseEntity
-          .status(HttpStatus.INTERNAL_SERVER_ERROR)
-          .body(errorResponse);
-    }
+    logger.info("Received GitHub export request for repository: {}", 
+        exportRequest.getRepositoryUrl());
+
+    return githubService.exportToGitHubAsync(
+            exportRequest.getRepositoryUrl(),
+            exportRequest.getReadmeContent(),
+            exportRequest.getGithubToken())
+        .handle((result, error) -> {
+          if (error != null) {
+            GitHubExportException e = GitHubService.toExportException(error);
+            logger.error("GitHub export failed", e);
+
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", e.getMessage());
+            errorResponse.put("status", "error");
+
+            if (e instanceof ServiceUnavailableException unavailable) {
+              return ResponseEntity
+                  .status(HttpStatus.SERVICE_UNAVAILABLE)
+                  .header(HttpHeaders.RETRY_AFTER,
+                      Long.toString(unavailable.getRetryAfterSeconds()))
+                  .body(errorResponse);
+            }
+            return ResponseEntity
+                .status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(errorResponse);
+          }
+
+          historyService.recordExported(
+              exportRequest.getRepositoryUrl(), exportRequest.getReadmeContent());
+          Map<String, String> response = new HashMap<>();
+          response.put("message", result);
+          response.put("status", "success");
+
+          return ResponseEntity.ok(response);
+        });
   }
 
   /**
    * Validates a GitHub personal access token.
+   * While GitHub is unavailable (circuit breaker open) the request is answered
+   * with {@code 503} and {@code Retry-After} rather than reporting the token
+   * as invalid.
    *
    * @param token the token to validate
-   * @return response indicating whether the token is valid
+   * @return future response indicating whether the token is valid
    */
   @GetMapping("/validate-token")
-  public ResponseEntity<Map<String, Boolean>> validateToken(@RequestParam String token) {
-    try {
-      boolean isValid = githubService.validateToken(token);
-      Map<String, Boolean> response = new HashMap<>();
-      response.put("valid", isValid);
-      return ResponseEntity.ok(response);
-      
-    } catch (GitHubExportException e) {
-      logger.error("Token validation failed", e);
-      Map<String, Boolean> response = new HashMap<>();
-      response.put("valid", false);
-      return ResponseEntity.ok(response);
-    }
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> validateToken(
+      @RequestParam String token) {
+    return githubService.validateTokenAsync(token)
+        .handle((isValid, error) -> {
+          Map<String, Object> response = new HashMap<>();
+          if (error != null) {
+            GitHubExportException e = GitHubService.toExportException(error);
+            logger.error("Token validation failed", e);
+            if (e instanceof ServiceUnavailableException unavailable) {
+              response.put("valid", false);
+              response.put("error", e.getMessage());
+              response.put("status", "error");
+              return ResponseEntity
+                  .status(HttpStatus.SERVICE_UNAVAILABLE)
+                  .header(HttpHeaders.RETRY_AFTER,
+                      Long.toString(unavailable.getRetryAfterSeconds()))
+                  .body(response);
+            }
+          }
+          response.put("valid", error == null && isValid);
+          return ResponseEntity.ok(response);
+        });
   }
 
   /**
    * Retrieves available templates, technologies, and licenses.
+   * The catalog is pre-serialized; it carries a strong ETag so unchanged
+   * catalogs are answered with 304. Requests for the current versioned URL
+   * ({@code ?v=<version>}) may be cached indefinitely.
    *
-   * @return response containing all available options
+   * @param version the catalog version requested by the client, if any
+   * @return response containing the serialized catalog
    */
   @GetMapping("/templates")
-  public ResponseEntity<Map<String, Object>> getTemplates() {
-    Map<String, Object> templates = new HashMap<>();
+  public ResponseEntity<byte[]> getTemplates(@RequestParam(name = "v", required = false)
+                                             String version) {
+    TemplateCatalog.Snapshot catalog = templateCatalog.current();
+    CacheControl cacheControl = catalog.version().equals(version)
+        ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+        : CacheControl.noCache();
 
-    String[] types = new String[TemplateType.values().length];
-    for (int i = 0; i < TemplateType.values().length; i++) {
-      types[i] = TemplateType.values()[i].name();
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(catalog.version())
+        .cacheControl(cacheControl)
+        .body(catalog.body());
+  }
+
+  /**
+   * Suggests technologies whose name or alias starts with a prefix, ranked by
+   * popularity.
+   *
+   * @param prefix the typed prefix; empty for the most popular technologies
+   * @param limit the maximum number of suggestions
+   * @return the ranked suggestions with their badge colors and logos
+   */
+  @GetMapping("/technologies")
+  public ResponseEntity<List<Technology>> suggestTechnologies(
+      @RequestParam(defaultValue = "") String prefix,
+      @RequestParam(defaultValue = "10") int limit) {
+    int boundedLimit = Math.max(0, Math.min(limit, TechnologyCatalog.MAX_SUGGESTIONS));
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+        .body(TechnologyCatalog.getDefault().suggest(prefix, boundedLimit));
+  }
+
+  /**
+   * Lists the licenses whose full text can be generated.
+   *
+   * @return the bundled licenses with their SPDX identifiers and names
+   */
+  @GetMapping("/licenses")
+  public ResponseEntity<List<License>> getLicenses() {
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+        .body(LicenseCorpus.getDefault().licenses());
+  }
+
+  /**
+   * Returns a full LICENSE file with the year and copyright holder
+   * substituted, streamed from the memory-mapped license corpus.
+   *
+   * @param id the SPDX identifier or an alias, ignoring case
+   * @param holder the copyright holder
+   * @param year the copyright year; defaults to the current year
+   * @return the LICENSE file as plain text, or 404 for licenses not bundled
+   */
+  @GetMapping("/licenses/{id}")
+  public ResponseEntity<StreamingResponseBody> getLicense(
+      @PathVariable String id,
+      @RequestParam String holder,
+      @RequestParam(required = false) Integer year) {
+    if (holder.isBlank() || holder.length() > MAX_HOLDER_LENGTH) {
+      return plainTextError("holder must be 1 to " + MAX_HOLDER_LENGTH + " characters");
+    }
+    LicenseCorpus corpus = LicenseCorpus.getDefault();
+    Optional<License> license = corpus.find(id);
+    if (license.isEmpty()) {
+      return ResponseEntity.notFound().build();
     }
-    templates.put("types", types);
 
-    templates.put("technologies", new String[]{
-        "Java", "Spring Boot", "JavaScript", "React", "Vue", "Angular",
-        "Python", "Django", "Flask", "Node.js", "Express", "TypeScript",
-        "Go", "Rust", "PHP", "Laravel", "Ruby", "Rails", "C#", ".NET"
-    });
+    ByteBuffer text = corpus.render(license.get(),
+        year != null ? year : Year.now().getValue(), holder.strip());
+    return ResponseEntity.ok()
+        .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+        .contentLength(text.remaining())
+        .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+        .body(out -> Channels.newChannel(out).write(text));
+  }
 
-    templates.put("licenses", new String[]{
-        "MIT", "Apache-2.0", "GPL-3.0", "BSD-3-Clause", "ISC"
-    });
+  private void recordGenerated(ReadmeRequest request, List<ReadmeSection> sections) {
+    if (historyService.isEnabled()) {
+      StringBuilder readme = new StringBuilder();
+      for (ReadmeSection section : sections) {
+        readme.append(section.getContent());
+      }
+      historyService.recordGenerated(request, readme.toString());
+    }
+  }
+
+  private static Writer writer(OutputStream out) {
+    return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+        STREAM_BUFFER_SIZE);
+  }
+
+  private static void writeSections(List<ReadmeSection> sections, Writer writer)
+      throws IOException {
+    for (ReadmeSection section : sections) {
+      writer.write(section.getContent());
+    }
+  }
+
+  private static void writeEntry(ZipOutputStream zip, Writer writer, String name,
+                                 String content) throws IOException {
+    zip.putNextEntry(new ZipEntry(name));
+    writer.write(content);
+    writer.flush();
+    zip.closeEntry();
+  }
+
+  private static void writeEntry(ZipOutputStream zip, String name, ByteBuffer content)
+      throws IOException {
+    zip.putNextEntry(new ZipEntry(name));
+    Channels.newChannel(zip).write(content);
+    zip.closeEntry();
+  }
 
-    return ResponseEntity.ok(templates);
+  private static String archiveName(String projectName) {
+    String slug = projectName.toLowerCase(Locale.ROOT)
+        .replaceAll("[^a-z0-9]+", "-")
+        .replaceAll("^-|-$", "");
+    return (slug.isEmpty() ? "readme" : slug) + ".zip";
+  }
+
+  private static ResponseEntity<StreamingResponseBody> plainTextError(String message) {
+    byte[] body = message.getBytes(StandardCharsets.UTF_8);
+    return ResponseEntity.badRequest()
+        .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+        .body(out -> out.write(body));
   }
 
   /**
@@ -198,4 +540,27 @@ public class ReadmeApiController {
 
     return ResponseEntity.badRequest().body(response);
   }
+
+  /**
+   * Handles request bodies that cannot be read: malformed documents, corrupt
+   * compressed streams, or bodies over the decompressed size limit.
+   *
+   * @param ex the read failure
+   * @return 413 when the body is too large, 400 otherwise
+   */
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<Map<String, Object>> handleUnreadableBody(
+      HttpMessageNotReadableException ex) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("status", "error");
+
+    Throwable tooLarge = ExceptionUtils.throwableOfType(ex, RequestBodyTooLargeException.class);
+    if (tooLarge != null) {
+      response.put("error", tooLarge.getMessage());
+      return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+    logger.debug("Unreadable request body", ex);
+    response.put("error", "Malformed request body");
+    return ResponseEntity.badRequest().body(response);
+  }
 }
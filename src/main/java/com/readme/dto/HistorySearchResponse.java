@@ -0,0 +1,44 @@
+package com.readme.dto;
+
+import com.readme.model.HistoryEntry;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for generation history search results.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistorySearchResponse {
+
+  /**
+   * Number of entries matching the query.
+   */
+  private int total;
+
+  /**
+   * Matching entries, newest first, up to the requested limit.
+   */
+  private List<HistoryEntry> entries;
+
+  /**
+   * Counts of the matching entries by facet ({@code technology},
+   * {@code template}, {@code license}) and value.
+   */
+  private Map<String, Map<String, Integer>> facets;
+
+  /**
+   * Time spent answering the query, in milliseconds.
+   */
+  private long tookMillis;
+}
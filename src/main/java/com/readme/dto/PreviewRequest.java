@@ -0,0 +1,30 @@
+package com.readme.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for Markdown preview requests.
+ * Contains the markdown to render to HTML.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PreviewRequest {
+
+  /**
+   * The markdown content to render.
+   */
+  @NotBlank(message = "Markdown content is required")
+  @Size(max = 200000, message = "Markdown content must not exceed 200000 characters")
+  private String markdown;
+}
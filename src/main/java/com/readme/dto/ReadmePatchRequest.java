@@ -0,0 +1,39 @@
+package com.readme.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for incremental README generation requests.
+ * Carries the full generation request and the sections the client already
+ * holds, so only changed sections are sent back.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadmePatchRequest {
+
+  /**
+   * The README generation request.
+   */
+  @Valid
+  @NotNull(message = "Request is required")
+  private ReadmeRequest request;
+
+  /**
+   * Section hashes known to the client, keyed by section id.
+   */
+  @Builder.Default
+  private Map<String, String> knownSections = new HashMap<>();
+}
@@ -0,0 +1,64 @@
+package com.readme.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for incremental README generation responses.
+ * Lists every section of the README in order; sections the client already
+ * holds are sent without content.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadmePatchResponse {
+
+  /**
+   * The README sections in document order.
+   */
+  private List<ReadmeSection> sections;
+
+  /**
+   * Status of the generation operation (e.g., "success", "error").
+   */
+  private String status;
+
+  /**
+   * Optional error message if the operation failed.
+   */
+  private String error;
+
+  /**
+   * Creates a successful response with the given sections.
+   *
+   * @param sections the README sections
+   * @return a successful ReadmePatchResponse
+   */
+  public static ReadmePatchResponse success(List<ReadmeSection> sections) {
+    return ReadmePatchResponse.builder()
+        .sections(sections)
+        .status("success")
+        .build();
+  }
+
+  /**
+   * Creates an error response with an error message.
+   *
+   * @param errorMessage the error message
+   * @return an error ReadmePatchResponse
+   */
+  public static ReadmePatchResponse error(String errorMessage) {
+    return ReadmePatchResponse.builder()
+        .status("error")
+        .error(errorMessage)
+        .build();
+  }
+}
@@ -57,6 +57,17 @@ public class ReadmeRequest {
    */
   private TemplateType templateType;
 
+  /**
+   * Identifier of a user-defined template from the template directory.
+   * When set, the README is rendered by that template instead of the
+   * built-in layout.
+   */
+  @Pattern(
+      regexp = "^([a-z0-9][a-z0-9-]{0,63})?$",
+      message = "Template id must contain only lowercase letters, digits and dashes"
+  )
+  private String templateId;
+
   /**
    * List of technologies/frameworks used in the project.
    * Used for generating technology badges and tech stack section.
@@ -147,8 +158,12 @@ public class ReadmeRequest {
   private boolean includeScreenshots = false;
 
   /**
-   * Custom sections in JSON or structured format.
-   * Allows users to add additional custom sections to the README.
+   * Custom sections as JSON, either an array of
+   * {@code {"title": "...", "content": "..."}} objects or an object mapping
+   * titles to Markdown content. Rendered before the Contributing section and
+   * listed in the table of contents. The generator also bounds the UTF-8
+   * size with {@code readme.custom-sections.max-bytes}.
    */
+  @Size(max = 65536, message = "Custom sections must not exceed 65536 characters")
   private String customSections;
 }
@@ -24,6 +24,11 @@ public class ReadmeResponse {
    */
   private String markdown;
 
+  /**
+   * The README rendered to sanitized HTML, when rendering was requested.
+   */
+  private String html;
+
   /**
    * Status of the generation operation (e.g., "success", "error").
    */
@@ -47,6 +52,22 @@ public class ReadmeResponse {
         .build();
   }
 
+  /**
+   * Creates a successful response with the generated markdown and its
+   * rendered HTML.
+   *
+   * @param markdown the generated README markdown
+   * @param html the rendered HTML
+   * @return a successful ReadmeResponse
+   */
+  public static ReadmeResponse success(String markdown, String html) {
+    return ReadmeResponse.builder()
+        .markdown(markdown)
+        .html(html)
+        .status("success")
+        .build();
+  }
+
   /**
    * Creates an error response with an error message.
    *
@@ -0,0 +1,37 @@
+package com.readme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one generated README section.
+ * The hash identifies the section content, so clients can tell the server
+ * which sections they already hold.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadmeSection {
+
+  /**
+   * Stable section identifier (e.g., "header", "features").
+   */
+  private String id;
+
+  /**
+   * Hash of the section content.
+   */
+  private String hash;
+
+  /**
+   * The section markdown; omitted in patches when the client already has it.
+   */
+  private String content;
+}
@@ -0,0 +1,47 @@
+package com.readme.exception;
+
+/**
+ * Exception thrown when the GitHub REST API answers with an error status.
+ * Carries the HTTP status code so callers can tell client errors
+ * (bad token, missing repository) from GitHub-side failures.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GitHubApiException extends GitHubExportException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int statusCode;
+
+  /**
+   * Constructs a new exception with the specified detail message and status code.
+   *
+   * @param message the detail message
+   * @param statusCode the HTTP status code returned by GitHub
+   */
+  public GitHubApiException(String message, int statusCode) {
+    super(message);
+    this.statusCode = statusCode;
+  }
+
+  /**
+   * Gets the HTTP status code returned by GitHub.
+   *
+   * @return the status code
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * Indicates whether the failure is on GitHub's side (5xx) rather than caused
+   * by the request itself.
+   *
+   * @return true for server errors
+   */
+  public boolean isServerError() {
+    return statusCode >= 500;
+  }
+}
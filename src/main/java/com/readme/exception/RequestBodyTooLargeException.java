@@ -0,0 +1,26 @@
+package com.readme.exception;
+
+import java.io.IOException;
+
+/**
+ * Exception thrown while reading a request body that exceeds the allowed
+ * size once decompressed. It is an {@link IOException} so it can be raised
+ * from the body stream itself, in the middle of parsing.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RequestBodyTooLargeException extends IOException {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Constructs a new exception with the specified detail message.
+   *
+   * @param message the detail message
+   */
+  public RequestBodyTooLargeException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,38 @@
+package com.readme.exception;
+
+/**
+ * Exception thrown when a GitHub operation is refused locally to protect the
+ * service or GitHub, for instance because too many exports are already in
+ * progress. Carries a suggested retry delay for the {@code Retry-After}
+ * header.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ServiceUnavailableException extends GitHubExportException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final long retryAfterSeconds;
+
+  /**
+   * Constructs a new exception with the specified detail message and retry delay.
+   *
+   * @param message the detail message
+   * @param retryAfterSeconds suggested delay before retrying, in seconds
+   */
+  public ServiceUnavailableException(String message, long retryAfterSeconds) {
+    super(message);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+
+  /**
+   * Gets the suggested delay before retrying.
+   *
+   * @return the retry delay in seconds
+   */
+  public long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+}
@@ -0,0 +1,36 @@
+package com.readme.exception;
+
+/**
+ * Exception thrown when a user-defined template cannot be parsed or compiled.
+ * Carries the line of the offending tag so operators can fix the file.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class TemplateCompilationException extends Exception {
+
+  private static final long serialVersionUID = 1L;
+
+  private final int line;
+
+  /**
+   * Constructs a new exception with the specified detail message and line.
+   *
+   * @param message the detail message
+   * @param line the 1-based template line of the error
+   */
+  public TemplateCompilationException(String message, int line) {
+    super(message + " (line " + line + ")");
+    this.line = line;
+  }
+
+  /**
+   * Gets the template line of the error.
+   *
+   * @return the 1-based line number
+   */
+  public int getLine() {
+    return line;
+  }
+}
@@ -0,0 +1,57 @@
+package com.readme.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A README recorded in the generation history.
+ *
+ * @param id the entry id, increasing in recording order
+ * @param timestamp when the README was generated or exported
+ * @param kind whether the README was generated or exported
+ * @param projectName the project name
+ * @param repository the repository URL or path, if any
+ * @param labels the request fields the README was generated from
+ * @param contentHash the SHA-256 of the markdown
+ * @param size the markdown size in UTF-8 bytes
+ * @param storedSize the compressed size on disk, shared by entries with the same content
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record HistoryEntry(long id, Instant timestamp, Kind kind, String projectName,
+                           String repository, Labels labels, String contentHash, int size,
+                           int storedSize) {
+
+  /**
+   * How the README was produced.
+   */
+  public enum Kind {
+    /** Generated through {@code /api/generate}. */
+    GENERATED,
+    /** Exported to GitHub through {@code /api/export}. */
+    EXPORTED
+  }
+
+  /**
+   * Request fields recorded with a README, used as search facets.
+   *
+   * @param template the template type or user-defined template id, if known
+   * @param license the license, if any
+   * @param technologies the technologies, in request order
+   */
+  public record Labels(String template, String license, List<String> technologies) {
+
+    /**
+     * Labels of a README whose request is not known, such as an export.
+     */
+    public static final Labels NONE = new Labels(null, null, List.of());
+
+    /**
+     * Creates labels, copying the technologies.
+     */
+    public Labels {
+      technologies = technologies == null ? List.of() : List.copyOf(technologies);
+    }
+  }
+}
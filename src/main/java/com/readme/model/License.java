@@ -0,0 +1,16 @@
+package com.readme.model;
+
+import java.util.List;
+
+/**
+ * A license whose full text is bundled in the license corpus.
+ *
+ * @param id the SPDX identifier (e.g., "Apache-2.0")
+ * @param name the full license name (e.g., "Apache License 2.0")
+ * @param aliases alternative identifiers that resolve to this license
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record License(String id, String name, List<String> aliases) {
+}
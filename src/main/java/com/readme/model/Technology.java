@@ -0,0 +1,17 @@
+package com.readme.model;
+
+import java.util.List;
+
+/**
+ * A technology known to the catalog, with the data needed to render its badge.
+ *
+ * @param name the display name (e.g., "Node.js")
+ * @param slug the simple-icons logo slug used by shields.io (e.g., "nodedotjs")
+ * @param color the brand color as six hex digits, without '#'
+ * @param aliases alternative names that resolve to this technology
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record Technology(String name, String slug, String color, List<String> aliases) {
+}
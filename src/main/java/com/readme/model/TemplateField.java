@@ -0,0 +1,149 @@
+package com.readme.model;
+
+import com.readme.dto.ReadmeRequest;
+import com.readme.util.BadgeGenerator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Enumeration of the request values a user-defined template may reference.
+ * Each field reads its value through a method reference bound at compile
+ * time, so rendering a template never goes through reflection.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TemplateField {
+  PROJECT_NAME("projectName", Kind.TEXT, ReadmeRequest::getProjectName),
+  TAGLINE("tagline", Kind.TEXT, ReadmeRequest::getTagline),
+  DESCRIPTION("description", Kind.TEXT, ReadmeRequest::getDescription),
+  TEMPLATE_TYPE("templateType", Kind.TEXT, request -> request.getTemplateType() != null
+      ? request.getTemplateType().getDisplayName() : null),
+  FEATURES("features", Kind.TEXT, ReadmeRequest::getFeatures),
+  FEATURE_LIST("featureList", Kind.LIST, request -> lines(request.getFeatures())),
+  TECHNOLOGIES("technologies", Kind.LIST, request -> request.getTechnologies() != null
+      ? request.getTechnologies() : List.of()),
+  TECHNOLOGY_BADGES("technologyBadges", Kind.LIST, request -> request.getTechnologies() != null
+      ? request.getTechnologies().stream().map(BadgeGenerator::generateTechnologyBadge).toList()
+      : List.of()),
+  INSTALLATION("installation", Kind.TEXT, ReadmeRequest::getInstallation),
+  USAGE("usage", Kind.TEXT, ReadmeRequest::getUsage),
+  LICENSE("license", Kind.TEXT, ReadmeRequest::getLicense),
+  AUTHOR("author", Kind.TEXT, ReadmeRequest::getAuthor),
+  REPOSITORY_URL("repositoryUrl", Kind.TEXT, ReadmeRequest::getRepositoryUrl),
+  REPO_PATH("repoPath", Kind.TEXT,
+      request -> BadgeGenerator.extractRepoPath(request.getRepositoryUrl())),
+  DEMO_URL("demoUrl", Kind.TEXT, ReadmeRequest::getDemoUrl),
+  INCLUDE_BADGES("includeBadges", Kind.FLAG, ReadmeRequest::isIncludeBadges),
+  INCLUDE_TABLE_OF_CONTENTS("includeTableOfContents", Kind.FLAG,
+      ReadmeRequest::isIncludeTableOfContents),
+  INCLUDE_CONTRIBUTING("includeContributing", Kind.FLAG, ReadmeRequest::isIncludeContributing),
+  INCLUDE_LICENSE("includeLicense", Kind.FLAG, ReadmeRequest::isIncludeLicense),
+  INCLUDE_SCREENSHOTS("includeScreenshots", Kind.FLAG, ReadmeRequest::isIncludeScreenshots);
+
+  private static final Map<String, TemplateField> BY_KEY = Arrays.stream(values())
+      .collect(Collectors.toUnmodifiableMap(TemplateField::getKey, Function.identity()));
+
+  private final String key;
+  private final Kind kind;
+  private final Function<ReadmeRequest, Object> accessor;
+
+  /**
+   * Constructor for TemplateField.
+   *
+   * @param key the name used in templates
+   * @param kind the shape of the value
+   * @param accessor reads the value from a request
+   */
+  TemplateField(String key, Kind kind, Function<ReadmeRequest, Object> accessor) {
+    this.key = key;
+    this.kind = kind;
+    this.accessor = accessor;
+  }
+
+  /**
+   * Gets the name used to reference this field in templates.
+   *
+   * @return the template key
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the shape of the field value.
+   *
+   * @return the value kind
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * Reads a text field.
+   *
+   * @param request the README request
+   * @return the value, possibly null
+   */
+  public String text(ReadmeRequest request) {
+    return (String) accessor.apply(request);
+  }
+
+  /**
+   * Reads a list field.
+   *
+   * @param request the README request
+   * @return the values, never null
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> list(ReadmeRequest request) {
+    return (List<String>) accessor.apply(request);
+  }
+
+  /**
+   * Reads a flag field.
+   *
+   * @param request the README request
+   * @return the flag value
+   */
+  public boolean flag(ReadmeRequest request) {
+    return (Boolean) accessor.apply(request);
+  }
+
+  /**
+   * Looks up a field by its template key.
+   *
+   * @param key the template key
+   * @return the field, or null if unknown
+   */
+  public static TemplateField fromKey(String key) {
+    return BY_KEY.get(key);
+  }
+
+  private static List<String> lines(String text) {
+    if (StringUtils.isBlank(text)) {
+      return List.of();
+    }
+    return Arrays.stream(text.split("\\r?\\n"))
+        .map(line -> StringUtils.removeStart(line.strip(), "- ").strip())
+        .filter(StringUtils::isNotEmpty)
+        .toList();
+  }
+
+  /**
+   * Shape of a template field value.
+   */
+  public enum Kind {
+    /** A string, truthy when not blank. */
+    TEXT,
+    /** A list of strings, truthy when not empty; sections iterate over it. */
+    LIST,
+    /** A boolean option. */
+    FLAG
+  }
+}
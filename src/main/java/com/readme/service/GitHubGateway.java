@@ -0,0 +1,344 @@
+package com.readme.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.readme.exception.GitHubApiException;
+import com.readme.exception.GitHubExportException;
+import com.readme.exception.ServiceUnavailableException;
+import com.readme.util.CircuitBreaker;
+import com.readme.util.HedgePolicy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Non-blocking client for the GitHub REST API.
+ * Built on {@link HttpClient} with HTTP/2, so concurrent calls to
+ * {@code api.github.com} are multiplexed over a single connection.
+ *
+ * <p>The API base URL is configurable through {@code github.api-url}, which lets
+ * the application run against GitHub Enterprise or a local stand-in server.
+ *
+ * <p>Every operation returns a {@link CompletableFuture}. Failures complete the
+ * future exceptionally with a {@link GitHubExportException} (a
+ * {@link GitHubApiException} when GitHub answered with an error status) or an
+ * {@link IOException} for transport errors.
+ *
+ * <p>All calls go through a {@link CircuitBreaker}. Transport errors and 5xx
+ * responses count as failures; client errors do not, since they say nothing
+ * about GitHub's health. While the circuit is open, calls fail immediately
+ * with a {@link ServiceUnavailableException} instead of waiting for the
+ * connection and request timeouts.
+ *
+ * <p>The reads of the export path ({@link #getRepository} and
+ * {@link #getContent}) are hedged according to a {@link HedgePolicy}: when a
+ * read has not answered within the policy's latency percentile, an identical
+ * request is sent and the first successful response wins; a server error
+ * only settles the read once no other request is pending. The slower request
+ * is left to complete so the circuit breaker still records its outcome.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class GitHubGateway {
+
+  private static final Logger logger = LoggerFactory.getLogger(GitHubGateway.class);
+
+  private static final String ACCEPT = "application/vnd.github+json";
+  private static final String API_VERSION = "2022-11-28";
+  private static final String USER_AGENT = "readme-generator";
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final String apiUrl;
+  private final CircuitBreaker circuitBreaker;
+  private final HedgePolicy hedgePolicy;
+
+  /**
+   * Reference to a file stored in a repository.
+   *
+   * @param path the file path within the repository
+   * @param sha the blob SHA, required to update the file
+   */
+  public record ContentRef(String path, String sha) {
+  }
+
+  /**
+   * Constructs the gateway with an HTTP/2 client, a default circuit breaker
+   * and no hedging.
+   *
+   * @param objectMapper mapper used to read and write GitHub JSON payloads
+   * @param apiUrl base URL of the GitHub REST API, e.g. a local stub in tests
+   */
+  public GitHubGateway(ObjectMapper objectMapper, String apiUrl) {
+    this(objectMapper, apiUrl, new CircuitBreaker(20, 10, 50, 80, Duration.ofSeconds(5),
+        Duration.ofSeconds(30), 3), HedgePolicy.disabled());
+  }
+
+  /**
+   * Constructs the gateway with an HTTP/2 client.
+   *
+   * @param objectMapper mapper used to read and write GitHub JSON payloads
+   * @param apiUrl base URL of the GitHub REST API, e.g. a local stub in tests
+   * @param circuitBreaker breaker guarding all GitHub calls
+   * @param hedgePolicy policy for hedging idempotent reads
+   */
+  @Autowired
+  public GitHubGateway(ObjectMapper objectMapper,
+                       @Value("${github.api-url:https://api.github.com}") String apiUrl,
+                       CircuitBreaker circuitBreaker,
+                       HedgePolicy hedgePolicy) {
+    this.objectMapper = objectMapper;
+    this.circuitBreaker = circuitBreaker;
+    this.hedgePolicy = hedgePolicy;
+    this.apiUrl = apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .connectTimeout(CONNECT_TIMEOUT)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+  }
+
+  /**
+   * Fetches repository metadata.
+   *
+   * @param repoPath the repository path (owner/repo)
+   * @param token the authentication token
+   * @return future completing with the repository JSON
+   */
+  public CompletableFuture<JsonNode> getRepository(String repoPath, String token) {
+    logger.debug("Accessing repository: {}", repoPath);
+    return sendHedged(get("/repos/" + repoPath, token))
+        .thenApply(response -> {
+          if (response.statusCode() != 200) {
+            throw failure(response, "Unable to access repository. Check that the repository "
+                + "exists and your token has the required permissions.");
+          }
+          return readJson(response.body());
+        });
+  }
+
+  /**
+   * Looks up a file in the repository's default branch.
+   *
+   * @param repoPath the repository path (owner/repo)
+   * @param path the file path within the repository
+   * @param token the authentication token
+   * @return future completing with the file reference, or empty if the file does not exist
+   */
+  public CompletableFuture<Optional<ContentRef>> getContent(String repoPath, String path,
+                                                            String token) {
+    return sendHedged(get("/repos/" + repoPath + "/contents/" + path, token))
+        .thenApply(response -> {
+          if (response.statusCode() == 404) {
+            return Optional.<ContentRef>empty();
+          }
+          if (response.statusCode() != 200) {
+            throw failure(response, "Unable to read " + path);
+          }
+          JsonNode json = readJson(response.body());
+          return Optional.of(new ContentRef(json.path("path").asText(path),
+              json.path("sha").asText()));
+        });
+  }
+
+  /**
+   * Creates or updates a file in the repository's default branch.
+   *
+   * @param repoPath the repository path (owner/repo)
+   * @param path the file path within the repository
+   * @param content the new file content
+   * @param message the commit message
+   * @param sha the SHA of the file being replaced, or null to create it
+   * @param token the authentication token
+   * @return future completing when the commit has been created
+   */
+  public CompletableFuture<Void> putContent(String repoPath, String path, String content,
+                                            String message, String sha, String token) {
+    ObjectNode body = objectMapper.createObjectNode()
+        .put("message", message)
+        .put("content", Base64.getEncoder().encodeToString(
+            content.getBytes(StandardCharsets.UTF_8)));
+    if (sha != null) {
+      body.put("sha", sha);
+    }
+
+    HttpRequest request = authorized(URI.create(apiUrl + "/repos/" + repoPath
+        + "/contents/" + path), token)
+        .header("Content-Type", "application/json")
+        .PUT(HttpRequest.BodyPublishers.ofByteArray(writeJson(body)))
+        .build();
+
+    return send(request)
+        .thenAccept(response -> {
+          if (response.statusCode() != 200 && response.statusCode() != 201) {
+            throw failure(response, "Unable to write " + path);
+          }
+        });
+  }
+
+  /**
+   * Checks whether a token is accepted by GitHub.
+   *
+   * @param token the token to check
+   * @return future completing with true if the token authenticates a user
+   */
+  public CompletableFuture<Boolean> isCredentialValid(String token) {
+    return send(get("/user", token))
+        .thenApply(response -> {
+          if (response.statusCode() == 200) {
+            return true;
+          }
+          if (response.statusCode() == 401 || response.statusCode() == 403) {
+            return false;
+          }
+          throw failure(response, "Unable to verify token");
+        });
+  }
+
+  private HttpRequest get(String path, String token) {
+    return authorized(URI.create(apiUrl + path), token).GET().build();
+  }
+
+  private HttpRequest.Builder authorized(URI uri, String token) {
+    return HttpRequest.newBuilder(uri)
+        .timeout(REQUEST_TIMEOUT)
+        .header("Accept", ACCEPT)
+        .header("X-GitHub-Api-Version", API_VERSION)
+        .header("User-Agent", USER_AGENT)
+        .header("Authorization", "Bearer " + token);
+  }
+
+  private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request) {
+    CircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+    if (permit == null) {
+      long retryAfter = Math.max(1,
+          TimeUnit.NANOSECONDS.toSeconds(circuitBreaker.getRetryAfterNanos() - 1) + 1);
+      return CompletableFuture.failedFuture(new ServiceUnavailableException(
+          "GitHub is currently unavailable, retry in " + retryAfter + "s", retryAfter));
+    }
+
+    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+        .whenComplete((response, error) -> {
+          if (error != null || response.statusCode() >= 500) {
+            permit.failure();
+          } else {
+            permit.success();
+          }
+        })
+        .thenApply(response -> {
+          if (isRateLimited(response)) {
+            String reset = response.headers().firstValue("X-RateLimit-Reset").orElse("unknown");
+            throw failure(response, "GitHub API rate limit exceeded, resets at " + reset);
+          }
+          return response;
+        });
+  }
+
+  /**
+   * Sends an idempotent request, duplicating it if it is slower than the
+   * hedge delay and the hedge budget allows.
+   */
+  private CompletableFuture<HttpResponse<byte[]>> sendHedged(HttpRequest request) {
+    if (!hedgePolicy.isEnabled()) {
+      return send(request);
+    }
+    hedgePolicy.onRead();
+
+    CompletableFuture<HttpResponse<byte[]>> result = new CompletableFuture<>();
+    AtomicInteger outstanding = new AtomicInteger(1);
+    long start = System.nanoTime();
+    send(request).whenComplete((response, error) -> {
+      if (!isFailure(response, error)) {
+        hedgePolicy.recordLatency(System.nanoTime() - start);
+      }
+      settle(result, outstanding, response, error, false);
+    });
+
+    CompletableFuture.delayedExecutor(hedgePolicy.getDelayNanos(), TimeUnit.NANOSECONDS)
+        .execute(() -> {
+          if (result.isDone() || !hedgePolicy.tryHedge()) {
+            return;
+          }
+          // The original may have failed meanwhile; never revive a settled result
+          if (outstanding.getAndUpdate(n -> n <= 0 ? n : n + 1) <= 0) {
+            return;
+          }
+          logger.debug("Hedging slow GitHub read: {}", request.uri());
+          send(request).whenComplete((response, error) ->
+              settle(result, outstanding, response, error, true));
+        });
+    return result;
+  }
+
+  private void settle(CompletableFuture<HttpResponse<byte[]>> result, AtomicInteger outstanding,
+                      HttpResponse<byte[]> response, Throwable error, boolean hedge) {
+    if (!isFailure(response, error)) {
+      // Claim the result first so a win is counted before callers observe it
+      if (outstanding.getAndSet(0) > 0) {
+        if (hedge) {
+          hedgePolicy.onHedgeWon();
+        }
+        result.complete(response);
+      }
+    } else if (outstanding.decrementAndGet() == 0) {
+      // Every attempt failed: a 5xx response is left for the caller to report
+      if (error != null) {
+        result.completeExceptionally(error);
+      } else {
+        result.complete(response);
+      }
+    }
+  }
+
+  private static boolean isFailure(HttpResponse<byte[]> response, Throwable error) {
+    return error != null || response.statusCode() >= 500;
+  }
+
+  private boolean isRateLimited(HttpResponse<byte[]> response) {
+    return (response.statusCode() == 403 || response.statusCode() == 429)
+        && "0".equals(response.headers().firstValue("X-RateLimit-Remaining").orElse(null));
+  }
+
+  private JsonNode readJson(byte[] body) {
+    try {
+      return objectMapper.readTree(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Malformed response from GitHub", e);
+    }
+  }
+
+  private byte[] writeJson(JsonNode node) {
+    try {
+      return objectMapper.writeValueAsBytes(node);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private CompletionException failure(HttpResponse<byte[]> response, String message) {
+    String detail = message + " (HTTP " + response.statusCode() + ")";
+    return new CompletionException(new GitHubApiException(detail, response.statusCode()));
+  }
+}
@@ -1,14 +1,22 @@
 package com.readme.service;
 
+import com.readme.exception.GitHubApiException;
 import com.readme.exception.GitHubExportException;
+import com.readme.exception.ServiceUnavailableException;
+import com.readme.util.AdaptiveConcurrencyLimiter;
 import com.readme.util.BadgeGenerator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
-import org.kohsuke.github.GHContent;
-import org.kohsuke.github.GHRepository;
-import org.kohsuke.github.GitHub;
-import org.kohsuke.github.GitHubBuilder;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -24,6 +32,16 @@ import org.springframework.stereotype.Service;
  *   <li>Repository access verification</li>
  * </ul>
  *
+ * <p>Operations are built as non-blocking pipelines on {@link GitHubGateway}.
+ * The {@code *Async} methods return futures that complete exceptionally with a
+ * {@link GitHubExportException}; the blocking variants wait for them.
+ *
+ * <p>Exports run under an {@link AdaptiveConcurrencyLimiter} whose limit
+ * follows GitHub's observed latency ({@code readme.export.concurrency.*}).
+ * Exports beyond the limit fail immediately with a
+ * {@link ServiceUnavailableException} instead of piling up behind a slow
+ * GitHub.
+ *
  * @author README Generator Team
  * @version 1.0.0
  * @since 1.0.0
@@ -36,9 +54,54 @@ public class GitHubService {
   private static final String COMMIT_MESSAGE_CREATE = "Create README.md via README Generator";
   private static final String COMMIT_MESSAGE_UPDATE = "Update README.md via README Generator";
 
+  private static final long EXPORT_RETRY_AFTER_SECONDS = 1;
+  private static final Pattern REPOSITORY_PATH = Pattern.compile("[\\w.-]+/[\\w.-]+");
+
+  private final GitHubGateway gateway;
+  private final AdaptiveConcurrencyLimiter exportLimiter;
+
   @Value("${github.token:}")
   private String defaultGitHubToken;
 
+  /**
+   * Constructs the service on top of the asynchronous GitHub gateway with the
+   * default export concurrency limits.
+   *
+   * @param gateway the non-blocking GitHub API client
+   */
+  public GitHubService(GitHubGateway gateway) {
+    this.gateway = gateway;
+    this.exportLimiter = new AdaptiveConcurrencyLimiter(20, 4, 200);
+  }
+
+  /**
+   * Constructs the service on top of the asynchronous GitHub gateway.
+   *
+   * @param gateway the non-blocking GitHub API client
+   * @param initialLimit the starting number of concurrent exports
+   * @param minLimit the lowest concurrent export limit
+   * @param maxLimit the highest concurrent export limit
+   * @param meterRegistry registry for the export concurrency metrics
+   */
+  @Autowired
+  public GitHubService(GitHubGateway gateway,
+                       @Value("${readme.export.concurrency.initial-limit:20}") int initialLimit,
+                       @Value("${readme.export.concurrency.min-limit:4}") int minLimit,
+                       @Value("${readme.export.concurrency.max-limit:200}") int maxLimit,
+                       MeterRegistry meterRegistry) {
+    this.gateway = gateway;
+    this.exportLimiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit);
+    Gauge.builder("readme.export.concurrency.limit", exportLimiter,
+            AdaptiveConcurrencyLimiter::getLimit)
+        .register(meterRegistry);
+    Gauge.builder("readme.export.concurrency.inflight", exportLimiter,
+            AdaptiveConcurrencyLimiter::getInFlight)
+        .register(meterRegistry);
+    FunctionCounter.builder("readme.export.concurrency.rejected", exportLimiter,
+            AdaptiveConcurrencyLimiter::getRejected)
+        .register(meterRegistry);
+  }
+
   /**
    * Exports README content to a GitHub repository.
    * Creates a new README.md file or updates an existing one.
@@ -51,30 +114,86 @@ public class GitHubService {
    */
   public String exportToGitHub(String repositoryUrl, String readmeContent, String token)
       throws GitHubExportException {
-    try {
-      logger.info("Attempting to export README to repository: {}", repositoryUrl);
+    return await(exportToGitHubAsync(repositoryUrl, readmeContent, token));
+  }
 
-      String authToken = determineToken(token);
-      validateToken(authToken);
+  /**
+   * Exports README content to a GitHub repository without blocking.
+   *
+   * <p>The token check, the repository lookup and the existing README lookup are
+   * independent, so they are issued concurrently; the README is written once
+   * all three have completed.
+   *
+   * <p>When the concurrency limit is reached the future fails at once with a
+   * {@link ServiceUnavailableException}.
+   *
+   * @param repositoryUrl the full GitHub repository URL
+   * @param readmeContent the README markdown content to export
+   * @param token the GitHub personal access token
+   * @return future completing with a success message describing the operation performed
+   */
+  public CompletableFuture<String> exportToGitHubAsync(String repositoryUrl,
+                                                       String readmeContent, String token) {
+    logger.info("Attempting to export README to repository: {}", repositoryUrl);
 
-      String repoPath = BadgeGenerator.extractRepoPath(repositoryUrl);
+    String authToken = determineToken(token);
+    String repoPath = BadgeGenerator.extractRepoPath(repositoryUrl);
+    try {
+      requireToken(authToken);
       validateRepositoryPath(repoPath);
+    } catch (GitHubExportException e) {
+      return CompletableFuture.failedFuture(e);
+    }
 
-      GitHub github = connectToGitHub(authToken);
-      GHRepository repository = getRepository(github, repoPath);
-
-      boolean isUpdate = updateOrCreateReadme(repository, readmeContent);
-
-      String message = String.format("README.md %s successfully in %s",
-          isUpdate ? "updated" : "created", repoPath);
-      
-      logger.info(message);
-      return message;
+    AdaptiveConcurrencyLimiter.Permit permit = exportLimiter.tryAcquire();
+    if (permit == null) {
+      logger.warn("Export to {} rejected: {} exports in progress", repositoryUrl,
+          exportLimiter.getInFlight());
+      return CompletableFuture.failedFuture(new ServiceUnavailableException(
+          "Too many exports in progress, retry shortly", EXPORT_RETRY_AFTER_SECONDS));
+    }
 
-    } catch (IOException e) {
-      logger.error("Failed to export README to GitHub: {}", repositoryUrl, e);
-      throw new GitHubExportException("Failed to export to GitHub: " + e.getMessage(), e);
+    CompletableFuture<Boolean> credentialCheck;
+    CompletableFuture<?> repository;
+    CompletableFuture<Optional<GitHubGateway.ContentRef>> existingReadme;
+    try {
+      credentialCheck = gateway.isCredentialValid(authToken);
+      repository = gateway.getRepository(repoPath, authToken);
+      existingReadme = gateway.getContent(repoPath, README_FILENAME, authToken);
+    } catch (RuntimeException e) {
+      // The future chain below never runs, so the permit is released here
+      permit.ignore();
+      GitHubExportException failure = toExportException(e);
+      logger.error("Failed to export README to GitHub: {}", repositoryUrl, failure);
+      return CompletableFuture.failedFuture(failure);
     }
+
+    return credentialCheck
+        .thenCompose(valid -> {
+          if (!valid) {
+            throw new CompletionException(new GitHubExportException("Invalid GitHub token"));
+          }
+          return CompletableFuture.allOf(repository, existingReadme);
+        })
+        .thenCompose(ignored -> updateOrCreateReadme(repoPath, readmeContent,
+            existingReadme.join().orElse(null), authToken))
+        .handle((isUpdate, error) -> {
+          if (error != null) {
+            GitHubExportException failure = toExportException(error);
+            if (isOverload(failure)) {
+              permit.overloaded();
+            } else {
+              permit.ignore();
+            }
+            logger.error("Failed to export README to GitHub: {}", repositoryUrl, failure);
+            throw new CompletionException(failure);
+          }
+          permit.success();
+          String message = String.format("README.md %s successfully in %s",
+              isUpdate ? "updated" : "created", repoPath);
+          logger.info(message);
+          return message;
+        });
   }
 
   /**
@@ -85,26 +204,40 @@ public class GitHubService {
    * @throws GitHubExportException if validation fails
    */
   public boolean validateToken(String token) throws GitHubExportException {
-    try {
-      if (token == null || token.isBlank()) {
-        throw new GitHubExportException("GitHub token is required");
-      }
-
-      GitHub github = new GitHubBuilder().withOAuthToken(token).build();
-      github.checkApiUrlValidity();
-      boolean isValid = github.isCredentialValid();
-
-      if (!isValid) {
-        throw new GitHubExportException("Invalid GitHub token");
-      }
-
-      logger.info("GitHub token validated successfully");
-      return true;
+    return await(validateTokenAsync(token));
+  }
 
-    } catch (IOException e) {
-      logger.error("Token validation failed", e);
-      throw new GitHubExportException("Token validation failed: " + e.getMessage(), e);
+  /**
+   * Validates a GitHub personal access token without blocking.
+   *
+   * @param token the token to validate
+   * @return future completing with true if the token is valid, or exceptionally with
+   *     a {@link GitHubExportException} if it is not
+   */
+  public CompletableFuture<Boolean> validateTokenAsync(String token) {
+    try {
+      requireToken(token);
+    } catch (GitHubExportException e) {
+      return CompletableFuture.failedFuture(e);
     }
+
+    return gateway.isCredentialValid(token)
+        .handle((isValid, error) -> {
+          if (error != null) {
+            GitHubExportException failure = toExportException(error);
+            logger.error("Token validation failed", failure);
+            if (failure instanceof ServiceUnavailableException) {
+              throw new CompletionException(failure);
+            }
+            throw new CompletionException(new GitHubExportException(
+                "Token validation failed: " + failure.getMessage(), failure));
+          }
+          if (!isValid) {
+            throw new CompletionException(new GitHubExportException("Invalid GitHub token"));
+          }
+          logger.info("GitHub token validated successfully");
+          return true;
+        });
   }
 
   /**
@@ -119,6 +252,18 @@ public class GitHubService {
         : defaultGitHubToken;
   }
 
+  /**
+   * Ensures a token is present.
+   *
+   * @param token the token to check
+   * @throws GitHubExportException if the token is missing
+   */
+  private void requireToken(String token) throws GitHubExportException {
+    if (token == null || token.isBlank()) {
+      throw new GitHubExportException("GitHub token is required");
+    }
+  }
+
   /**
    * Validates the repository path format.
    *
@@ -130,84 +275,84 @@ public class GitHubService {
       throw new GitHubExportException("Invalid repository URL");
     }
 
-    String[] parts = repoPath.split("/");
-    if (parts.length != 2) {
+    if (!REPOSITORY_PATH.matcher(repoPath).matches()) {
       throw new GitHubExportException(
           "Invalid repository URL format. Expected: github.com/owner/repo");
     }
   }
 
   /**
-   * Connects to GitHub using the provided token.
+   * Updates an existing README or creates a new one.
    *
+   * @param repoPath the target repository path
+   * @param content the README content
+   * @param existingReadme the current README, or null if there is none
    * @param token the authentication token
-   * @return authenticated GitHub instance
-   * @throws IOException if connection fails
+   * @return future completing with true if an existing file was updated
    */
-  private GitHub connectToGitHub(String token) throws IOException {
-    logger.debug("Connecting to GitHub API");
-    return new GitHubBuilder().withOAuthToken(token).build();
+  private CompletableFuture<Boolean> updateOrCreateReadme(
+      String repoPath, String content, GitHubGateway.ContentRef existingReadme, String token) {
+    if (existingReadme != null) {
+      logger.info("Updating existing README.md");
+      return gateway.putContent(repoPath, README_FILENAME, content,
+              COMMIT_MESSAGE_UPDATE, existingReadme.sha(), token)
+          .thenApply(ignored -> true);
+    }
+    logger.info("Creating new README.md");
+    return gateway.putContent(repoPath, README_FILENAME, content,
+            COMMIT_MESSAGE_CREATE, null, token)
+        .thenApply(ignored -> false);
   }
 
   /**
-   * Gets a repository by its path.
+   * Tells whether a failure signals that GitHub is overloaded rather than a
+   * problem with the request: server errors and transport failures such as
+   * timeouts.
    *
-   * @param github the authenticated GitHub instance
-   * @param repoPath the repository path (owner/repo)
-   * @return the repository object
-   * @throws IOException if the repository cannot be accessed
+   * @param failure the export failure
+   * @return true if the failure should lower the concurrency limit
    */
-  private GHRepository getRepository(GitHub github, String repoPath) throws IOException {
-    logger.debug("Accessing repository: {}", repoPath);
-    
-    try {
-      return github.getRepository(repoPath);
-    } catch (IOException e) {
-      throw new IOException(
-          "Unable to access repository. Check that the repository exists "
-          + "and your token has the required permissions.", e);
+  private static boolean isOverload(GitHubExportException failure) {
+    if (failure instanceof GitHubApiException apiException) {
+      return apiException.isServerError();
     }
+    return failure.getCause() instanceof IOException;
   }
 
   /**
-   * Updates an existing README or creates a new one.
+   * Unwraps a future failure into the service's exception type.
    *
-   * @param repository the target repository
-   * @param content the README content
-   * @return true if updating existing file, false if creating new file
-   * @throws IOException if the operation fails
+   * @param error the failure raised by a future stage
+   * @return the matching export exception
    */
-  private boolean updateOrCreateReadme(GHRepository repository, String content)
-      throws IOException {
-    GHContent existingReadme = getExistingReadme(repository);
-
-    if (existingReadme != null) {
-      logger.info("Updating existing README.md");
-      existingReadme.update(content, COMMIT_MESSAGE_UPDATE);
-      return true;
-    } else {
-      logger.info("Creating new README.md");
-      repository.createContent()
-          .content(content)
-          .path(README_FILENAME)
-          .message(COMMIT_MESSAGE_CREATE)
-          .commit();
-      return false;
+  public static GitHubExportException toExportException(Throwable error) {
+    Throwable cause = error;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof GitHubExportException exportException) {
+      return exportException;
     }
+    return new GitHubExportException("Failed to export to GitHub: " + cause.getMessage(), cause);
   }
 
   /**
-   * Attempts to retrieve an existing README file from the repository.
+   * Blocks until the future completes, translating its failure.
    *
-   * @param repository the repository to check
-   * @return the README file content object, or null if not found
+   * @param future the future to wait for
+   * @param <T> the result type
+   * @return the future's result
+   * @throws GitHubExportException if the future failed
    */
-  private GHContent getExistingReadme(GHRepository repository) {
+  private static <T> T await(CompletableFuture<T> future) throws GitHubExportException {
     try {
-      return repository.getFileContent(README_FILENAME);
-    } catch (IOException e) {
-      logger.debug("No existing README.md found in repository");
-      return null;
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GitHubExportException("Interrupted while waiting for GitHub", e);
+    } catch (ExecutionException e) {
+      throw toExportException(e);
     }
   }
 }
@@ -0,0 +1,358 @@
+package com.readme.service;
+
+import com.readme.dto.HistorySearchResponse;
+import com.readme.dto.ReadmeRequest;
+import com.readme.model.HistoryEntry;
+import com.readme.util.HistoryLog;
+import com.readme.util.InvertedIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service recording generated and exported READMEs in the {@link HistoryLog}
+ * under {@code readme.history.dir}, and applying the retention policy on a
+ * schedule.
+ *
+ * <p>Entries are also added to an in-memory {@link InvertedIndex} as they
+ * are recorded, over the markdown, the project name and the request fields
+ * (technologies, template, license) kept as facet terms. The index is
+ * rebuilt from the log on startup and pruned after each compaction.
+ *
+ * <p>History is best effort: a failure to record is logged and never fails
+ * the generation or export it belongs to.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+public class HistoryService {
+
+  private static final Logger logger = LoggerFactory.getLogger(HistoryService.class);
+
+  /**
+   * Facets counted in search results, by name.
+   */
+  public static final List<String> FACETS = List.of("technology", "template", "license");
+
+  private static final String PROJECT = "project:";
+  private static final String KIND = "kind:";
+  private static final int FACET_VALUES = 50;
+
+  private final Path directory;
+  private final Duration maxAge;
+  private final int maxEntries;
+  private final Duration compactionInterval;
+  private final MeterRegistry meterRegistry;
+  private final InvertedIndex searchIndex = new InvertedIndex();
+  private final ReentrantLock recordLock = new ReentrantLock();
+
+  private HistoryLog history;
+  private ScheduledExecutorService compactor;
+  private long lastIndexedId;
+
+  /**
+   * Constructs the history service.
+   *
+   * @param directory the history directory; blank disables the history
+   * @param maxAge how long entries are retained
+   * @param maxEntries how many entries are retained at most
+   * @param compactionInterval how often the retention policy is applied
+   * @param meterRegistry registry for the history metrics
+   */
+  public HistoryService(@Value("${readme.history.dir:}") String directory,
+                        @Value("${readme.history.retention.max-age:90d}") Duration maxAge,
+                        @Value("${readme.history.retention.max-entries:100000}") int maxEntries,
+                        @Value("${readme.history.compaction-interval:6h}")
+                        Duration compactionInterval,
+                        MeterRegistry meterRegistry) {
+    this.directory = StringUtils.isBlank(directory) ? null : Paths.get(directory);
+    this.maxAge = maxAge;
+    this.maxEntries = maxEntries;
+    this.compactionInterval = compactionInterval;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Opens the history and schedules compaction.
+   *
+   * @throws IOException if the history directory cannot be opened
+   */
+  @PostConstruct
+  public void start() throws IOException {
+    if (directory == null) {
+      logger.info("Generation history disabled (readme.history.dir not set)");
+      return;
+    }
+    history = HistoryLog.open(directory);
+    long started = System.nanoTime();
+    List<HistoryEntry> entries = history.find(null, null, null, null, Integer.MAX_VALUE);
+    for (int i = entries.size() - 1; i >= 0; i--) {
+      HistoryEntry entry = entries.get(i);
+      String markdown = history.read(entry.id()).orElse("");
+      searchIndex.add(entry.id(),
+          terms(entry.kind(), entry.projectName(), entry.labels(), markdown));
+      lastIndexedId = entry.id();
+    }
+    logger.info("Generation history opened in {} with {} entries, indexed in {} ms",
+        directory, history.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+    Gauge.builder("readme.history.entries", history, HistoryLog::size)
+        .description("Entries retained in the generation history")
+        .register(meterRegistry);
+    Gauge.builder("readme.history.bytes", history, HistoryLog::sizeOnDisk)
+        .description("Size of the generation history log")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+
+    compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "history-compactor");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long interval = compactionInterval.toMillis();
+    compactor.scheduleWithFixedDelay(this::compact, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops compaction and closes the history.
+   */
+  @PreDestroy
+  public void stop() {
+    if (compactor != null) {
+      compactor.shutdownNow();
+    }
+    if (history != null) {
+      try {
+        history.close();
+      } catch (IOException e) {
+        logger.warn("Failed to close generation history", e);
+      }
+    }
+  }
+
+  /**
+   * Tells whether the history is configured.
+   *
+   * @return false when {@code readme.history.dir} is not set
+   */
+  public boolean isEnabled() {
+    return history != null;
+  }
+
+  /**
+   * Records a README returned by {@code /api/generate}.
+   *
+   * @param request the generation request
+   * @param markdown the generated markdown
+   */
+  public void recordGenerated(ReadmeRequest request, String markdown) {
+    String template = request.getTemplateId() != null ? request.getTemplateId()
+        : request.getTemplateType() != null ? request.getTemplateType().name() : null;
+    record(HistoryEntry.Kind.GENERATED, request.getProjectName(), null,
+        new HistoryEntry.Labels(template, StringUtils.stripToNull(request.getLicense()),
+            request.getTechnologies()), markdown);
+  }
+
+  /**
+   * Records a README exported to GitHub. The project name is the repository
+   * name taken from the URL.
+   *
+   * @param repositoryUrl the repository URL
+   * @param markdown the exported markdown
+   */
+  public void recordExported(String repositoryUrl, String markdown) {
+    record(HistoryEntry.Kind.EXPORTED, repositoryName(repositoryUrl), repositoryUrl,
+        HistoryEntry.Labels.NONE, markdown);
+  }
+
+  /**
+   * Searches the history. Every word of the query and every filter must
+   * match; words are matched against the markdown and the project name.
+   *
+   * @param query words to look for; may be blank
+   * @param projectName only entries of this project, ignoring case; null for all
+   * @param technologies only entries using all these technologies; may be empty
+   * @param template only entries generated with this template; null for all
+   * @param license only entries with this license; null for all
+   * @param limit the maximum number of entries returned
+   * @return the matching entries, newest first, and facet counts over all matches
+   * @throws IOException if the history cannot be read
+   */
+  public HistorySearchResponse search(String query, String projectName, List<String> technologies,
+                                      String template, String license, int limit)
+      throws IOException {
+    long started = System.nanoTime();
+    Set<String> required = InvertedIndex.tokenize(query);
+    if (StringUtils.isNotBlank(projectName)) {
+      required.add(PROJECT + normalize(projectName));
+    }
+    for (String technology : technologies) {
+      required.add(FACETS.get(0) + ":" + normalize(technology));
+    }
+    if (StringUtils.isNotBlank(template)) {
+      required.add(FACETS.get(1) + ":" + normalize(template));
+    }
+    if (StringUtils.isNotBlank(license)) {
+      required.add(FACETS.get(2) + ":" + normalize(license));
+    }
+
+    long[] matches = searchIndex.search(required);
+    List<HistoryEntry> entries = new ArrayList<>(Math.min(limit, matches.length));
+    for (int i = matches.length - 1; i >= 0 && entries.size() < limit; i--) {
+      // Entries compacted away since the search are skipped
+      history.get(matches[i]).ifPresent(entries::add);
+    }
+    Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+    for (String facet : FACETS) {
+      facets.put(facet, searchIndex.facetCounts(facet + ":", matches, FACET_VALUES));
+    }
+    return HistorySearchResponse.builder()
+        .total(matches.length)
+        .entries(entries)
+        .facets(facets)
+        .tookMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started))
+        .build();
+  }
+
+  /**
+   * Finds entries, newest first.
+   *
+   * @param projectName only entries of this project; null for all
+   * @param repository only entries of this repository; null for all
+   * @param since only entries recorded at or after this instant; null for no bound
+   * @param until only entries recorded before this instant; null for no bound
+   * @param limit the maximum number of entries
+   * @return the matching entries
+   * @throws IOException if the history cannot be read
+   */
+  public List<HistoryEntry> find(String projectName, String repository, Instant since,
+                                 Instant until, int limit) throws IOException {
+    return history.find(projectName, repository, since, until, limit);
+  }
+
+  /**
+   * Returns an entry by id.
+   *
+   * @param id the entry id
+   * @return the entry, if retained
+   * @throws IOException if the history cannot be read
+   */
+  public Optional<HistoryEntry> get(long id) throws IOException {
+    return history.get(id);
+  }
+
+  /**
+   * Returns where the gzip-compressed markdown of an entry is stored.
+   *
+   * @param id the entry id
+   * @return the payload location, if the entry is retained
+   */
+  public Optional<HistoryLog.Blob> blob(long id) {
+    return history.blob(id);
+  }
+
+  /**
+   * Reads the markdown of an entry.
+   *
+   * @param id the entry id
+   * @return the markdown, if the entry is retained
+   * @throws IOException if the history cannot be read
+   */
+  public Optional<String> read(long id) throws IOException {
+    return history.read(id);
+  }
+
+  private void record(HistoryEntry.Kind kind, String projectName, String repository,
+                      HistoryEntry.Labels labels, String markdown) {
+    if (history == null) {
+      return;
+    }
+    Set<String> terms = terms(kind, projectName, labels, markdown);
+    try {
+      // Entries must reach the index in id order; a ReentrantLock rather
+      // than a monitor so virtual threads are not pinned during the write
+      recordLock.lock();
+      try {
+        HistoryEntry entry = history.append(kind, projectName, repository, labels, markdown);
+        if (entry.id() > lastIndexedId) {
+          searchIndex.add(entry.id(), terms);
+          lastIndexedId = entry.id();
+        }
+      } finally {
+        recordLock.unlock();
+      }
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Failed to record README in the generation history", e);
+    }
+  }
+
+  private void compact() {
+    try {
+      HistoryLog.Compaction result = history.compact(maxAge, maxEntries);
+      searchIndex.removeBefore(history.firstId());
+      logger.info("Generation history compacted: {} kept, {} removed, {} -> {} bytes",
+          result.kept(), result.removed(), result.bytesBefore(), result.bytesAfter());
+    } catch (IOException | RuntimeException e) {
+      logger.warn("Generation history compaction failed", e);
+    }
+  }
+
+  private static Set<String> terms(HistoryEntry.Kind kind, String projectName,
+                                   HistoryEntry.Labels labels, String markdown) {
+    Set<String> terms = InvertedIndex.tokenize(markdown);
+    terms.addAll(InvertedIndex.tokenize(projectName));
+    terms.add(PROJECT + normalize(projectName));
+    terms.add(KIND + normalize(kind.name()));
+    for (String technology : labels.technologies()) {
+      terms.add(FACETS.get(0) + ":" + normalize(technology));
+    }
+    if (labels.template() != null) {
+      terms.add(FACETS.get(1) + ":" + normalize(labels.template()));
+    }
+    if (labels.license() != null) {
+      terms.add(FACETS.get(2) + ":" + normalize(labels.license()));
+    }
+    return terms;
+  }
+
+  private static String normalize(String value) {
+    return StringUtils.defaultString(value).trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static String repositoryName(String repositoryUrl) {
+    String path = repositoryUrl;
+    try {
+      path = StringUtils.defaultIfEmpty(URI.create(repositoryUrl.trim()).getPath(), path);
+    } catch (IllegalArgumentException e) {
+      // Not a URL: use it as a path
+    }
+    path = StringUtils.removeEnd(StringUtils.removeEnd(path.trim(), "/"), ".git");
+    return StringUtils.substringAfterLast(path, "/").isEmpty()
+        ? path : StringUtils.substringAfterLast(path, "/");
+  }
+}
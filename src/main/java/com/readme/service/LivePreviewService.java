@@ -0,0 +1,280 @@
+package com.readme.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.readme.dto.ReadmeRequest;
+import com.readme.exception.ReadmeGenerationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service behind the live preview channel.
+ * Clients stream field edits; the service merges them into a per-session
+ * form state, coalesces bursts within a debounce window and renders only the
+ * newest state. Results superseded by a later edit are dropped instead of
+ * being sent.
+ *
+ * <p>A flush happens once no edit arrived for the debounce window, or at the
+ * latest after the maximum wait, so continuous typing still refreshes the
+ * preview.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+public class LivePreviewService {
+
+  private static final Logger logger = LoggerFactory.getLogger(LivePreviewService.class);
+
+  private static final Set<String> REQUEST_FIELDS = Arrays.stream(
+          ReadmeRequest.class.getDeclaredFields())
+      .filter(field -> !Modifier.isStatic(field.getModifiers()))
+      .map(Field::getName)
+      .collect(Collectors.toUnmodifiableSet());
+
+  private final ReadmeGeneratorService readmeGeneratorService;
+  private final MarkdownRenderService markdownRenderService;
+  private final ObjectMapper objectMapper;
+  private final Validator validator;
+  private final long debounceNanos;
+  private final long maxWaitNanos;
+
+  private final Map<String, LiveSession> sessions = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor scheduler;
+
+  private final Counter editsCounter;
+  private final Counter rendersCounter;
+  private final Counter supersededCounter;
+
+  /**
+   * Constructs the live preview service.
+   *
+   * @param readmeGeneratorService service for README generation
+   * @param markdownRenderService service for HTML rendering
+   * @param objectMapper JSON mapper used to bind the form state
+   * @param validator bean validator applied to the form state
+   * @param meterRegistry registry for channel metrics
+   * @param debounce quiet period after which pending edits are rendered
+   * @param maxWait maximum delay between the first pending edit and a render
+   * @param threads number of render threads
+   */
+  public LivePreviewService(ReadmeGeneratorService readmeGeneratorService,
+                            MarkdownRenderService markdownRenderService,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            MeterRegistry meterRegistry,
+                            @Value("${readme.preview.live.debounce:150ms}") Duration debounce,
+                            @Value("${readme.preview.live.max-wait:600ms}") Duration maxWait,
+                            @Value("${readme.preview.live.threads:2}") int threads) {
+    this.readmeGeneratorService = readmeGeneratorService;
+    this.markdownRenderService = markdownRenderService;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.debounceNanos = debounce.toNanos();
+    this.maxWaitNanos = Math.max(debounce.toNanos(), maxWait.toNanos());
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+      Thread thread = new Thread(runnable, "live-preview-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.scheduler.setRemoveOnCancelPolicy(true);
+
+    this.editsCounter = meterRegistry.counter("readme.preview.live.edits");
+    this.rendersCounter = meterRegistry.counter("readme.preview.live.renders");
+    this.supersededCounter = meterRegistry.counter("readme.preview.live.superseded");
+    meterRegistry.gaugeMapSize("readme.preview.live.sessions", Tags.empty(), sessions);
+  }
+
+  /**
+   * Opens a live preview session.
+   *
+   * @param sessionId the session identifier
+   * @param sender receives the JSON messages to push to the client
+   */
+  public void open(String sessionId, Consumer<String> sender) {
+    sessions.put(sessionId, new LiveSession(sender, objectMapper.createObjectNode()));
+  }
+
+  /**
+   * Closes a live preview session and cancels any pending render.
+   *
+   * @param sessionId the session identifier
+   */
+  public void close(String sessionId) {
+    LiveSession session = sessions.remove(sessionId);
+    if (session != null) {
+      session.lock.lock();
+      try {
+        if (session.pendingFlush != null) {
+          session.pendingFlush.cancel(false);
+        }
+      } finally {
+        session.lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Applies a field edit to a session and schedules a debounced render.
+   * Only known {@link ReadmeRequest} fields are merged.
+   *
+   * @param sessionId the session identifier
+   * @param seq the client's sequence number for this edit
+   * @param fields the changed fields
+   */
+  public void edit(String sessionId, long seq, JsonNode fields) {
+    LiveSession session = sessions.get(sessionId);
+    if (session == null || fields == null || !fields.isObject()) {
+      return;
+    }
+    editsCounter.increment();
+
+    session.lock.lock();
+    try {
+      Iterator<Map.Entry<String, JsonNode>> changes = fields.fields();
+      while (changes.hasNext()) {
+        Map.Entry<String, JsonNode> change = changes.next();
+        if (REQUEST_FIELDS.contains(change.getKey())) {
+          session.fields.set(change.getKey(), change.getValue());
+        }
+      }
+      session.latestSeq = seq;
+      session.version++;
+
+      long now = System.nanoTime();
+      if (session.pendingFlush == null) {
+        session.firstPendingNanos = now;
+      } else if (!session.pendingFlush.cancel(false)) {
+        // Already running: it will see a newer version and drop its result
+        session.firstPendingNanos = now;
+      }
+      long remaining = session.firstPendingNanos + maxWaitNanos - now;
+      long delay = Math.max(0, Math.min(debounceNanos, remaining));
+      long generation = ++session.flushGeneration;
+      session.pendingFlush = scheduler.schedule(
+          () -> flush(sessionId, session, generation), delay, TimeUnit.NANOSECONDS);
+    } finally {
+      session.lock.unlock();
+    }
+  }
+
+  /**
+   * Renders the newest state of a session and pushes it unless a later edit
+   * superseded it while rendering.
+   *
+   * @param sessionId the session identifier
+   * @param session the session
+   * @param generation the flush generation recorded when this flush was scheduled
+   */
+  private void flush(String sessionId, LiveSession session, long generation) {
+    ObjectNode snapshot;
+    long seq;
+    long version;
+    session.lock.lock();
+    try {
+      snapshot = session.fields.deepCopy();
+      seq = session.latestSeq;
+      version = session.version;
+      // An edit may have scheduled the next flush while this one waited for the lock
+      if (session.flushGeneration == generation) {
+        session.pendingFlush = null;
+      }
+    } finally {
+      session.lock.unlock();
+    }
+
+    String message;
+    try {
+      ReadmeRequest request = objectMapper.treeToValue(snapshot, ReadmeRequest.class);
+      Set<ConstraintViolation<ReadmeRequest>> violations = validator.validate(request);
+      if (!violations.isEmpty()) {
+        message = errorMessage(seq, violations.iterator().next().getMessage());
+      } else {
+        String markdown = readmeGeneratorService.generateReadme(request);
+        String html = markdownRenderService.render(markdown);
+        rendersCounter.increment();
+        message = objectMapper.writeValueAsString(Map.of(
+            "type", "preview", "seq", seq, "markdown", markdown, "html", html));
+      }
+    } catch (ReadmeGenerationException e) {
+      message = errorMessage(seq, e.getMessage());
+    } catch (Exception e) {
+      logger.warn("Live preview render failed for session {}", sessionId, e);
+      message = errorMessage(seq, "Preview could not be rendered");
+    }
+
+    session.lock.lock();
+    try {
+      if (session.version != version || !sessions.containsKey(sessionId)) {
+        supersededCounter.increment();
+        return;
+      }
+    } finally {
+      session.lock.unlock();
+    }
+    session.sender.accept(message);
+  }
+
+  private String errorMessage(long seq, String error) {
+    ObjectNode node = objectMapper.createObjectNode();
+    node.put("type", "error");
+    node.put("seq", seq);
+    node.put("error", error);
+    return node.toString();
+  }
+
+  /**
+   * Stops the render threads.
+   */
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  /**
+   * Per-connection form state and pending render.
+   */
+  private static final class LiveSession {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Consumer<String> sender;
+    private final ObjectNode fields;
+    private long latestSeq;
+    private long version;
+    private long firstPendingNanos;
+    private long flushGeneration;
+    private ScheduledFuture<?> pendingFlush;
+
+    LiveSession(Consumer<String> sender, ObjectNode fields) {
+      this.sender = sender;
+      this.fields = fields;
+    }
+  }
+}
@@ -0,0 +1,378 @@
+package com.readme.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.readme.dto.ReadmeRequest;
+import com.readme.dto.ReadmeSection;
+import com.readme.exception.ReadmeGenerationException;
+import com.readme.util.CircuitBreaker;
+import com.readme.util.ContentHash;
+import com.readme.util.HashRing;
+import com.readme.util.LruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+/**
+ * Optional cache tier shared by the replicas of a deployment, so identical
+ * README requests are generated once per cluster instead of once per node.
+ *
+ * <p>Every node is configured with the same static membership
+ * ({@code readme.cache.peers.members}, as base URLs) and its own URL
+ * ({@code readme.cache.peers.self}). Requests are keyed by the SHA-256 of
+ * their encoded form, and a {@link HashRing} assigns each key to one owning
+ * member. A node generates and caches the keys it owns; for other keys it
+ * asks the owner ({@code POST /api/cache/sections}, Smile-encoded) and keeps
+ * the answer in a near-cache, so hot keys are served without a network hop.
+ *
+ * <p>When the owner fails or does not answer within
+ * {@code readme.cache.peers.timeout}, the node generates the README itself:
+ * a peer outage only costs cache hits. A {@link CircuitBreaker} per peer
+ * skips peers that keep failing. Requests rendered through user-defined
+ * templates bypass the tier, since templates are loaded from each node's own
+ * directory. Without members the tier is disabled and generation goes
+ * straight to {@link ReadmeGeneratorService}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+public class PeerCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(PeerCache.class);
+
+  /**
+   * Header carrying {@code readme.cache.peers.secret} on peer requests.
+   */
+  public static final String SECRET_HEADER = "X-Readme-Peer-Secret";
+
+  /**
+   * Path of the endpoint serving owned entries to peers.
+   */
+  public static final String SECTIONS_PATH = "/api/cache/sections";
+
+  private static final String SMILE = "application/x-jackson-smile";
+  private static final TypeReference<List<ReadmeSection>> SECTIONS = new TypeReference<>() {
+  };
+
+  private final ReadmeGeneratorService generator;
+  private final ObjectMapper smileMapper;
+  private final HashRing ring;
+  private final String self;
+  private final byte[] secret;
+  private final Duration timeout;
+  private final HttpClient httpClient;
+  private final LruCache<String, List<ReadmeSection>> nearCache;
+  private final LruCache<String, List<ReadmeSection>> ownedCache;
+  private final Map<String, CircuitBreaker> peerBreakers = new ConcurrentHashMap<>();
+
+  private final AtomicLong nearHits = new AtomicLong();
+  private final AtomicLong ownedHits = new AtomicLong();
+  private final AtomicLong remoteFetches = new AtomicLong();
+  private final AtomicLong fallbacks = new AtomicLong();
+  private final AtomicLong generations = new AtomicLong();
+
+  /**
+   * Constructs the peer cache.
+   *
+   * @param generator the local README generator
+   * @param objectMapper the application's JSON mapper, whose settings the peer encoding copies
+   * @param self this node's base URL as listed in the members
+   * @param members comma-separated base URLs of all nodes; empty disables the tier
+   * @param virtualNodes ring points per member
+   * @param nearCacheSize entries owned by other nodes kept locally
+   * @param ownedCacheSize entries owned by this node kept for its peers
+   * @param timeout how long to wait for the owning peer before generating locally
+   * @param secret shared secret expected on peer requests; required when members are set
+   * @param meterRegistry registry for the cache metrics
+   * @throws IllegalStateException if members are set without a secret, or do not include self
+   */
+  public PeerCache(ReadmeGeneratorService generator,
+                   ObjectMapper objectMapper,
+                   @Value("${readme.cache.peers.self:}") String self,
+                   @Value("${readme.cache.peers.members:}") String members,
+                   @Value("${readme.cache.peers.virtual-nodes:128}") int virtualNodes,
+                   @Value("${readme.cache.peers.near-cache-size:1024}") int nearCacheSize,
+                   @Value("${readme.cache.peers.owned-cache-size:4096}") int ownedCacheSize,
+                   @Value("${readme.cache.peers.timeout:500ms}") Duration timeout,
+                   @Value("${readme.cache.peers.secret:}") String secret,
+                   MeterRegistry meterRegistry) {
+    this.generator = generator;
+    this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    this.self = normalize(self);
+    this.secret = secret.getBytes(StandardCharsets.UTF_8);
+    this.timeout = timeout;
+    this.nearCache = new LruCache<>(nearCacheSize);
+    this.ownedCache = new LruCache<>(ownedCacheSize);
+
+    List<String> urls = Arrays.stream(members.split(","))
+        .map(PeerCache::normalize)
+        .filter(StringUtils::isNotEmpty)
+        .toList();
+    if (urls.isEmpty()) {
+      this.ring = null;
+      this.httpClient = null;
+    } else {
+      if (StringUtils.isBlank(secret)) {
+        throw new IllegalStateException(
+            "readme.cache.peers.secret must be set when readme.cache.peers.members is set");
+      }
+      if (!urls.contains(this.self)) {
+        throw new IllegalStateException(
+            "readme.cache.peers.self must be one of readme.cache.peers.members");
+      }
+      this.ring = new HashRing(urls, virtualNodes);
+      this.httpClient = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(timeout)
+          .build();
+      logger.info("Peer cache enabled: {} of {}", this.self, ring.members());
+    }
+
+    register(meterRegistry, "near", PeerCache::getNearHits);
+    register(meterRegistry, "owned", PeerCache::getOwnedHits);
+    register(meterRegistry, "remote", PeerCache::getRemoteFetches);
+    register(meterRegistry, "fallback", PeerCache::getFallbacks);
+    FunctionCounter.builder("readme.cache.peer.generations", this, PeerCache::getGenerations)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Tells whether the peer tier is configured.
+   *
+   * @return false when no members are configured
+   */
+  public boolean isEnabled() {
+    return ring != null;
+  }
+
+  /**
+   * Generates README sections, through the owning peer's cache when the
+   * tier is enabled.
+   *
+   * @param request the README generation request
+   * @return the sections in document order
+   * @throws ReadmeGenerationException if generation fails
+   */
+  public List<ReadmeSection> generateSections(ReadmeRequest request)
+      throws ReadmeGenerationException {
+    if (ring == null || request == null || StringUtils.isNotBlank(request.getTemplateId())) {
+      return generator.generateSections(request);
+    }
+
+    byte[] body = encode(request);
+    String key = ContentHash.sha256(body);
+    String owner = ring.owner(HashRing.hash(key));
+    if (owner.equals(self)) {
+      return serveOwned(key, request);
+    }
+
+    List<ReadmeSection> sections = nearCache.get(key);
+    if (sections != null) {
+      nearHits.incrementAndGet();
+      return copy(sections);
+    }
+    sections = fetch(owner, body);
+    if (sections == null) {
+      sections = generate(request);
+    }
+    nearCache.put(key, sections);
+    return copy(sections);
+  }
+
+  /**
+   * Serves a request forwarded by a peer from this node's owned entries,
+   * generating it on a miss.
+   *
+   * @param request the README generation request
+   * @return the sections in document order
+   * @throws ReadmeGenerationException if generation fails
+   */
+  public List<ReadmeSection> serveOwned(ReadmeRequest request) throws ReadmeGenerationException {
+    return serveOwned(ContentHash.sha256(encode(request)), request);
+  }
+
+  /**
+   * Checks the shared secret sent by a peer, in constant time.
+   *
+   * @param presented the secret header value, possibly null
+   * @return true if the secret matches, or the tier is disabled and has no secret
+   */
+  public boolean isTrusted(String presented) {
+    return secret.length == 0 || presented != null
+        && MessageDigest.isEqual(secret, presented.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns the number of requests answered from the near-cache.
+   *
+   * @return the near-cache hit count
+   */
+  public long getNearHits() {
+    return nearHits.get();
+  }
+
+  /**
+   * Returns the number of owned requests answered from the owned cache.
+   *
+   * @return the owned cache hit count
+   */
+  public long getOwnedHits() {
+    return ownedHits.get();
+  }
+
+  /**
+   * Returns the number of requests answered by their owning peer.
+   *
+   * @return the remote fetch count
+   */
+  public long getRemoteFetches() {
+    return remoteFetches.get();
+  }
+
+  /**
+   * Returns the number of requests generated locally because their owning
+   * peer failed or was skipped.
+   *
+   * @return the fallback count
+   */
+  public long getFallbacks() {
+    return fallbacks.get();
+  }
+
+  /**
+   * Returns the number of READMEs generated by this node through the tier.
+   *
+   * @return the generation count
+   */
+  public long getGenerations() {
+    return generations.get();
+  }
+
+  /**
+   * Returns the member owning a request.
+   *
+   * @param request the README generation request
+   * @return the owner's base URL
+   * @throws ReadmeGenerationException if the request cannot be encoded
+   */
+  String ownerOf(ReadmeRequest request) throws ReadmeGenerationException {
+    return ring.owner(HashRing.hash(ContentHash.sha256(encode(request))));
+  }
+
+  private List<ReadmeSection> serveOwned(String key, ReadmeRequest request)
+      throws ReadmeGenerationException {
+    List<ReadmeSection> sections = ownedCache.get(key);
+    if (sections != null) {
+      ownedHits.incrementAndGet();
+      return copy(sections);
+    }
+    sections = generate(request);
+    ownedCache.put(key, sections);
+    return copy(sections);
+  }
+
+  private List<ReadmeSection> generate(ReadmeRequest request) throws ReadmeGenerationException {
+    generations.incrementAndGet();
+    return List.copyOf(generator.generateSections(request));
+  }
+
+  /**
+   * Asks the owning peer for a request's sections.
+   *
+   * @return the sections, or null if the request must be generated locally
+   */
+  private List<ReadmeSection> fetch(String owner, byte[] body) {
+    CircuitBreaker breaker = peerBreakers.computeIfAbsent(owner, peer -> new CircuitBreaker(
+        20, 5, 50, 100, timeout, Duration.ofSeconds(10), 1));
+    CircuitBreaker.Permit permit = breaker.tryAcquire();
+    if (permit == null) {
+      fallbacks.incrementAndGet();
+      return null;
+    }
+
+    HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(owner + SECTIONS_PATH))
+        .timeout(timeout)
+        .header(HttpHeaders.CONTENT_TYPE, SMILE)
+        .header(HttpHeaders.ACCEPT, SMILE)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+    if (secret.length > 0) {
+      request.header(SECRET_HEADER, new String(secret, StandardCharsets.UTF_8));
+    }
+    try {
+      HttpResponse<byte[]> response = httpClient.send(request.build(),
+          HttpResponse.BodyHandlers.ofByteArray());
+      if (response.statusCode() == 200) {
+        List<ReadmeSection> sections = smileMapper.readValue(response.body(), SECTIONS);
+        permit.success();
+        remoteFetches.incrementAndGet();
+        return sections;
+      }
+      // The owner rejected the request itself; generating locally reports why
+      if (response.statusCode() == 400) {
+        permit.success();
+        return null;
+      }
+      permit.failure();
+      logger.debug("Peer {} answered {}", owner, response.statusCode());
+    } catch (IOException e) {
+      permit.failure();
+      logger.debug("Peer {} unavailable: {}", owner, e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      permit.failure();
+    }
+    fallbacks.incrementAndGet();
+    return null;
+  }
+
+  private byte[] encode(ReadmeRequest request) throws ReadmeGenerationException {
+    try {
+      return smileMapper.writeValueAsBytes(request);
+    } catch (JsonProcessingException e) {
+      throw new ReadmeGenerationException("Failed to encode request", e);
+    }
+  }
+
+  private void register(MeterRegistry meterRegistry, String result,
+                        Function<PeerCache, Long> count) {
+    FunctionCounter.builder("readme.cache.peer.lookups", this,
+            cache -> count.apply(cache).doubleValue())
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static List<ReadmeSection> copy(List<ReadmeSection> sections) {
+    return sections.stream()
+        .map(section -> new ReadmeSection(section.getId(), section.getHash(),
+            section.getContent()))
+        .toList();
+  }
+
+  private static String normalize(String url) {
+    String trimmed = url.trim();
+    return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+  }
+}
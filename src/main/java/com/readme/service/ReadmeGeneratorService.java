@@ -1,16 +1,36 @@
 package com.readme.service;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.readme.dto.ReadmeRequest;
+import com.readme.dto.ReadmeSection;
 import com.readme.exception.ReadmeGenerationException;
+import com.readme.model.License;
 import com.readme.model.TemplateType;
 import com.readme.util.BadgeGenerator;
+import com.readme.util.CompiledTemplate;
+import com.readme.util.ContentHash;
+import com.readme.util.LicenseCorpus;
+import com.readme.util.LruCache;
 import com.readme.util.MarkdownFormatter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -23,6 +43,9 @@ import org.springframework.stereotype.Service;
  *   <li>Badge generation for technologies and repository stats</li>
  *   <li>Section formatting and organization</li>
  *   <li>Markdown content creation and validation</li>
+ *   <li>Section-level memoization for incremental regeneration</li>
+ *   <li>Rendering through user-defined templates from the {@link TemplateRegistry}</li>
+ *   <li>Streaming rendering of user-supplied custom sections</li>
  * </ul>
  *
  * @author README Generator Team
@@ -35,6 +58,9 @@ public class ReadmeGeneratorService {
   private static final Logger logger = LoggerFactory.getLogger(ReadmeGeneratorService.class);
   
   private static final Map<TemplateType, List<String>> TEMPLATE_SECTIONS = new HashMap<>();
+
+  private static final int DEFAULT_SECTION_CACHE_SIZE = 1024;
+  private static final int SECTION_HASH_LENGTH = 16;
   
   static {
     TEMPLATE_SECTIONS.put(TemplateType.API, 
@@ -49,6 +75,52 @@ public class ReadmeGeneratorService {
         List.of("Tech Stack", "Architecture", "Deployment"));
   }
 
+  private static final String CUSTOM_SECTION_ID = "custom";
+
+  static final int DEFAULT_MAX_CUSTOM_SECTIONS = 50;
+  static final int DEFAULT_MAX_CUSTOM_SECTION_BYTES = 65536;
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final Pattern SPDX_ID = Pattern.compile("[A-Za-z0-9.+-]+");
+
+  private final LruCache<SectionKey, CachedSection> sectionCache;
+  private final TemplateRegistry templateRegistry;
+  private final int maxCustomSections;
+  private final int maxCustomSectionBytes;
+
+  /**
+   * Constructs the generator service with the default section cache size and
+   * custom section limits, and no user-defined templates.
+   */
+  public ReadmeGeneratorService() {
+    this(DEFAULT_SECTION_CACHE_SIZE, DEFAULT_MAX_CUSTOM_SECTIONS,
+        DEFAULT_MAX_CUSTOM_SECTION_BYTES, new TemplateRegistry(""));
+  }
+
+  /**
+   * Constructs the generator service.
+   *
+   * @param sectionCacheSize maximum number of generated sections kept in memory
+   * @param maxCustomSections maximum number of custom sections per request
+   * @param maxCustomSectionBytes maximum size of the custom sections JSON in UTF-8 bytes
+   * @param templateRegistry registry of user-defined templates
+   */
+  @Autowired
+  public ReadmeGeneratorService(
+      @Value("${readme.sections.cache-size:" + DEFAULT_SECTION_CACHE_SIZE + "}")
+      int sectionCacheSize,
+      @Value("${readme.custom-sections.max-count:" + DEFAULT_MAX_CUSTOM_SECTIONS + "}")
+      int maxCustomSections,
+      @Value("${readme.custom-sections.max-bytes:" + DEFAULT_MAX_CUSTOM_SECTION_BYTES + "}")
+      int maxCustomSectionBytes,
+      TemplateRegistry templateRegistry) {
+    this.sectionCache = new LruCache<>(sectionCacheSize);
+    this.maxCustomSections = maxCustomSections;
+    this.maxCustomSectionBytes = maxCustomSectionBytes;
+    this.templateRegistry = templateRegistry;
+  }
+
   /**
    * Generates a complete README.md file based on the provided request.
    *
@@ -57,76 +129,180 @@ public class ReadmeGeneratorService {
    * @throws ReadmeGenerationException if generation fails
    */
   public String generateReadme(ReadmeRequest request) throws ReadmeGenerationException {
-	  if (request == null) {
-		    throw new ReadmeGenerationException("Request cannot be null");
-		}  
-	  
+    StringBuilder readme = new StringBuilder();
+    for (ReadmeSection section : generateSections(request)) {
+      readme.append(section.getContent());
+    }
+    return readme.toString();
+  }
+
+  /**
+   * Generates a README as patch against the sections a client already holds.
+   * Sections whose hash matches the known hash are returned without content.
+   *
+   * @param request the README generation request
+   * @param knownSections section hashes known to the client, keyed by section id
+   * @return all sections in document order, with content only where it changed
+   * @throws ReadmeGenerationException if generation fails
+   */
+  public List<ReadmeSection> generatePatch(ReadmeRequest request,
+                                           Map<String, String> knownSections)
+      throws ReadmeGenerationException {
+    List<ReadmeSection> sections = generateSections(request);
+    if (knownSections == null || knownSections.isEmpty()) {
+      return sections;
+    }
+    for (ReadmeSection section : sections) {
+      if (section.getHash().equals(knownSections.get(section.getId()))) {
+        section.setContent(null);
+      }
+    }
+    return sections;
+  }
+
+  /**
+   * Generates the README as an ordered list of sections.
+   * Each section is memoized by its own inputs, so editing one field only
+   * rebuilds the sections that depend on it.
+   *
+   * @param request the README generation request
+   * @return the sections in document order
+   * @throws ReadmeGenerationException if generation fails
+   */
+  public List<ReadmeSection> generateSections(ReadmeRequest request)
+      throws ReadmeGenerationException {
+    if (request == null) {
+      throw new ReadmeGenerationException("Request cannot be null");
+    }
+
     try {
-    	
       logger.info("Generating README for project: {}", request.getProjectName());
-      
+
       validateRequest(request);
-      
-      StringBuilder readme = new StringBuilder();
-      
+
+      if (StringUtils.isNotBlank(request.getTemplateId())) {
+        return List.of(generateCustomSection(request));
+      }
+
+      List<ReadmeSection> sections = new ArrayList<>();
+      List<String> technologies = request.getTechnologies() != null
+          ? new ArrayList<>(request.getTechnologies()) : List.of();
+      boolean hasTechnologies = !technologies.isEmpty();
+      CustomSections custom = StringUtils.isNotBlank(request.getCustomSections())
+          ? generateCustomSections(request.getCustomSections()) : CustomSections.NONE;
+
       // Build README sections in order
-      readme.append(generateHeader(request));
-      
+      sections.add(section("header", () -> generateHeader(request),
+          request.getProjectName(), request.getTagline()));
+
       if (request.isIncludeBadges()) {
-        readme.append(generateBadges(request));
+        sections.add(section("badges", () -> generateBadges(request),
+            request.getRepositoryUrl(), request.getLicense(), technologies));
       }
-      
+
       if (request.isIncludeTableOfContents()) {
-        readme.append(generateTableOfContents(request));
+        sections.add(section("toc", () -> generateTableOfContents(request, custom.titles()),
+            request.isIncludeScreenshots(), StringUtils.isNotBlank(request.getFeatures()),
+            hasTechnologies, StringUtils.isNotBlank(request.getInstallation()),
+            StringUtils.isNotBlank(request.getUsage()), custom.titles(),
+            request.isIncludeContributing(), request.isIncludeLicense()));
       }
-      
-      readme.append(generateDescription(request));
-      
+
+      sections.add(section("about", () -> generateDescription(request),
+          request.getDescription(), request.getDemoUrl()));
+
       if (request.isIncludeScreenshots()) {
-        readme.append(generateScreenshotSection());
+        sections.add(section("screenshots", this::generateScreenshotSection));
       }
-      
+
       if (StringUtils.isNotBlank(request.getFeatures())) {
-        readme.append(generateFeatures(request));
+        sections.add(section("features", () -> generateFeatures(request),
+            request.getFeatures()));
       }
-      
-      if (request.getTechnologies() != null && !request.getTechnologies().isEmpty()) {
-        readme.append(generateTechStack(request));
+
+      if (hasTechnologies) {
+        sections.add(section("techStack", () -> generateTechStack(request), technologies));
       }
-      
+
       if (StringUtils.isNotBlank(request.getInstallation())) {
-        readme.append(generateInstallation(request));
+        sections.add(section("installation", () -> generateInstallation(request),
+            request.getInstallation()));
       }
-      
+
       if (StringUtils.isNotBlank(request.getUsage())) {
-        readme.append(generateUsage(request));
+        sections.add(section("usage", () -> generateUsage(request), request.getUsage()));
       }
-      
+
       if (request.getTemplateType() != null) {
-        readme.append(generateTemplateSpecificSections(request));
+        sections.add(section("template", () -> generateTemplateSpecificSections(request),
+            request.getTemplateType(), StringUtils.isNotBlank(request.getInstallation()),
+            StringUtils.isNotBlank(request.getUsage()),
+            StringUtils.isNotBlank(request.getFeatures())));
       }
-      
+
+      if (!custom.titles().isEmpty()) {
+        sections.add(new ReadmeSection("customSections", custom.hash(), custom.content()));
+      }
+
       if (request.isIncludeContributing()) {
-        readme.append(generateContributing());
+        sections.add(section("contributing", this::generateContributing));
       }
-      
+
       if (request.isIncludeLicense()) {
-        readme.append(generateLicense(request));
+        sections.add(section("license", () -> generateLicense(request), request.getLicense()));
       }
-      
-      readme.append(generateFooter(request));
-      
+
+      sections.add(section("footer", () -> generateFooter(request),
+          request.getAuthor(), StringUtils.isNotBlank(request.getRepositoryUrl())));
+
       logger.info("README generated successfully for project: {}", request.getProjectName());
-      return readme.toString();
-    
+      return sections;
+
     } catch (ReadmeGenerationException e) {
-        throw e;
+      throw e;
     } catch (Exception e) {
       logger.error("Error generating README for project: {}", request.getProjectName(), e);
       throw new ReadmeGenerationException("Failed to generate README: " + e.getMessage(), e);
     }
   }
 
+  /**
+   * Returns a section from the section cache, generating it on a miss.
+   *
+   * @param id the section identifier
+   * @param generator generates the section content
+   * @param inputs the request values the section depends on
+   * @return a fresh section DTO
+   */
+  private ReadmeSection section(String id, Supplier<String> generator, Object... inputs) {
+    CachedSection cached = sectionCache.computeIfAbsent(
+        new SectionKey(id, Arrays.asList(inputs)),
+        key -> {
+          String content = generator.get();
+          return new CachedSection(content,
+              ContentHash.sha256(content).substring(0, SECTION_HASH_LENGTH));
+        });
+    return new ReadmeSection(id, cached.hash(), cached.content());
+  }
+
+  /**
+   * Renders the request through its user-defined template as a single section.
+   * Compiled templates are cheap to run, so the output is not memoized.
+   *
+   * @param request the README request
+   * @return the rendered section
+   * @throws ReadmeGenerationException if the template is not registered
+   */
+  private ReadmeSection generateCustomSection(ReadmeRequest request)
+      throws ReadmeGenerationException {
+    CompiledTemplate template = templateRegistry.find(request.getTemplateId())
+        .orElseThrow(() -> new ReadmeGenerationException(
+            "Unknown template: " + request.getTemplateId()));
+    String content = template.render(request);
+    return new ReadmeSection(CUSTOM_SECTION_ID,
+        ContentHash.sha256(content).substring(0, SECTION_HASH_LENGTH), content);
+  }
+
   /**
    * Validates the README generation request.
    *
@@ -209,9 +385,10 @@ public class ReadmeGeneratorService {
    * Generates the table of contents.
    *
    * @param request the README request
+   * @param customTitles titles of the custom sections, in document order
    * @return the formatted table of contents
    */
-  private String generateTableOfContents(ReadmeRequest request) {
+  private String generateTableOfContents(ReadmeRequest request, List<String> customTitles) {
     StringBuilder toc = new StringBuilder();
     toc.append(MarkdownFormatter.createHeader(2, "Table of Contents"));
     
@@ -232,6 +409,9 @@ public class ReadmeGeneratorService {
     if (StringUtils.isNotBlank(request.getUsage())) {
       toc.append(MarkdownFormatter.createTocLink("Usage")).append("\n");
     }
+    for (String title : customTitles) {
+      toc.append(MarkdownFormatter.createTocLink(title)).append("\n");
+    }
     if (request.isIncludeContributing()) {
       toc.append(MarkdownFormatter.createTocLink("Contributing")).append("\n");
     }
@@ -369,6 +549,130 @@ public class ReadmeGeneratorService {
         || (section.equals("Features") && StringUtils.isNotBlank(request.getFeatures()));
   }
 
+  /**
+   * Renders the user-supplied custom sections, given either as an array of
+   * {@code {"title": ..., "content": ...}} objects or as an object mapping
+   * titles to contents.
+   *
+   * <p>The JSON is read with a streaming parser and each section is appended
+   * to the output as soon as it is parsed, copying content straight from the
+   * parser's buffer; no tree model is built. Only content that precedes its
+   * title in an array entry is held back until the title is read.
+   *
+   * @param json the custom sections JSON
+   * @return the rendered sections with their titles
+   * @throws ReadmeGenerationException if the JSON is malformed or exceeds the
+   *     configured count or size limits
+   */
+  private CustomSections generateCustomSections(String json) throws ReadmeGenerationException {
+    byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > maxCustomSectionBytes) {
+      throw new ReadmeGenerationException(
+          "Custom sections must not exceed " + maxCustomSectionBytes + " bytes");
+    }
+
+    StringBuilder out = new StringBuilder(bytes.length + 256);
+    List<String> titles = new ArrayList<>();
+    try (JsonParser parser = JSON_FACTORY.createParser(bytes)) {
+      JsonToken root = parser.nextToken();
+      if (root == JsonToken.START_ARRAY) {
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+          checkCustomSectionCount(titles);
+          parseCustomSection(parser, out, titles);
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
+          throw new ReadmeGenerationException("Custom sections must be JSON objects");
+        }
+      } else if (root == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          checkCustomSectionCount(titles);
+          String title = customSectionTitle(parser.currentName());
+          titles.add(title);
+          out.append(MarkdownFormatter.createHeader(2, title));
+          appendCustomSectionContent(parser, out);
+        }
+      } else {
+        throw new ReadmeGenerationException(
+            "Custom sections must be a JSON array or object");
+      }
+    } catch (IOException e) {
+      throw new ReadmeGenerationException("Invalid custom sections JSON: "
+          + e.getMessage().lines().findFirst().orElse(""), e);
+    }
+
+    String content = out.toString();
+    return new CustomSections(content,
+        ContentHash.sha256(content).substring(0, SECTION_HASH_LENGTH), List.copyOf(titles));
+  }
+
+  /**
+   * Renders one {@code {"title": ..., "content": ...}} object. The header is
+   * written as soon as the title is read and content after it goes straight
+   * to the output; content seen before the title is buffered and written
+   * after the header. Repeated titles are ignored.
+   *
+   * @param parser the parser positioned on the object start
+   * @param out the output buffer
+   * @param titles receives the section title
+   * @throws IOException if the JSON is malformed
+   * @throws ReadmeGenerationException if the object has no title
+   */
+  private void parseCustomSection(JsonParser parser, StringBuilder out, List<String> titles)
+      throws IOException, ReadmeGenerationException {
+    String title = null;
+    StringBuilder early = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      if ("title".equals(field) && title == null) {
+        parser.nextToken();
+        title = customSectionTitle(parser.getValueAsString());
+        out.append(MarkdownFormatter.createHeader(2, title));
+        if (early != null) {
+          out.append(early);
+        }
+      } else if ("content".equals(field)) {
+        if (title == null) {
+          early = early == null ? new StringBuilder() : early;
+          appendCustomSectionContent(parser, early);
+        } else {
+          appendCustomSectionContent(parser, out);
+        }
+      } else {
+        parser.nextToken();
+        parser.skipChildren();
+      }
+    }
+    if (title == null) {
+      throw new ReadmeGenerationException("Custom section " + (titles.size() + 1)
+          + " has no title");
+    }
+    titles.add(title);
+  }
+
+  private static void appendCustomSectionContent(JsonParser parser, StringBuilder out)
+      throws IOException {
+    if (parser.nextToken() == JsonToken.VALUE_STRING) {
+      out.append(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    } else {
+      parser.skipChildren();
+    }
+    out.append("\n\n");
+  }
+
+  private static String customSectionTitle(String title) throws ReadmeGenerationException {
+    if (StringUtils.isBlank(title)) {
+      throw new ReadmeGenerationException("Custom section titles must not be blank");
+    }
+    return StringUtils.normalizeSpace(title);
+  }
+
+  private void checkCustomSectionCount(List<String> titles) throws ReadmeGenerationException {
+    if (titles.size() >= maxCustomSections) {
+      throw new ReadmeGenerationException(
+          "At most " + maxCustomSections + " custom sections are allowed");
+    }
+  }
+
   /**
    * Generates the contributing section.
    *
@@ -398,6 +702,82 @@ public class ReadmeGeneratorService {
         + " License - see the [LICENSE](LICENSE) file for details.\n\n";
   }
 
+  /**
+   * Generates the LICENSE file shipped alongside the README.
+   * Licenses bundled in the {@link LicenseCorpus} are written out in full
+   * with the current year and the author (or project name) as copyright
+   * holder; other licenses get a notice pointing to their SPDX text.
+   *
+   * @param request the README request
+   * @return the LICENSE file content
+   */
+  public String generateLicenseFile(ReadmeRequest request) {
+    return StandardCharsets.UTF_8.decode(renderLicenseFile(request)).toString();
+  }
+
+  /**
+   * Renders the LICENSE file as UTF-8 bytes. For bundled licenses the
+   * returned buffer is a slice of the license corpus or a cached rendering,
+   * so streaming it to a response does not copy the text.
+   *
+   * @param request the README request
+   * @return a read-only buffer with the LICENSE file content
+   */
+  public ByteBuffer renderLicenseFile(ReadmeRequest request) {
+    String license = StringUtils.isNotBlank(request.getLicense())
+        ? request.getLicense().trim() : "MIT";
+    String holder = StringUtils.isNotBlank(request.getAuthor())
+        ? request.getAuthor() : request.getProjectName();
+
+    LicenseCorpus corpus = LicenseCorpus.getDefault();
+    Optional<License> bundled = corpus.find(license);
+    if (bundled.isPresent()) {
+      return corpus.render(bundled.get(), Year.now().getValue(), holder);
+    }
+
+    StringBuilder notice = new StringBuilder()
+        .append("Copyright (c) ").append(Year.now()).append(' ').append(holder).append("\n\n")
+        .append(request.getProjectName()).append(" is licensed under the ")
+        .append(license).append(" license.\n");
+    if (SPDX_ID.matcher(license).matches()) {
+      notice.append("\nThe full license text is available at https://spdx.org/licenses/")
+          .append(license).append(".html\n");
+    }
+    return StandardCharsets.UTF_8.encode(notice.toString()).asReadOnlyBuffer();
+  }
+
+  /**
+   * Generates the CONTRIBUTING.md file shipped alongside the README.
+   *
+   * @param request the README request
+   * @return the CONTRIBUTING.md content
+   */
+  public String generateContributingFile(ReadmeRequest request) {
+    StringBuilder contributing = new StringBuilder()
+        .append(MarkdownFormatter.createHeader(1, "Contributing to " + request.getProjectName()))
+        .append("Thank you for taking the time to contribute!\n\n")
+        .append(MarkdownFormatter.createHeader(2, "Reporting issues"));
+    if (StringUtils.isNotBlank(request.getRepositoryUrl())) {
+      contributing.append("Open an issue at ")
+          .append(request.getRepositoryUrl()).append("/issues");
+    } else {
+      contributing.append("Open an issue");
+    }
+    contributing.append(" describing the problem, the expected behavior and how to "
+            + "reproduce it.\n\n")
+        .append(MarkdownFormatter.createHeader(2, "Submitting changes"))
+        .append("1. Fork the project\n")
+        .append("2. Create your feature branch (`git checkout -b feature/AmazingFeature`)\n")
+        .append("3. Commit your changes (`git commit -m 'Add some AmazingFeature'`)\n")
+        .append("4. Push to the branch (`git push origin feature/AmazingFeature`)\n")
+        .append("5. Open a Pull Request\n\n");
+    if (request.isIncludeLicense()) {
+      contributing.append("By contributing, you agree that your contributions will be "
+          + "licensed under the project's license.\n");
+    }
+    return contributing.toString();
+  }
+
   /**
    * Generates the footer section.
    *
@@ -422,4 +802,24 @@ public class ReadmeGeneratorService {
     footer.append("</div>\n");
     return footer.toString();
   }
+
+  /**
+   * Cache key for a section: its identifier and the inputs it depends on.
+   */
+  private record SectionKey(String id, List<Object> inputs) {
+  }
+
+  /**
+   * Cached section content with its hash.
+   */
+  private record CachedSection(String content, String hash) {
+  }
+
+  /**
+   * Rendered custom sections with their hash and titles.
+   */
+  private record CustomSections(String content, String hash, List<String> titles) {
+
+    static final CustomSections NONE = new CustomSections("", "", List.of());
+  }
 }
@@ -0,0 +1,115 @@
+package com.readme.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.readme.model.License;
+import com.readme.model.Technology;
+import com.readme.model.TemplateType;
+import com.readme.util.ContentHash;
+import com.readme.util.LicenseCorpus;
+import com.readme.util.TechnologyCatalog;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service holding the template catalog served by {@code GET /api/templates}.
+ * The catalog (template types, user-defined template ids, featured technologies and
+ * the identifiers of the bundled licenses) is serialized once
+ * into a byte array together with its content hash, which is used both as a
+ * strong ETag and as the version in the cacheable catalog URL. It is
+ * re-serialized whenever the {@link TemplateRegistry} changes.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+public class TemplateCatalog {
+
+  private static final Logger logger = LoggerFactory.getLogger(TemplateCatalog.class);
+
+  private static final int VERSION_LENGTH = 16;
+
+  private static final int FEATURED_TECHNOLOGIES = 20;
+
+  private final ObjectMapper objectMapper;
+  private final TemplateRegistry templateRegistry;
+
+  private volatile Snapshot snapshot;
+
+  /**
+   * Constructs the catalog and serializes it.
+   *
+   * @param objectMapper JSON mapper used to serialize the catalog
+   * @param templateRegistry registry of user-defined templates
+   * @throws JsonProcessingException if the catalog cannot be serialized
+   */
+  public TemplateCatalog(ObjectMapper objectMapper, TemplateRegistry templateRegistry)
+      throws JsonProcessingException {
+    this.objectMapper = objectMapper;
+    this.templateRegistry = templateRegistry;
+    reload();
+    templateRegistry.addListener(() -> {
+      try {
+        reload();
+      } catch (JsonProcessingException e) {
+        logger.error("Failed to republish template catalog", e);
+      }
+    });
+  }
+
+  /**
+   * Rebuilds and re-serializes the catalog, publishing a new version.
+   *
+   * @throws JsonProcessingException if the catalog cannot be serialized
+   */
+  public void reload() throws JsonProcessingException {
+    Map<String, Object> catalog = new LinkedHashMap<>();
+    catalog.put("types", Arrays.stream(TemplateType.values()).map(Enum::name).toList());
+    catalog.put("customTemplates", templateRegistry.getIds());
+    catalog.put("technologies", TechnologyCatalog.getDefault()
+        .featured(FEATURED_TECHNOLOGIES).stream().map(Technology::name).toList());
+    catalog.put("licenses", LicenseCorpus.getDefault().licenses().stream()
+        .map(License::id).toList());
+
+    byte[] body = objectMapper.writer()
+        .without(SerializationFeature.INDENT_OUTPUT)
+        .writeValueAsBytes(catalog);
+    String version = ContentHash.sha256(body).substring(0, VERSION_LENGTH);
+    snapshot = new Snapshot(body, version);
+    logger.info("Template catalog published: version {}, {} bytes", version, body.length);
+  }
+
+  /**
+   * Returns the current catalog snapshot.
+   *
+   * @return the serialized catalog and its version
+   */
+  public Snapshot current() {
+    return snapshot;
+  }
+
+  /**
+   * Returns the catalog URL carrying the current version, which clients may
+   * cache indefinitely.
+   *
+   * @return the versioned catalog URL
+   */
+  public String getVersionedUrl() {
+    return "/api/templates?v=" + snapshot.version();
+  }
+
+  /**
+   * Serialized catalog with its version, published atomically.
+   *
+   * @param body the catalog JSON bytes
+   * @param version the content-derived catalog version
+   */
+  public record Snapshot(byte[] body, String version) {
+  }
+}
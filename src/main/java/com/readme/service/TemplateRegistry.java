@@ -0,0 +1,294 @@
+package com.readme.service;
+
+import com.readme.exception.TemplateCompilationException;
+import com.readme.util.CompiledTemplate;
+import com.readme.util.TemplateCompiler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service holding the user-defined templates compiled from the template
+ * directory ({@code readme.templates.dir}). Each {@code <id>.tpl} file is
+ * compiled once by {@link TemplateCompiler} and registered under its id.
+ *
+ * <p>A watcher thread recompiles files as they are created, modified or
+ * deleted, after a short settle delay that coalesces the events of one save;
+ * empty files are treated as unfinished writes. The registry is an immutable
+ * map replaced as a whole on every change, so lookups never lock and
+ * in-flight renders keep the template they started with. A file that fails to
+ * compile is logged and its previous version stays registered.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+public class TemplateRegistry {
+
+  private static final Logger logger = LoggerFactory.getLogger(TemplateRegistry.class);
+
+  /**
+   * File extension of template files.
+   */
+  public static final String EXTENSION = ".tpl";
+
+  private static final Pattern ID = Pattern.compile("[a-z0-9][a-z0-9-]{0,63}");
+  private static final long MAX_TEMPLATE_BYTES = 256 * 1024;
+  private static final long SETTLE_MILLIS = 100;
+
+  private final Path directory;
+  private final ReentrantLock updateLock = new ReentrantLock();
+  private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+  private volatile Map<String, CompiledTemplate> templates = Map.of();
+  private WatchService watchService;
+
+  /**
+   * Constructs the registry.
+   *
+   * @param directory the template directory; blank disables user-defined templates
+   */
+  public TemplateRegistry(@Value("${readme.templates.dir:}") String directory) {
+    this.directory = StringUtils.isBlank(directory) ? null : Paths.get(directory);
+  }
+
+  /**
+   * Compiles all templates in the directory and starts watching it.
+   *
+   * @throws IOException if the directory cannot be read or watched
+   */
+  @PostConstruct
+  public void start() throws IOException {
+    if (directory == null) {
+      logger.info("User-defined templates disabled (readme.templates.dir not set)");
+      return;
+    }
+    if (!Files.isDirectory(directory)) {
+      logger.warn("Template directory {} does not exist; user-defined templates disabled",
+          directory);
+      return;
+    }
+
+    watchService = directory.getFileSystem().newWatchService();
+    directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    reloadAll();
+
+    Thread watcher = new Thread(this::watch, "template-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+  }
+
+  /**
+   * Stops watching the template directory.
+   */
+  @PreDestroy
+  public void stop() {
+    if (watchService != null) {
+      try {
+        watchService.close();
+      } catch (IOException e) {
+        logger.debug("Failed to close template watch service", e);
+      }
+    }
+  }
+
+  /**
+   * Finds a compiled template.
+   *
+   * @param id the template id
+   * @return the template, if registered
+   */
+  public Optional<CompiledTemplate> find(String id) {
+    return Optional.ofNullable(templates.get(id));
+  }
+
+  /**
+   * Returns the ids of all registered templates, sorted.
+   *
+   * @return the template ids
+   */
+  public List<String> getIds() {
+    return templates.keySet().stream().sorted().toList();
+  }
+
+  /**
+   * Registers a callback run after the set of templates changed.
+   *
+   * @param listener the callback
+   */
+  public void addListener(Runnable listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Recompiles every template file in the directory and publishes the result.
+   * Files that fail to compile keep their previously registered version.
+   *
+   * @throws IOException if the directory cannot be listed
+   */
+  public void reloadAll() throws IOException {
+    updateLock.lock();
+    try {
+      Map<String, CompiledTemplate> next = new HashMap<>();
+      try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+        for (Path file : files) {
+          String id = idOf(file);
+          if (id != null) {
+            CompiledTemplate template = compile(id, file);
+            if (template == null) {
+              template = templates.get(id);
+            }
+            if (template != null) {
+              next.put(id, template);
+            }
+          }
+        }
+      }
+      publish(next);
+    } finally {
+      updateLock.unlock();
+    }
+  }
+
+  /**
+   * Recompiles or unregisters a single template file.
+   *
+   * @param file the changed file
+   */
+  void reload(Path file) {
+    String id = idOf(file);
+    if (id == null) {
+      return;
+    }
+    updateLock.lock();
+    try {
+      Map<String, CompiledTemplate> next = new HashMap<>(templates);
+      if (Files.isRegularFile(file)) {
+        CompiledTemplate template = compile(id, file);
+        CompiledTemplate previous = next.get(id);
+        if (template == null
+            || previous != null && previous.getVersion().equals(template.getVersion())) {
+          return;
+        }
+        next.put(id, template);
+      } else if (next.remove(id) == null) {
+        return;
+      } else {
+        logger.info("Template '{}' removed", id);
+      }
+      publish(next);
+    } finally {
+      updateLock.unlock();
+    }
+  }
+
+  private void publish(Map<String, CompiledTemplate> next) {
+    templates = Map.copyOf(next);
+    logger.info("Template registry published: {}", getIds());
+    for (Runnable listener : listeners) {
+      try {
+        listener.run();
+      } catch (RuntimeException e) {
+        logger.warn("Template registry listener failed", e);
+      }
+    }
+  }
+
+  private CompiledTemplate compile(String id, Path file) {
+    try {
+      long size = Files.size(file);
+      if (size == 0) {
+        // Usually a file truncated by a writer that is not done yet
+        logger.debug("Template '{}' is empty; keeping the previous version", id);
+        return null;
+      }
+      if (size > MAX_TEMPLATE_BYTES) {
+        logger.warn("Template '{}' ignored: larger than {} bytes", id, MAX_TEMPLATE_BYTES);
+        return null;
+      }
+      CompiledTemplate template = TemplateCompiler.compile(id,
+          Files.readString(file, StandardCharsets.UTF_8));
+      logger.info("Template '{}' compiled: version {}", id, template.getVersion());
+      return template;
+    } catch (TemplateCompilationException e) {
+      logger.warn("Template '{}' not reloaded: {}", id, e.getMessage());
+    } catch (IOException e) {
+      logger.warn("Template '{}' could not be read", id, e);
+    }
+    return null;
+  }
+
+  private void watch() {
+    try {
+      while (true) {
+        WatchKey key = watchService.take();
+        // Let editors finish writing and coalesce the burst of events they cause
+        Thread.sleep(SETTLE_MILLIS);
+
+        Set<Path> changed = new LinkedHashSet<>();
+        boolean overflow = false;
+        do {
+          for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+              overflow = true;
+            } else {
+              changed.add(directory.resolve((Path) event.context()));
+            }
+          }
+          if (!key.reset()) {
+            logger.warn("Template directory {} is no longer accessible", directory);
+            return;
+          }
+          key = watchService.poll();
+        } while (key != null);
+
+        if (overflow) {
+          reloadAll();
+        } else {
+          changed.forEach(this::reload);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      logger.debug("Template watcher stopped");
+    } catch (IOException e) {
+      logger.warn("Template watcher stopped", e);
+    }
+  }
+
+  private static String idOf(Path file) {
+    String name = file.getFileName().toString();
+    if (!name.endsWith(EXTENSION)) {
+      return null;
+    }
+    String id = name.substring(0, name.length() - EXTENSION.length());
+    return ID.matcher(id).matches() ? id : null;
+  }
+}
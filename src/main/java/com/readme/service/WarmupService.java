@@ -0,0 +1,206 @@
+package com.readme.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readme.dto.ReadmeRequest;
+import com.readme.dto.ReadmeResponse;
+import com.readme.model.License;
+import com.readme.model.TemplateType;
+import com.readme.util.BadgeGenerator;
+import com.readme.util.LicenseCorpus;
+import com.readme.util.TechnologyCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service that warms up the JIT-compiled hot paths before the application
+ * reports itself ready.
+ *
+ * <p>Runs as an {@link ApplicationRunner}. Spring Boot only publishes the
+ * {@code ACCEPTING_TRAFFIC} readiness state once all runners have returned,
+ * so the readiness health group stays {@code OUT_OF_SERVICE} until warm-up
+ * completes its iterations or runs out of its time budget.
+ *
+ * <p>Each iteration generates a README from a representative corpus covering
+ * every {@link TemplateType} and bundled license, round-trips the request
+ * through Jackson and serializes the response, exercising the same code as
+ * {@code /api/generate}. It also renders the LICENSE file and looks the
+ * technologies up in the {@link TechnologyCatalog}, as the export and
+ * suggestion endpoints do.
+ *
+ * <p>Generation runs on a private {@link ReadmeGeneratorService} whose
+ * section cache holds a single entry, so the corpus is generated in full on
+ * every iteration and no warm-up sections are left in the cache of the
+ * service handling requests.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+public class WarmupService implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(WarmupService.class);
+
+  private static final List<String> WARMUP_TECHNOLOGIES = List.of(
+      "Java", "Spring Boot", "JavaScript", "React", "Vue", "Angular",
+      "Python", "Django", "Node.js", "TypeScript", "Go", "Rust", "PHP", "C#", ".NET");
+
+  private static final int SECTION_CACHE_SIZE = 1;
+
+  private final ReadmeGeneratorService readmeGeneratorService;
+  private final TemplateCatalog templateCatalog;
+  private final ObjectMapper objectMapper;
+  private final MeterRegistry meterRegistry;
+
+  private final AtomicInteger completedIterations = new AtomicInteger();
+  private volatile boolean finished;
+
+  @Value("${readme.warmup.enabled:true}")
+  private boolean enabled;
+
+  @Value("${readme.warmup.iterations:2000}")
+  private int iterations;
+
+  @Value("${readme.warmup.time-budget:20s}")
+  private Duration timeBudget;
+
+  /**
+   * Constructs the warm-up service.
+   *
+   * @param templateRegistry registry of user-defined templates
+   * @param templateCatalog the template catalog linked from the index page
+   * @param objectMapper the application's JSON mapper
+   * @param meterRegistry registry receiving the warm-up progress metrics
+   */
+  public WarmupService(TemplateRegistry templateRegistry,
+                       TemplateCatalog templateCatalog,
+                       ObjectMapper objectMapper,
+                       MeterRegistry meterRegistry) {
+    this.readmeGeneratorService = new ReadmeGeneratorService(SECTION_CACHE_SIZE,
+        ReadmeGeneratorService.DEFAULT_MAX_CUSTOM_SECTIONS,
+        ReadmeGeneratorService.DEFAULT_MAX_CUSTOM_SECTION_BYTES, templateRegistry);
+    this.templateCatalog = templateCatalog;
+    this.objectMapper = objectMapper;
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Runs the warm-up loop and registers the progress metrics.
+   *
+   * @param args the application arguments (unused)
+   */
+  @Override
+  public void run(ApplicationArguments args) {
+    meterRegistry.gauge("readme.warmup.iterations", completedIterations);
+    meterRegistry.gauge("readme.warmup.progress", this,
+        service -> service.iterations > 0
+            ? Math.min(1.0, (double) service.completedIterations.get() / service.iterations)
+            : 1.0);
+    meterRegistry.gauge("readme.warmup.completed", this,
+        service -> service.finished ? 1.0 : 0.0);
+
+    if (!enabled) {
+      logger.info("JIT warm-up disabled");
+      finished = true;
+      return;
+    }
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    long deadline = System.nanoTime() + timeBudget.toNanos();
+    List<ReadmeRequest> corpus = buildCorpus();
+
+    logger.info("Starting JIT warm-up: {} iterations, budget {}", iterations, timeBudget);
+    try {
+      for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+        warmupIteration(corpus.get(i % corpus.size()));
+        completedIterations.incrementAndGet();
+      }
+    } catch (Exception e) {
+      logger.warn("JIT warm-up aborted after {} iterations", completedIterations.get(), e);
+    } finally {
+      finished = true;
+      long elapsed = sample.stop(meterRegistry.timer("readme.warmup.duration"));
+      logger.info("JIT warm-up finished: {} iterations in {} ms",
+          completedIterations.get(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+  }
+
+  /**
+   * Performs one warm-up iteration: JSON parse, generation, JSON
+   * serialization, LICENSE rendering, catalog URL and technology lookups.
+   *
+   * @param request the corpus request to process
+   * @throws Exception if any stage fails
+   */
+  private void warmupIteration(ReadmeRequest request) throws Exception {
+    byte[] requestJson = objectMapper.writeValueAsBytes(request);
+    ReadmeRequest parsed = objectMapper.readValue(requestJson, ReadmeRequest.class);
+
+    String markdown = readmeGeneratorService.generateReadme(parsed);
+    objectMapper.writeValueAsBytes(ReadmeResponse.success(markdown));
+    readmeGeneratorService.renderLicenseFile(parsed);
+
+    templateCatalog.getVersionedUrl();
+    TechnologyCatalog catalog = TechnologyCatalog.getDefault();
+    for (String technology : parsed.getTechnologies()) {
+      BadgeGenerator.generateTechnologyBadge(technology);
+      catalog.resolve(technology);
+      objectMapper.writeValueAsBytes(catalog.suggest(
+          technology.substring(0, Math.min(2, technology.length())),
+          TechnologyCatalog.MAX_SUGGESTIONS));
+    }
+  }
+
+  /**
+   * Builds the representative request corpus: every template type combined
+   * with a spread of optional sections, technology lists and bundled licenses.
+   *
+   * @return the warm-up corpus
+   */
+  private List<ReadmeRequest> buildCorpus() {
+    List<License> licenses = LicenseCorpus.getDefault().licenses();
+    List<ReadmeRequest> corpus = new ArrayList<>();
+    int variant = 0;
+
+    for (TemplateType type : TemplateType.values()) {
+      for (int flags = 0; flags < 4; flags++) {
+        int from = (variant * 3) % WARMUP_TECHNOLOGIES.size();
+        int to = Math.min(WARMUP_TECHNOLOGIES.size(), from + 2 + flags);
+
+        corpus.add(ReadmeRequest.builder()
+            .projectName("Warmup " + type.getDisplayName() + " " + variant)
+            .tagline("Representative warm-up project")
+            .description("A " + type.getDisplayName()
+                + " project used to warm up README generation before serving traffic.")
+            .templateType(type)
+            .technologies(new ArrayList<>(WARMUP_TECHNOLOGIES.subList(from, to)))
+            .features("Fast generation\nTemplate support\nBadges\nExport to GitHub")
+            .installation("git clone https://github.com/warmup/project.git\nmvn install")
+            .usage("java -jar app.jar --port 8080")
+            .repositoryUrl((flags & 1) == 0 ? "https://github.com/warmup/project-" + variant : null)
+            .demoUrl((flags & 2) == 0 ? "https://example.com/demo" : null)
+            .license(licenses.get(variant % licenses.size()).id())
+            .author("Warmup")
+            .includeBadges(flags != 3)
+            .includeTableOfContents((flags & 1) == 1)
+            .includeScreenshots((flags & 2) == 2)
+            .includeContributing(flags != 2)
+            .includeLicense(true)
+            .build());
+        variant++;
+      }
+    }
+    return corpus;
+  }
+}
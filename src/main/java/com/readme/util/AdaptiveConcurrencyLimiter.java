@@ -0,0 +1,214 @@
+package com.readme.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limiter whose limit follows observed latency.
+ *
+ * <p>The limit is adjusted with a latency gradient: a slow moving average of
+ * round-trip times serves as the no-load baseline, and each sample scales the
+ * limit by {@code 1.5 * baseline / sample} (clamped to [0.5, 1]) plus a small
+ * growth allowance of {@code sqrt(limit)}. When latency rises because the
+ * backend is queuing, the gradient drops below 1 and the limit shrinks; when
+ * latency is at baseline the limit grows. Failures that signal overload
+ * (timeouts, server errors) cut the limit multiplicatively. Samples taken
+ * while less than half the limit is in use do not raise it, so a quiet period
+ * cannot inflate the limit beyond what was actually tested.
+ *
+ * <p>Requests beyond the limit are rejected immediately rather than queued.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+  private static final double SMOOTHING = 0.2;
+  private static final double TOLERANCE = 1.5;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double BACKOFF = 0.9;
+  private static final int BASELINE_WINDOW = 600;
+  private static final int BASELINE_WARMUP = 10;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final LongSupplier clock;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+  private final ReentrantLock updateLock = new ReentrantLock();
+
+  private volatile double limit;
+  private double baselineNanos;
+  private int samples;
+
+  /**
+   * Constructs a limiter.
+   *
+   * @param initialLimit the starting limit
+   * @param minLimit the lowest limit the limiter may shrink to
+   * @param maxLimit the highest limit the limiter may grow to
+   */
+  public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+    this(initialLimit, minLimit, maxLimit, System::nanoTime);
+  }
+
+  /**
+   * Constructs a limiter with an explicit clock.
+   *
+   * @param initialLimit the starting limit
+   * @param minLimit the lowest limit the limiter may shrink to
+   * @param maxLimit the highest limit the limiter may grow to
+   * @param clock nanosecond time source
+   */
+  AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, LongSupplier clock) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.clock = clock;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  /**
+   * Tries to start an operation.
+   *
+   * @return a permit to be released when the operation ends, or null if the
+   *     limit is reached
+   */
+  public Permit tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= (int) limit) {
+        rejected.incrementAndGet();
+        return null;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return new Permit(clock.getAsLong(), current + 1);
+      }
+    }
+  }
+
+  /**
+   * Returns the current limit.
+   *
+   * @return the concurrency limit
+   */
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Returns the number of operations in progress.
+   *
+   * @return the in-flight count
+   */
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  /**
+   * Returns the number of rejected operations since startup.
+   *
+   * @return the rejection count
+   */
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  private void onSample(long rttNanos, int inFlightAtStart) {
+    updateLock.lock();
+    try {
+      samples++;
+      if (samples <= BASELINE_WARMUP) {
+        baselineNanos += (rttNanos - baselineNanos) / samples;
+      } else {
+        baselineNanos += (rttNanos - baselineNanos) * 2 / (BASELINE_WINDOW + 1);
+      }
+      // Let the baseline recover after a sustained latency drop
+      if (baselineNanos > 2.0 * rttNanos) {
+        baselineNanos *= 0.95;
+      }
+
+      double current = limit;
+      if (inFlightAtStart < current / 2) {
+        return;
+      }
+      double gradient = Math.max(MIN_GRADIENT,
+          Math.min(1.0, TOLERANCE * baselineNanos / Math.max(1, rttNanos)));
+      double target = current * gradient + Math.sqrt(current);
+      setLimit(current * (1 - SMOOTHING) + target * SMOOTHING);
+    } finally {
+      updateLock.unlock();
+    }
+  }
+
+  private void onOverload() {
+    updateLock.lock();
+    try {
+      setLimit(limit * BACKOFF);
+    } finally {
+      updateLock.unlock();
+    }
+  }
+
+  private void setLimit(double next) {
+    limit = Math.max(minLimit, Math.min(maxLimit, next));
+  }
+
+  /**
+   * An admitted operation. Exactly one of the release methods must be called.
+   */
+  public final class Permit {
+
+    private final long startNanos;
+    private final int inFlightAtStart;
+    private boolean released;
+
+    private Permit(long startNanos, int inFlightAtStart) {
+      this.startNanos = startNanos;
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    /**
+     * Releases the permit after a successful operation, feeding its latency
+     * into the limit.
+     */
+    public void success() {
+      if (release()) {
+        onSample(clock.getAsLong() - startNanos, inFlightAtStart);
+      }
+    }
+
+    /**
+     * Releases the permit after a failure that signals overload, such as a
+     * timeout or a server error; the limit is reduced.
+     */
+    public void overloaded() {
+      if (release()) {
+        onOverload();
+      }
+    }
+
+    /**
+     * Releases the permit without affecting the limit, for failures that say
+     * nothing about backend load (e.g. invalid input).
+     */
+    public void ignore() {
+      release();
+    }
+
+    private boolean release() {
+      if (released) {
+        return false;
+      }
+      released = true;
+      inFlight.decrementAndGet();
+      return true;
+    }
+  }
+}
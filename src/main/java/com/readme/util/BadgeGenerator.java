@@ -1,7 +1,8 @@
 package com.readme.util;
 
-import java.util.HashMap;
-import java.util.Map;
+import com.readme.model.Technology;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -17,47 +18,6 @@ public final class BadgeGenerator {
   private static final String SHIELDS_IO_BASE = "https://img.shields.io";
   private static final String BADGE_STYLE = "for-the-badge";
   
-  private static final Map<String, String> TECH_COLORS = new HashMap<>();
-  private static final Map<String, String> TECH_LOGOS = new HashMap<>();
-
-  static {
-    // Initialize technology colors
-    TECH_COLORS.put("Java", "ED8B00");
-    TECH_COLORS.put("Spring", "6DB33F");
-    TECH_COLORS.put("Spring Boot", "6DB33F");
-    TECH_COLORS.put("JavaScript", "F7DF1E");
-    TECH_COLORS.put("TypeScript", "3178C6");
-    TECH_COLORS.put("React", "61DAFB");
-    TECH_COLORS.put("Vue", "4FC08D");
-    TECH_COLORS.put("Angular", "DD0031");
-    TECH_COLORS.put("Python", "3776AB");
-    TECH_COLORS.put("Node.js", "339933");
-    TECH_COLORS.put("Go", "00ADD8");
-    TECH_COLORS.put("Rust", "000000");
-    TECH_COLORS.put("PHP", "777BB4");
-    TECH_COLORS.put("Ruby", "CC342D");
-    TECH_COLORS.put("C#", "239120");
-    TECH_COLORS.put(".NET", "512BD4");
-
-    // Initialize technology logos
-    TECH_LOGOS.put("Java", "java");
-    TECH_LOGOS.put("Spring", "spring");
-    TECH_LOGOS.put("Spring Boot", "springboot");
-    TECH_LOGOS.put("JavaScript", "javascript");
-    TECH_LOGOS.put("TypeScript", "typescript");
-    TECH_LOGOS.put("React", "react");
-    TECH_LOGOS.put("Vue", "vuedotjs");
-    TECH_LOGOS.put("Angular", "angular");
-    TECH_LOGOS.put("Python", "python");
-    TECH_LOGOS.put("Node.js", "nodedotjs");
-    TECH_LOGOS.put("Go", "go");
-    TECH_LOGOS.put("Rust", "rust");
-    TECH_LOGOS.put("PHP", "php");
-    TECH_LOGOS.put("Ruby", "ruby");
-    TECH_LOGOS.put("C#", "csharp");
-    TECH_LOGOS.put(".NET", "dotnet");
-  }
-
   private BadgeGenerator() {
     throw new UnsupportedOperationException("Utility class");
   }
@@ -120,6 +80,9 @@ public final class BadgeGenerator {
 
   /**
    * Generates a technology badge with appropriate color and logo.
+   * Known technologies, including spelling variants such as "spring-boot",
+   * use the catalog's canonical name, color and logo; unknown technologies
+   * get a default color and a logo slug derived from the name.
    *
    * @param technology the technology name
    * @return the markdown badge string
@@ -129,15 +92,29 @@ public final class BadgeGenerator {
       return "";
     }
 
-    String color = TECH_COLORS.getOrDefault(technology, "0078D4");
-    String logo = TECH_LOGOS.getOrDefault(technology, 
-        technology.toLowerCase().replace(" ", "").replace(".", ""));
+    Technology resolved = TechnologyCatalog.getDefault().resolve(technology);
+    String name = resolved.name();
+    String color = resolved.color();
+    String logo = resolved.slug();
 
     return String.format("![%s](%s/badge/%s-%s?style=%s&logo=%s&logoColor=white)",
-        technology, SHIELDS_IO_BASE, technology.replace(" ", "_"), 
+        name, SHIELDS_IO_BASE, badgeLabel(name),
         color, BADGE_STYLE, logo);
   }
 
+  /**
+   * Escapes a label for a shields.io static badge path: dashes and
+   * underscores are doubled, spaces become underscores, and the result is
+   * URL-encoded (e.g. "C#" becomes "C%23").
+   *
+   * @param label the label text
+   * @return the escaped path segment
+   */
+  private static String badgeLabel(String label) {
+    String escaped = label.replace("-", "--").replace("_", "__").replace(" ", "_");
+    return URLEncoder.encode(escaped, StandardCharsets.UTF_8);
+  }
+
   /**
    * Extracts the repository path (owner/repo) from a GitHub URL.
    *
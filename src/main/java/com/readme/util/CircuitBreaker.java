@@ -0,0 +1,320 @@
+package com.readme.util;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker over a count-based sliding window of call outcomes.
+ *
+ * <p>While {@link State#CLOSED}, calls pass and their outcomes fill a ring
+ * buffer of the last {@code windowSize} calls. Once at least
+ * {@code minimumCalls} are recorded and either the failure rate or the rate of
+ * calls slower than {@code slowCallDuration} reaches its threshold, the
+ * circuit opens: calls are rejected without being attempted for
+ * {@code openDuration}. The first call after that moves the circuit to
+ * {@link State#HALF_OPEN}, where {@code halfOpenCalls} probes are let through;
+ * when they have all reported, the circuit closes if they stay under the
+ * thresholds and opens again otherwise.
+ *
+ * <p>Admission in the closed state is a single volatile read. Outcomes and
+ * transitions are serialized on a lock. Each permit remembers the state
+ * generation it was issued in, so calls that started before a transition do
+ * not count towards the state that follows it.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CircuitBreaker {
+
+  /**
+   * Circuit states.
+   */
+  public enum State {
+    /** Calls pass and are recorded. */
+    CLOSED,
+    /** Calls are rejected. */
+    OPEN,
+    /** A limited number of probe calls pass. */
+    HALF_OPEN
+  }
+
+  /**
+   * Callback notified of state transitions, on the thread that caused them.
+   */
+  @FunctionalInterface
+  public interface Listener {
+
+    /**
+     * Called after the circuit changed state.
+     *
+     * @param from the previous state
+     * @param to the new state
+     */
+    void onTransition(State from, State to);
+  }
+
+  private static final byte FAILED = 1;
+  private static final byte SLOW = 2;
+
+  private final int windowSize;
+  private final int minimumCalls;
+  private final float failureRateThreshold;
+  private final float slowCallRateThreshold;
+  private final long slowCallNanos;
+  private final long openNanos;
+  private final int halfOpenCalls;
+  private final LongSupplier clock;
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+  private final AtomicLong rejected = new AtomicLong();
+
+  private final byte[] outcomes;
+  private int recorded;
+  private int next;
+  private int failures;
+  private int slowCalls;
+
+  private volatile State state = State.CLOSED;
+  private volatile long generation;
+  private long openedAt;
+  private int probesIssued;
+
+  /**
+   * Constructs a circuit breaker.
+   *
+   * @param windowSize number of most recent calls the rates are computed over
+   * @param minimumCalls calls required before the circuit may open
+   * @param failureRateThreshold failure percentage that opens the circuit
+   * @param slowCallRateThreshold slow call percentage that opens the circuit
+   * @param slowCallDuration duration from which a call counts as slow
+   * @param openDuration how long the circuit stays open before probing
+   * @param halfOpenCalls number of probe calls in the half-open state
+   */
+  public CircuitBreaker(int windowSize, int minimumCalls, float failureRateThreshold,
+                        float slowCallRateThreshold, Duration slowCallDuration,
+                        Duration openDuration, int halfOpenCalls) {
+    this(windowSize, minimumCalls, failureRateThreshold, slowCallRateThreshold,
+        slowCallDuration, openDuration, halfOpenCalls, System::nanoTime);
+  }
+
+  /**
+   * Constructs a circuit breaker with an explicit clock.
+   *
+   * @param windowSize number of most recent calls the rates are computed over
+   * @param minimumCalls calls required before the circuit may open
+   * @param failureRateThreshold failure percentage that opens the circuit
+   * @param slowCallRateThreshold slow call percentage that opens the circuit
+   * @param slowCallDuration duration from which a call counts as slow
+   * @param openDuration how long the circuit stays open before probing
+   * @param halfOpenCalls number of probe calls in the half-open state
+   * @param clock nanosecond time source
+   */
+  CircuitBreaker(int windowSize, int minimumCalls, float failureRateThreshold,
+                 float slowCallRateThreshold, Duration slowCallDuration,
+                 Duration openDuration, int halfOpenCalls, LongSupplier clock) {
+    if (windowSize < 1 || minimumCalls < 1 || halfOpenCalls < 1) {
+      throw new IllegalArgumentException("Window size, minimum calls and half-open calls "
+          + "must be positive");
+    }
+    this.windowSize = windowSize;
+    this.minimumCalls = Math.min(minimumCalls, windowSize);
+    this.failureRateThreshold = failureRateThreshold;
+    this.slowCallRateThreshold = slowCallRateThreshold;
+    this.slowCallNanos = slowCallDuration.toNanos();
+    this.openNanos = openDuration.toNanos();
+    this.halfOpenCalls = halfOpenCalls;
+    this.clock = clock;
+    this.outcomes = new byte[windowSize];
+  }
+
+  /**
+   * Registers a transition listener.
+   *
+   * @param listener the callback
+   */
+  public void addListener(Listener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Tries to start a call.
+   *
+   * @return a permit whose outcome must be recorded, or null if the circuit
+   *     rejects the call
+   */
+  public Permit tryAcquire() {
+    long current = generation;
+    if (state == State.CLOSED) {
+      return new Permit(current, clock.getAsLong());
+    }
+
+    State from = null;
+    Permit permit = null;
+    lock.lock();
+    try {
+      long now = clock.getAsLong();
+      if (state == State.OPEN && now - openedAt >= openNanos) {
+        from = transition(State.HALF_OPEN);
+      }
+      if (state == State.CLOSED
+          || state == State.HALF_OPEN && probesIssued++ < halfOpenCalls) {
+        permit = new Permit(generation, now);
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (from != null) {
+      notifyListeners(from, State.HALF_OPEN);
+    }
+    if (permit == null) {
+      rejected.incrementAndGet();
+    }
+    return permit;
+  }
+
+  /**
+   * Returns the time until the circuit lets calls through again, for
+   * {@code Retry-After} hints.
+   *
+   * @return nanoseconds until probing starts; 0 if calls are currently admitted
+   */
+  public long getRetryAfterNanos() {
+    lock.lock();
+    try {
+      return switch (state) {
+        case CLOSED -> 0;
+        case OPEN -> Math.max(0, openNanos - (clock.getAsLong() - openedAt));
+        // Probes resolve within about one slow call
+        case HALF_OPEN -> slowCallNanos;
+      };
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the current state.
+   *
+   * @return the circuit state
+   */
+  public State getState() {
+    return state;
+  }
+
+  /**
+   * Returns the number of calls rejected since startup.
+   *
+   * @return the rejection count
+   */
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  private void record(Permit permit, boolean failed) {
+    byte outcome = (byte) ((failed ? FAILED : 0)
+        | (clock.getAsLong() - permit.startNanos >= slowCallNanos ? SLOW : 0));
+    State from = null;
+    State to = null;
+    lock.lock();
+    try {
+      if (permit.generation != generation || state == State.OPEN) {
+        return;
+      }
+      add(outcome);
+      if (state == State.CLOSED) {
+        if (recorded >= minimumCalls && exceedsThresholds()) {
+          to = State.OPEN;
+        }
+      } else if (recorded >= halfOpenCalls) {
+        to = exceedsThresholds() ? State.OPEN : State.CLOSED;
+      }
+      if (to != null) {
+        from = transition(to);
+      }
+    } finally {
+      lock.unlock();
+    }
+    if (to != null) {
+      notifyListeners(from, to);
+    }
+  }
+
+  private void add(byte outcome) {
+    if (recorded == windowSize) {
+      byte evicted = outcomes[next];
+      failures -= evicted & FAILED;
+      slowCalls -= (evicted & SLOW) >> 1;
+    } else {
+      recorded++;
+    }
+    outcomes[next] = outcome;
+    next = (next + 1) % windowSize;
+    failures += outcome & FAILED;
+    slowCalls += (outcome & SLOW) >> 1;
+  }
+
+  private boolean exceedsThresholds() {
+    return failures * 100f >= failureRateThreshold * recorded
+        || slowCalls * 100f >= slowCallRateThreshold * recorded;
+  }
+
+  /**
+   * Switches state and resets the window. Must hold the lock.
+   */
+  private State transition(State to) {
+    State from = state;
+    recorded = 0;
+    next = 0;
+    failures = 0;
+    slowCalls = 0;
+    probesIssued = 0;
+    if (to == State.OPEN) {
+      openedAt = clock.getAsLong();
+    }
+    generation++;
+    state = to;
+    return from;
+  }
+
+  private void notifyListeners(State from, State to) {
+    for (Listener listener : listeners) {
+      listener.onTransition(from, to);
+    }
+  }
+
+  /**
+   * An admitted call. Its outcome must be recorded exactly once: a half-open
+   * circuit only decides once all of its probes have reported.
+   */
+  public final class Permit {
+
+    private final long generation;
+    private final long startNanos;
+
+    private Permit(long generation, long startNanos) {
+      this.generation = generation;
+      this.startNanos = startNanos;
+    }
+
+    /**
+     * Records a call that completed normally.
+     */
+    public void success() {
+      record(this, false);
+    }
+
+    /**
+     * Records a call that failed in a way that indicates the remote side is
+     * unhealthy.
+     */
+    public void failure() {
+      record(this, true);
+    }
+  }
+}
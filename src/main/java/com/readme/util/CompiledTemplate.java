@@ -0,0 +1,94 @@
+package com.readme.util;
+
+import com.readme.dto.ReadmeRequest;
+
+/**
+ * A user-defined template compiled by {@link TemplateCompiler} into a flat
+ * array of emitters. Rendering runs the emitters in order against the
+ * request; no parsing or field lookup by name happens per request.
+ *
+ * <p>Instances are immutable and safe to share between threads.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class CompiledTemplate {
+
+  private final String id;
+  private final String version;
+  private final Emitter[] emitters;
+  private final int sizeHint;
+
+  /**
+   * Constructs a compiled template.
+   *
+   * @param id the template identifier
+   * @param version the content hash of the template source
+   * @param emitters the instructions producing the output
+   * @param sizeHint initial output buffer size
+   */
+  CompiledTemplate(String id, String version, Emitter[] emitters, int sizeHint) {
+    this.id = id;
+    this.version = version;
+    this.emitters = emitters;
+    this.sizeHint = sizeHint;
+  }
+
+  /**
+   * Renders the template for a request.
+   *
+   * @param request the README request
+   * @return the rendered markdown
+   */
+  public String render(ReadmeRequest request) {
+    StringBuilder out = new StringBuilder(sizeHint);
+    for (Emitter emitter : emitters) {
+      emitter.emit(request, null, out);
+    }
+    return out.toString();
+  }
+
+  /**
+   * Gets the template identifier.
+   *
+   * @return the template id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Gets the template version, derived from its source.
+   *
+   * @return the content hash of the source
+   */
+  public String getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets the number of top-level emitters.
+   *
+   * @return the emitter count
+   */
+  public int size() {
+    return emitters.length;
+  }
+
+  /**
+   * A compiled template instruction.
+   */
+  @FunctionalInterface
+  interface Emitter {
+
+    /**
+     * Appends output for a request.
+     *
+     * @param request the README request
+     * @param item the current list element inside a list section, otherwise null
+     * @param out the output buffer
+     */
+    void emit(ReadmeRequest request, String item, StringBuilder out);
+  }
+}
@@ -0,0 +1,45 @@
+package com.readme.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility class for content hashes used as cache keys and version tags.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ContentHash {
+
+  private ContentHash() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  /**
+   * Computes the SHA-256 of a string's UTF-8 bytes.
+   *
+   * @param content the content to hash
+   * @return the hex-encoded digest
+   */
+  public static String sha256(String content) {
+    return sha256(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Computes the SHA-256 of a byte array.
+   *
+   * @param content the content to hash
+   * @return the hex-encoded digest
+   */
+  public static String sha256(byte[] content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.readme.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Consistent hash ring assigning 64-bit key hashes to members.
+ *
+ * <p>Each member is placed on the ring at {@code virtualNodes} points derived
+ * from the SHA-256 of {@code member#i}; a key belongs to the member owning
+ * the first point at or after its hash, wrapping around. Members are sorted
+ * and deduplicated first, so every node configured with the same membership
+ * computes the same ring regardless of list order, and removing a member only
+ * moves the keys it owned.
+ *
+ * <p>The ring is immutable. Points are kept in a sorted array next to their
+ * owners, so a lookup is a binary search without allocation.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class HashRing {
+
+  private final List<String> members;
+  private final long[] points;
+  private final String[] owners;
+
+  /**
+   * Builds a ring.
+   *
+   * @param members the ring members, e.g. peer base URLs
+   * @param virtualNodes points per member; more points spread keys more evenly
+   */
+  public HashRing(List<String> members, int virtualNodes) {
+    if (members.isEmpty() || virtualNodes < 1) {
+      throw new IllegalArgumentException("A ring needs members and virtual nodes");
+    }
+    this.members = List.copyOf(new TreeSet<>(members));
+
+    int size = this.members.size() * virtualNodes;
+    long[] hashes = new long[size];
+    String[] memberOf = new String[size];
+    Integer[] order = new Integer[size];
+    int index = 0;
+    for (String member : this.members) {
+      for (int i = 0; i < virtualNodes; i++) {
+        hashes[index] = hash(ContentHash.sha256(member + "#" + i));
+        memberOf[index] = member;
+        order[index] = index;
+        index++;
+      }
+    }
+    // Ties between members are broken by member name so all nodes agree
+    Arrays.sort(order, (a, b) -> hashes[a] != hashes[b]
+        ? Long.compare(hashes[a], hashes[b]) : memberOf[a].compareTo(memberOf[b]));
+
+    this.points = new long[size];
+    this.owners = new String[size];
+    for (int i = 0; i < size; i++) {
+      points[i] = hashes[order[i]];
+      owners[i] = memberOf[order[i]];
+    }
+  }
+
+  /**
+   * Returns the member owning a key hash.
+   *
+   * @param keyHash the key hash, see {@link #hash(String)}
+   * @return the owning member
+   */
+  public String owner(long keyHash) {
+    int index = Arrays.binarySearch(points, keyHash);
+    if (index < 0) {
+      index = -index - 1;
+      if (index == points.length) {
+        index = 0;
+      }
+    } else {
+      // Several points may share a hash; the first one owns it
+      while (index > 0 && points[index - 1] == keyHash) {
+        index--;
+      }
+    }
+    return owners[index];
+  }
+
+  /**
+   * Returns the ring members in ring order.
+   *
+   * @return the sorted, distinct members
+   */
+  public List<String> members() {
+    return members;
+  }
+
+  /**
+   * Maps a hex digest, such as a {@link ContentHash#sha256(String)} result,
+   * to its position on the ring.
+   *
+   * @param hexDigest at least 16 hex digits
+   * @return the 64-bit ring position
+   */
+  public static long hash(String hexDigest) {
+    return Long.parseUnsignedLong(hexDigest.substring(0, 16), 16);
+  }
+}
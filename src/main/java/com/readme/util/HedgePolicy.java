@@ -0,0 +1,193 @@
+package com.readme.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decides when and how often idempotent reads may be hedged.
+ *
+ * <p>The hedge delay is a percentile of recently observed read latencies:
+ * the last {@value #SAMPLES} latencies are kept in a ring, and the percentile
+ * is recomputed from a sorted copy every {@value #REFRESH_INTERVAL} samples,
+ * so reads only pay for a volatile read of the cached delay. Until enough
+ * samples exist, and whenever the percentile falls outside it, the delay is
+ * clamped to {@code [minDelay, maxDelay]}.
+ *
+ * <p>Extra traffic is capped by a budget: every read earns
+ * {@code budgetPercent} hundredths of a hedge, each hedge spends a whole one,
+ * and at most {@value #MAX_BURST} hedges can be saved up. A budget of zero
+ * disables hedging.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class HedgePolicy {
+
+  private static final int SAMPLES = 512;
+  private static final int REFRESH_INTERVAL = 64;
+  private static final int MAX_BURST = 10;
+  private static final long HEDGE_COST = 100;
+
+  private final double percentile;
+  private final int budgetPercent;
+  private final long minDelayNanos;
+  private final long maxDelayNanos;
+
+  private final AtomicLongArray latencies = new AtomicLongArray(SAMPLES);
+  private final AtomicInteger sampleCount = new AtomicInteger();
+  private final ReentrantLock refreshLock = new ReentrantLock();
+  private final AtomicLong credits = new AtomicLong();
+
+  private final AtomicLong hedges = new AtomicLong();
+  private final AtomicLong wins = new AtomicLong();
+  private final AtomicLong denied = new AtomicLong();
+
+  private volatile long delayNanos;
+
+  /**
+   * Constructs a policy.
+   *
+   * @param percentile latency percentile used as hedge delay, e.g. 95
+   * @param budgetPercent hedges allowed per hundred reads; 0 disables hedging
+   * @param minDelay lowest hedge delay
+   * @param maxDelay highest hedge delay, also used until enough latencies are known
+   */
+  public HedgePolicy(double percentile, int budgetPercent, Duration minDelay,
+                     Duration maxDelay) {
+    if (percentile <= 0 || percentile > 100 || budgetPercent < 0
+        || minDelay.compareTo(maxDelay) > 0) {
+      throw new IllegalArgumentException("Invalid hedge policy");
+    }
+    this.percentile = percentile;
+    this.budgetPercent = budgetPercent;
+    this.minDelayNanos = minDelay.toNanos();
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.delayNanos = maxDelayNanos;
+  }
+
+  /**
+   * Returns a policy that never hedges.
+   *
+   * @return a disabled policy
+   */
+  public static HedgePolicy disabled() {
+    return new HedgePolicy(100, 0, Duration.ZERO, Duration.ZERO);
+  }
+
+  /**
+   * Tells whether hedging is enabled.
+   *
+   * @return false when the budget is zero
+   */
+  public boolean isEnabled() {
+    return budgetPercent > 0;
+  }
+
+  /**
+   * Returns how long to wait for a read before hedging it.
+   *
+   * @return the hedge delay in nanoseconds
+   */
+  public long getDelayNanos() {
+    return delayNanos;
+  }
+
+  /**
+   * Accounts for a read being issued, earning hedge budget.
+   */
+  public void onRead() {
+    long max = HEDGE_COST * MAX_BURST;
+    long current;
+    do {
+      current = credits.get();
+      if (current >= max) {
+        return;
+      }
+    } while (!credits.compareAndSet(current, Math.min(max, current + budgetPercent)));
+  }
+
+  /**
+   * Records the latency of a completed read.
+   *
+   * @param nanos the read latency
+   */
+  public void recordLatency(long nanos) {
+    int count = sampleCount.getAndIncrement();
+    latencies.set(count & (SAMPLES - 1), nanos);
+    if ((count + 1) % REFRESH_INTERVAL == 0 && refreshLock.tryLock()) {
+      try {
+        refreshDelay(Math.min(count + 1, SAMPLES));
+      } finally {
+        refreshLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Tries to spend budget on a hedge.
+   *
+   * @return true if the hedge may be issued
+   */
+  public boolean tryHedge() {
+    long current;
+    do {
+      current = credits.get();
+      if (current < HEDGE_COST) {
+        denied.incrementAndGet();
+        return false;
+      }
+    } while (!credits.compareAndSet(current, current - HEDGE_COST));
+    hedges.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Records that a hedge answered before the original read.
+   */
+  public void onHedgeWon() {
+    wins.incrementAndGet();
+  }
+
+  /**
+   * Returns the number of hedges issued since startup.
+   *
+   * @return the hedge count
+   */
+  public long getHedges() {
+    return hedges.get();
+  }
+
+  /**
+   * Returns the number of hedges that answered first.
+   *
+   * @return the winning hedge count
+   */
+  public long getWins() {
+    return wins.get();
+  }
+
+  /**
+   * Returns the number of hedges not issued because the budget was spent.
+   *
+   * @return the denied hedge count
+   */
+  public long getDenied() {
+    return denied.get();
+  }
+
+  private void refreshDelay(int samples) {
+    long[] sorted = new long[samples];
+    for (int i = 0; i < samples; i++) {
+      sorted[i] = latencies.get(i);
+    }
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100 * samples) - 1;
+    long value = sorted[Math.max(0, Math.min(samples - 1, index))];
+    delayNanos = Math.max(minDelayNanos, Math.min(maxDelayNanos, value));
+  }
+}
@@ -0,0 +1,812 @@
+package com.readme.util;
+
+import com.readme.model.HistoryEntry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Embedded append-only store of generated READMEs.
+ *
+ * <p>Entries are appended to a log file ({@code history-<generation>.log}).
+ * Each record carries the entry metadata and, the first time a content hash
+ * is seen, the gzip-compressed markdown; later entries with the same content
+ * point to that payload instead of storing it again. Records end with a
+ * CRC-32, and a torn record left by a crash is truncated on open.
+ *
+ * <p>A memory-mapped index ({@code history-<generation>.idx}) holds one
+ * fixed-width slot per entry: id, timestamp, hashes of the normalized
+ * project name, repository and content, and the record and payload
+ * positions. Entries are appended in time order, so ids and time ranges are
+ * binary searches, and project or repository filters compare 64-bit keys
+ * without touching the log. The index is derived data: when it is missing
+ * or behind the log it is rebuilt from the log.
+ *
+ * <p>{@link #compact(Duration, int)} applies the retention policy by copying
+ * the retained entries into a new generation, then switches to it. The files
+ * of the previous generation are kept until the next compaction, so
+ * {@link Blob} locations handed out for zero-copy transfers stay readable.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class HistoryLog implements Closeable {
+
+  private static final Pattern FILE = Pattern.compile("history-(\\d+)\\.(log|idx)(\\.tmp)?");
+
+  private static final int RECORD_MAGIC = 0x52484532;
+  private static final long INDEX_MAGIC = 0x5245414448495354L;
+  private static final int INDEX_VERSION = 1;
+  private static final int INITIAL_SLOTS = 1024;
+  private static final int MAX_NAME_LENGTH = 200;
+  private static final int MAX_LABEL_LENGTH = 100;
+  private static final int MAX_LABELS = 64;
+
+  // Index header: magic, version, slot count, log bytes covered by the slots
+  private static final int HEADER_SIZE = 64;
+  private static final int HEADER_VERSION = 8;
+  private static final int HEADER_COUNT = 16;
+  private static final int HEADER_LOG_END = 24;
+
+  // Index slot layout
+  private static final int SLOT_SIZE = 64;
+  private static final int SLOT_ID = 0;
+  private static final int SLOT_TIMESTAMP = 8;
+  private static final int SLOT_PROJECT = 16;
+  private static final int SLOT_REPOSITORY = 24;
+  private static final int SLOT_CONTENT = 32;
+  private static final int SLOT_RECORD = 40;
+  private static final int SLOT_BLOB = 48;
+  private static final int SLOT_BLOB_LENGTH = 56;
+  private static final int SLOT_KIND = 60;
+
+  // Record: magic, body length, body, CRC-32 of the body. The body holds
+  // id, timestamp, kind, SHA-256, payload offset and length, markdown size,
+  // project, repository, template, license and technologies, then the
+  // payload when stored in this record. Version 1 bodies end the metadata
+  // after the repository.
+  private static final int RECORD_HEADER = 8;
+  private static final int FIXED_FIELDS = 8 + 8 + 1 + 32 + 8 + 4 + 4;
+  private static final int BODY_FIXED = FIXED_FIELDS + 2 + 2;
+
+  private final Path directory;
+  private final LongSupplier clock;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<Long, StoredBlob> blobs = new HashMap<>();
+  private final Map<Long, Integer> latestSlots = new HashMap<>();
+
+  private long generation;
+  private long retiredGeneration = -1;
+  private Path logPath;
+  private FileChannel log;
+  private long logEnd;
+  private FileChannel indexChannel;
+  private MappedByteBuffer index;
+  private int count;
+  private long nextId = 1;
+  private long lastTimestamp;
+
+  private HistoryLog(Path directory, LongSupplier clock) {
+    this.directory = directory;
+    this.clock = clock;
+  }
+
+  /**
+   * Opens the store in a directory, creating it if needed.
+   *
+   * @param directory the store directory
+   * @return the opened store
+   * @throws IOException if the store cannot be opened
+   */
+  public static HistoryLog open(Path directory) throws IOException {
+    return open(directory, System::currentTimeMillis);
+  }
+
+  /**
+   * Opens the store with an explicit clock.
+   *
+   * @param directory the store directory
+   * @param clock epoch millisecond time source
+   * @return the opened store
+   * @throws IOException if the store cannot be opened
+   */
+  static HistoryLog open(Path directory, LongSupplier clock) throws IOException {
+    Files.createDirectories(directory);
+    long generation = 1;
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Matcher matcher = FILE.matcher(file.getFileName().toString());
+        if (matcher.matches() && "log".equals(matcher.group(2)) && matcher.group(3) == null) {
+          generation = Math.max(generation, Long.parseLong(matcher.group(1)));
+        }
+      }
+    }
+    HistoryLog history = new HistoryLog(directory, clock);
+    history.load(generation);
+    history.deleteGenerationsExcept(generation);
+    return history;
+  }
+
+  /**
+   * Records a README. An entry whose content equals the latest entry of the
+   * same kind, project and repository is not recorded again; identical
+   * content recorded for another project shares the stored payload.
+   *
+   * @param kind how the README was produced
+   * @param projectName the project name
+   * @param repository the repository URL or path; may be null
+   * @param labels the request fields the README was generated from
+   * @param markdown the README markdown
+   * @return the recorded entry, or the existing entry it duplicates
+   * @throws IOException if the entry cannot be written
+   */
+  public HistoryEntry append(HistoryEntry.Kind kind, String projectName, String repository,
+                             HistoryEntry.Labels labels, String markdown) throws IOException {
+    String project = StringUtils.left(StringUtils.defaultString(projectName), MAX_NAME_LENGTH);
+    String repo = StringUtils.left(StringUtils.defaultString(repository), MAX_NAME_LENGTH);
+    HistoryEntry.Labels bounded = new HistoryEntry.Labels(
+        StringUtils.left(labels.template(), MAX_LABEL_LENGTH),
+        StringUtils.left(labels.license(), MAX_LABEL_LENGTH),
+        labels.technologies().stream()
+            .limit(MAX_LABELS)
+            .map(technology -> StringUtils.left(technology, MAX_LABEL_LENGTH))
+            .toList());
+    byte[] content = markdown.getBytes(StandardCharsets.UTF_8);
+    byte[] sha = HexFormat.of().parseHex(ContentHash.sha256(content));
+    long contentKey = ByteBuffer.wrap(sha).getLong();
+    long projectKey = key(normalizeProject(project));
+    long repositoryKey = key(normalizeRepository(repo));
+    long streamKey = projectKey * 31 * 31 + repositoryKey * 31 + kind.ordinal();
+
+    lock.writeLock().lock();
+    try {
+      Integer latest = latestSlots.get(streamKey);
+      if (latest != null && index.getLong(slot(latest) + SLOT_CONTENT) == contentKey) {
+        return entry(latest);
+      }
+
+      StoredBlob blob = blobs.get(contentKey);
+      byte[] payload = blob == null ? gzip(content) : null;
+      long timestamp = Math.max(lastTimestamp, clock.getAsLong());
+      Record record = new Record(nextId, timestamp, kind, sha,
+          blob == null ? -1 : blob.offset(), blob == null ? payload.length : blob.length(),
+          content.length, project, repo, bounded);
+      return entry(index(record, logEnd, writeRecord(log, logEnd, record, payload)));
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Finds entries, newest first.
+   *
+   * @param projectName only entries of this project, ignoring case; null for all
+   * @param repository only entries of this repository; null for all
+   * @param since only entries recorded at or after this instant; null for no bound
+   * @param until only entries recorded before this instant; null for no bound
+   * @param limit the maximum number of entries
+   * @return the matching entries
+   * @throws IOException if the log cannot be read
+   */
+  public List<HistoryEntry> find(String projectName, String repository, Instant since,
+                                 Instant until, int limit) throws IOException {
+    String project = projectName == null ? null : normalizeProject(projectName);
+    String repo = repository == null ? null : normalizeRepository(repository);
+    long projectKey = project == null ? 0 : key(project);
+    long repositoryKey = repo == null ? 0 : key(repo);
+
+    lock.readLock().lock();
+    try {
+      int from = since == null ? 0 : lowerBound(since.toEpochMilli());
+      int to = until == null ? count : lowerBound(until.toEpochMilli());
+      List<HistoryEntry> entries = new ArrayList<>(Math.min(limit, Math.max(0, to - from)));
+      for (int i = to - 1; i >= from && entries.size() < limit; i--) {
+        int slot = slot(i);
+        if (project != null && index.getLong(slot + SLOT_PROJECT) != projectKey
+            || repo != null && index.getLong(slot + SLOT_REPOSITORY) != repositoryKey) {
+          continue;
+        }
+        HistoryEntry entry = entry(i);
+        // Keys are hashes: confirm the match on the stored names
+        if ((project == null || project.equals(normalizeProject(entry.projectName())))
+            && (repo == null || repo.equals(normalizeRepository(entry.repository())))) {
+          entries.add(entry);
+        }
+      }
+      return entries;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns an entry by id.
+   *
+   * @param id the entry id
+   * @return the entry, if retained
+   * @throws IOException if the log cannot be read
+   */
+  public Optional<HistoryEntry> get(long id) throws IOException {
+    lock.readLock().lock();
+    try {
+      int position = find(id);
+      return position < 0 ? Optional.empty() : Optional.of(entry(position));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns where the gzip-compressed markdown of an entry is stored, for
+   * transfers straight from the file.
+   *
+   * @param id the entry id
+   * @return the payload location, if the entry is retained
+   */
+  public Optional<Blob> blob(long id) {
+    lock.readLock().lock();
+    try {
+      int position = find(id);
+      if (position < 0) {
+        return Optional.empty();
+      }
+      int slot = slot(position);
+      return Optional.of(new Blob(logPath, index.getLong(slot + SLOT_BLOB),
+          index.getInt(slot + SLOT_BLOB_LENGTH)));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Reads and decompresses the markdown of an entry.
+   *
+   * @param id the entry id
+   * @return the markdown, if the entry is retained
+   * @throws IOException if the log cannot be read
+   */
+  public Optional<String> read(long id) throws IOException {
+    lock.readLock().lock();
+    try {
+      int position = find(id);
+      if (position < 0) {
+        return Optional.empty();
+      }
+      int slot = slot(position);
+      byte[] payload = readFully(log, index.getLong(slot + SLOT_BLOB),
+          index.getInt(slot + SLOT_BLOB_LENGTH));
+      try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+        return Optional.of(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Drops entries older than {@code maxAge} and all but the newest
+   * {@code maxEntries}, rewriting the retained entries into a new generation
+   * and dropping payloads no retained entry refers to.
+   *
+   * @param maxAge the retention period
+   * @param maxEntries the maximum number of entries kept
+   * @return what the compaction kept and reclaimed
+   * @throws IOException if the new generation cannot be written
+   */
+  public Compaction compact(Duration maxAge, int maxEntries) throws IOException {
+    lock.writeLock().lock();
+    try {
+      int first = Math.max(lowerBound(clock.getAsLong() - maxAge.toMillis()),
+          Math.max(0, count - maxEntries));
+      long bytesBefore = logEnd;
+      long next = generation + 1;
+      Path target = file(next, "log");
+      Path temporary = directory.resolve(target.getFileName() + ".tmp");
+
+      try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+          StandardOpenOption.WRITE)) {
+        Map<Long, Long> copied = new HashMap<>();
+        long position = 0;
+        for (int i = first; i < count; i++) {
+          int slot = slot(i);
+          Record record = readRecord(log, index.getLong(slot + SLOT_RECORD), logEnd, false);
+          long contentKey = index.getLong(slot + SLOT_CONTENT);
+          Long blobOffset = copied.get(contentKey);
+          byte[] payload = blobOffset == null
+              ? readFully(log, index.getLong(slot + SLOT_BLOB), record.blobLength()) : null;
+          Record moved = new Record(record.id(), record.timestamp(), record.kind(),
+              record.sha(), blobOffset == null ? -1 : blobOffset, record.blobLength(),
+              record.size(), record.project(), record.repository(), record.labels());
+          long end = writeRecord(out, position, moved, payload);
+          if (blobOffset == null) {
+            copied.put(contentKey, end - 4 - record.blobLength());
+          }
+          position = end;
+        }
+        out.force(true);
+      }
+      Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+
+      int removed = first;
+      closeFiles();
+      if (retiredGeneration > 0) {
+        deleteGeneration(retiredGeneration);
+      }
+      retiredGeneration = generation;
+      // Ids and timestamps keep increasing even when every entry was dropped
+      long id = nextId;
+      long timestamp = lastTimestamp;
+      load(next);
+      nextId = Math.max(nextId, id);
+      lastTimestamp = Math.max(lastTimestamp, timestamp);
+      return new Compaction(count, removed, bytesBefore, logEnd);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the number of retained entries.
+   *
+   * @return the entry count
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return count;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the id of the oldest retained entry. Compaction drops the oldest
+   * entries, so every retained id is at least this one.
+   *
+   * @return the oldest id, or the next id to be assigned when the store is empty
+   */
+  public long firstId() {
+    lock.readLock().lock();
+    try {
+      return count == 0 ? nextId : index.getLong(slot(0) + SLOT_ID);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the size of the current log.
+   *
+   * @return the log size in bytes
+   */
+  public long sizeOnDisk() {
+    lock.readLock().lock();
+    try {
+      return logEnd;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Flushes and closes the store.
+   *
+   * @throws IOException if the files cannot be flushed
+   */
+  @Override
+  public void close() throws IOException {
+    lock.writeLock().lock();
+    try {
+      closeFiles();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Opens a generation, rebuilding the index from the log where needed.
+   */
+  private void load(long generation) throws IOException {
+    this.generation = generation;
+    this.logPath = file(generation, "log");
+    blobs.clear();
+    latestSlots.clear();
+    nextId = 1;
+    lastTimestamp = 0;
+
+    log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    indexChannel = FileChannel.open(file(generation, "idx"), StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    long logSize = log.size();
+
+    count = 0;
+    logEnd = 0;
+    if (indexChannel.size() >= HEADER_SIZE) {
+      MappedByteBuffer header = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+      long slots = header.getLong(HEADER_COUNT);
+      long end = header.getLong(HEADER_LOG_END);
+      if (header.getLong(0) == INDEX_MAGIC && header.getInt(HEADER_VERSION) == INDEX_VERSION
+          && slots >= 0 && end <= logSize
+          && HEADER_SIZE + slots * SLOT_SIZE <= indexChannel.size()) {
+        count = (int) slots;
+        logEnd = end;
+      }
+    }
+    map(Math.max(INITIAL_SLOTS, Integer.highestOneBit(Math.max(1, count)) * 2));
+    for (int i = 0; i < count; i++) {
+      remember(i);
+    }
+
+    // Index the records written after the last index update; truncate a torn tail
+    long position = logEnd;
+    Record record;
+    while ((record = readRecord(log, position, logSize, true)) != null) {
+      long end = position + RECORD_HEADER + record.bodyLength() + 4;
+      index(record, position, end);
+      position = end;
+    }
+    if (position < logSize) {
+      log.truncate(position);
+    }
+  }
+
+  /**
+   * Adds a slot for a record written between {@code offset} and {@code end}
+   * and advances the index header past it.
+   *
+   * @return the new slot position
+   */
+  private int index(Record record, long offset, long end) throws IOException {
+    if (HEADER_SIZE + (long) (count + 1) * SLOT_SIZE > index.capacity()) {
+      map(count * 2);
+    }
+    long blobOffset = record.blobOffset() >= 0
+        ? record.blobOffset() : end - 4 - record.blobLength();
+    int slot = slot(count);
+    index.putLong(slot + SLOT_ID, record.id());
+    index.putLong(slot + SLOT_TIMESTAMP, record.timestamp());
+    index.putLong(slot + SLOT_PROJECT, key(normalizeProject(record.project())));
+    index.putLong(slot + SLOT_REPOSITORY, key(normalizeRepository(record.repository())));
+    index.putLong(slot + SLOT_CONTENT, ByteBuffer.wrap(record.sha()).getLong());
+    index.putLong(slot + SLOT_RECORD, offset);
+    index.putLong(slot + SLOT_BLOB, blobOffset);
+    index.putInt(slot + SLOT_BLOB_LENGTH, record.blobLength());
+    index.putInt(slot + SLOT_KIND, record.kind().ordinal());
+
+    int position = count;
+    logEnd = end;
+    count++;
+    index.putLong(HEADER_LOG_END, logEnd);
+    index.putLong(HEADER_COUNT, count);
+    remember(position);
+    return position;
+  }
+
+  private void remember(int position) {
+    int slot = slot(position);
+    long projectKey = index.getLong(slot + SLOT_PROJECT);
+    long repositoryKey = index.getLong(slot + SLOT_REPOSITORY);
+    int kind = index.getInt(slot + SLOT_KIND);
+    blobs.putIfAbsent(index.getLong(slot + SLOT_CONTENT), new StoredBlob(
+        index.getLong(slot + SLOT_BLOB), index.getInt(slot + SLOT_BLOB_LENGTH)));
+    latestSlots.put(projectKey * 31 * 31 + repositoryKey * 31 + kind, position);
+    nextId = Math.max(nextId, index.getLong(slot + SLOT_ID) + 1);
+    lastTimestamp = Math.max(lastTimestamp, index.getLong(slot + SLOT_TIMESTAMP));
+  }
+
+  private void map(int slots) throws IOException {
+    index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+        HEADER_SIZE + (long) slots * SLOT_SIZE);
+    index.putLong(0, INDEX_MAGIC);
+    index.putInt(HEADER_VERSION, INDEX_VERSION);
+    index.putLong(HEADER_COUNT, count);
+    index.putLong(HEADER_LOG_END, logEnd);
+  }
+
+  private HistoryEntry entry(int position) throws IOException {
+    int slot = slot(position);
+    Record record = readRecord(log, index.getLong(slot + SLOT_RECORD), logEnd, false);
+    return new HistoryEntry(record.id(), Instant.ofEpochMilli(record.timestamp()),
+        record.kind(), record.project(), record.repository().isEmpty() ? null
+        : record.repository(), record.labels(), HexFormat.of().formatHex(record.sha()),
+        record.size(), record.blobLength());
+  }
+
+  /**
+   * Returns the position of an entry id, or -1.
+   */
+  private int find(long id) {
+    int low = 0;
+    int high = count - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      long value = index.getLong(slot(middle) + SLOT_ID);
+      if (value < id) {
+        low = middle + 1;
+      } else if (value > id) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the position of the first entry recorded at or after a time.
+   */
+  private int lowerBound(long timestamp) {
+    int low = 0;
+    int high = count;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (index.getLong(slot(middle) + SLOT_TIMESTAMP) < timestamp) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Writes a record, with the payload when given.
+   *
+   * @return the position after the record
+   */
+  private static long writeRecord(FileChannel channel, long position, Record record,
+                                   byte[] payload) throws IOException {
+    byte[] project = record.project().getBytes(StandardCharsets.UTF_8);
+    byte[] repository = record.repository().getBytes(StandardCharsets.UTF_8);
+    byte[] template = StringUtils.defaultString(record.labels().template())
+        .getBytes(StandardCharsets.UTF_8);
+    byte[] license = StringUtils.defaultString(record.labels().license())
+        .getBytes(StandardCharsets.UTF_8);
+    List<byte[]> technologies = record.labels().technologies().stream()
+        .map(technology -> technology.getBytes(StandardCharsets.UTF_8))
+        .toList();
+    int bodyLength = BODY_FIXED + project.length + repository.length
+        + 2 + template.length + 2 + license.length + 2
+        + (payload == null ? 0 : payload.length);
+    for (byte[] technology : technologies) {
+      bodyLength += 2 + technology.length;
+    }
+
+    ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + bodyLength + 4);
+    buffer.putInt(RECORD_MAGIC).putInt(bodyLength)
+        .putLong(record.id())
+        .putLong(record.timestamp())
+        .put((byte) record.kind().ordinal())
+        .put(record.sha())
+        .putLong(record.blobOffset())
+        .putInt(record.blobLength())
+        .putInt(record.size())
+        .putShort((short) project.length).put(project)
+        .putShort((short) repository.length).put(repository)
+        .putShort((short) template.length).put(template)
+        .putShort((short) license.length).put(license)
+        .putShort((short) technologies.size());
+    for (byte[] technology : technologies) {
+      buffer.putShort((short) technology.length).put(technology);
+    }
+    if (payload != null) {
+      buffer.put(payload);
+    }
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), RECORD_HEADER, bodyLength);
+    buffer.putInt((int) crc.getValue()).flip();
+
+    long end = position + buffer.remaining();
+    while (buffer.hasRemaining()) {
+      position += channel.write(buffer, position);
+    }
+    return end;
+  }
+
+  /**
+   * Reads the record at a position.
+   *
+   * @param verify whether to read the whole record and check its CRC
+   * @return the record, or null if no complete, valid record starts there
+   */
+  private static Record readRecord(FileChannel channel, long position, long limit,
+                                   boolean verify) throws IOException {
+    if (position + RECORD_HEADER + FIXED_FIELDS > limit) {
+      return null;
+    }
+    ByteBuffer header = ByteBuffer.wrap(
+        readFully(channel, position, RECORD_HEADER + FIXED_FIELDS));
+    int magic = header.getInt(0);
+    int bodyLength = header.getInt(4);
+    if (magic != RECORD_MAGIC || bodyLength < BODY_FIXED
+        || position + RECORD_HEADER + bodyLength + 4 > limit) {
+      return null;
+    }
+
+    ByteBuffer body;
+    if (verify) {
+      body = ByteBuffer.wrap(readFully(channel, position + RECORD_HEADER, bodyLength + 4));
+      CRC32 crc = new CRC32();
+      crc.update(body.array(), 0, bodyLength);
+      if ((int) crc.getValue() != body.getInt(bodyLength)) {
+        return null;
+      }
+    } else {
+      // Skip the payload stored after the metadata, if any: the fixed fields
+      // end with the payload offset (-1 when inline), its length and the size
+      long inlineOffset = header.getLong(RECORD_HEADER + FIXED_FIELDS - 16);
+      int inlineLength = inlineOffset < 0 ? header.getInt(RECORD_HEADER + FIXED_FIELDS - 8) : 0;
+      body = ByteBuffer.wrap(readFully(channel, position + RECORD_HEADER,
+          bodyLength - inlineLength));
+    }
+
+    long id = body.getLong();
+    long timestamp = body.getLong();
+    HistoryEntry.Kind kind = HistoryEntry.Kind.values()[body.get()];
+    byte[] sha = new byte[32];
+    body.get(sha);
+    long blobOffset = body.getLong();
+    int blobLength = body.getInt();
+    int size = body.getInt();
+    String project = string(body);
+    String repository = string(body);
+    String template = string(body);
+    String license = string(body);
+    int technologyCount = body.getShort();
+    List<String> technologies = new ArrayList<>(technologyCount);
+    for (int i = 0; i < technologyCount; i++) {
+      technologies.add(string(body));
+    }
+    HistoryEntry.Labels labels = new HistoryEntry.Labels(StringUtils.stripToNull(template),
+        StringUtils.stripToNull(license), technologies);
+    return new Record(id, timestamp, kind, sha, blobOffset, blobLength, size, project,
+        repository, labels, bodyLength);
+  }
+
+  private static String string(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getShort()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static byte[] readFully(FileChannel channel, long position, int length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("History log truncated at " + position);
+      }
+    }
+    return buffer.array();
+  }
+
+  private static byte[] gzip(byte[] content) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 3 + 64);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(content);
+    }
+    return out.toByteArray();
+  }
+
+  private static long key(String normalized) {
+    return normalized.isEmpty() ? 0
+        : Long.parseUnsignedLong(ContentHash.sha256(normalized).substring(0, 16), 16);
+  }
+
+  private static String normalizeProject(String projectName) {
+    return StringUtils.defaultString(projectName).trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static String normalizeRepository(String repository) {
+    String normalized = StringUtils.defaultString(repository).trim().toLowerCase(Locale.ROOT);
+    normalized = StringUtils.removeEnd(StringUtils.removeEnd(normalized, "/"), ".git");
+    return normalized;
+  }
+
+  private static int slot(int position) {
+    return HEADER_SIZE + position * SLOT_SIZE;
+  }
+
+  private Path file(long generation, String extension) {
+    return directory.resolve("history-" + generation + "." + extension);
+  }
+
+  private void closeFiles() throws IOException {
+    if (log != null && log.isOpen()) {
+      index.force();
+      log.force(true);
+      indexChannel.close();
+      log.close();
+    }
+  }
+
+  private void deleteGeneration(long generation) throws IOException {
+    Files.deleteIfExists(file(generation, "log"));
+    Files.deleteIfExists(file(generation, "idx"));
+  }
+
+  private void deleteGenerationsExcept(long generation) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Matcher matcher = FILE.matcher(file.getFileName().toString());
+        if (matcher.matches()
+            && (Long.parseLong(matcher.group(1)) != generation || matcher.group(3) != null)) {
+          Files.deleteIfExists(file);
+        }
+      }
+    }
+  }
+
+  /**
+   * Location of a gzip-compressed markdown payload in a log file.
+   *
+   * @param file the log file
+   * @param offset the payload position
+   * @param length the payload length
+   */
+  public record Blob(Path file, long offset, int length) {
+  }
+
+  /**
+   * Outcome of a compaction.
+   *
+   * @param kept the number of entries retained
+   * @param removed the number of entries dropped
+   * @param bytesBefore the log size before compaction
+   * @param bytesAfter the log size after compaction
+   */
+  public record Compaction(int kept, int removed, long bytesBefore, long bytesAfter) {
+  }
+
+  private record StoredBlob(long offset, int length) {
+  }
+
+  /**
+   * Decoded log record; {@code blobOffset} is -1 when the payload follows
+   * the metadata in the same record.
+   */
+  private record Record(long id, long timestamp, HistoryEntry.Kind kind, byte[] sha,
+                        long blobOffset, int blobLength, int size, String project,
+                        String repository, HistoryEntry.Labels labels, int bodyLength) {
+
+    Record(long id, long timestamp, HistoryEntry.Kind kind, byte[] sha, long blobOffset,
+           int blobLength, int size, String project, String repository,
+           HistoryEntry.Labels labels) {
+      this(id, timestamp, kind, sha, blobOffset, blobLength, size, project, repository,
+          labels, 0);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.readme.util;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Utility class for sanitizing raw HTML embedded in Markdown.
+ * Keeps the small set of tags GitHub READMEs commonly use for layout
+ * (centered blocks, images, line breaks) and escapes everything else.
+ *
+ * <p>Allowed tags are re-emitted from their parsed name and whitelisted
+ * attributes only, so event handlers, inline styles and script URLs never
+ * reach the output.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class HtmlSanitizer {
+
+  private static final Pattern TAG = Pattern.compile("<(/?)([a-zA-Z][a-zA-Z0-9]*)([^>]*)>");
+  private static final Pattern ATTRIBUTE =
+      Pattern.compile("([a-zA-Z-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+  private static final Pattern SAFE_URL =
+      Pattern.compile("^(https?://|#|/|\\./|[a-zA-Z0-9_.-]+(/|$)).*", Pattern.DOTALL);
+  private static final Pattern ENTITY =
+      Pattern.compile("&(#[0-9]{1,7}|#x[0-9a-fA-F]{1,6}|[a-zA-Z][a-zA-Z0-9]{1,31});");
+
+  private static final Set<String> VOID_TAGS = Set.of("br", "hr", "img", "source");
+
+  private static final Map<String, Set<String>> ALLOWED = Map.ofEntries(
+      Map.entry("div", Set.of("align")),
+      Map.entry("p", Set.of("align")),
+      Map.entry("span", Set.of()),
+      Map.entry("br", Set.of()),
+      Map.entry("hr", Set.of()),
+      Map.entry("a", Set.of("href", "title")),
+      Map.entry("img", Set.of("src", "alt", "title", "width", "height", "align")),
+      Map.entry("picture", Set.of()),
+      Map.entry("source", Set.of("srcset", "media")),
+      Map.entry("b", Set.of()),
+      Map.entry("i", Set.of()),
+      Map.entry("strong", Set.of()),
+      Map.entry("em", Set.of()),
+      Map.entry("code", Set.of()),
+      Map.entry("kbd", Set.of()),
+      Map.entry("sub", Set.of()),
+      Map.entry("sup", Set.of()),
+      Map.entry("details", Set.of()),
+      Map.entry("summary", Set.of()),
+      Map.entry("h1", Set.of("align")),
+      Map.entry("h2", Set.of("align")),
+      Map.entry("h3", Set.of("align"))
+  );
+
+  private static final Set<String> URL_ATTRIBUTES = Set.of("href", "src", "srcset");
+
+  private HtmlSanitizer() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  /**
+   * Sanitizes an HTML fragment.
+   *
+   * @param html the raw HTML
+   * @return the HTML with only whitelisted tags and attributes left unescaped
+   */
+  public static String sanitize(String html) {
+    if (html == null || html.isEmpty()) {
+      return "";
+    }
+
+    StringBuilder out = new StringBuilder(html.length());
+    Matcher tag = TAG.matcher(html);
+    int last = 0;
+
+    while (tag.find()) {
+      escape(html, last, tag.start(), out);
+      String name = tag.group(2).toLowerCase();
+      Set<String> attributes = ALLOWED.get(name);
+
+      if (attributes == null) {
+        escape(html, tag.start(), tag.end(), out);
+      } else if (!tag.group(1).isEmpty()) {
+        if (!VOID_TAGS.contains(name)) {
+          out.append("</").append(name).append('>');
+        }
+      } else {
+        appendOpeningTag(name, tag.group(3), attributes, out);
+      }
+      last = tag.end();
+    }
+
+    escape(html, last, html.length(), out);
+    return out.toString();
+  }
+
+  private static void appendOpeningTag(String name, String rawAttributes,
+                                       Set<String> allowed, StringBuilder out) {
+    out.append('<').append(name);
+    Matcher attribute = ATTRIBUTE.matcher(rawAttributes);
+    while (attribute.find()) {
+      String key = attribute.group(1).toLowerCase();
+      String value = attribute.group(2) != null ? attribute.group(2) : attribute.group(3);
+      if (!allowed.contains(key)) {
+        continue;
+      }
+      if (URL_ATTRIBUTES.contains(key) && !SAFE_URL.matcher(value.trim()).matches()) {
+        continue;
+      }
+      out.append(' ').append(key).append("=\"");
+      escape(value, 0, value.length(), out);
+      out.append('"');
+    }
+    out.append('>');
+  }
+
+  private static void escape(String text, int from, int to, StringBuilder out) {
+    Matcher entity = ENTITY.matcher(text);
+    for (int i = from; i < to; i++) {
+      char c = text.charAt(i);
+      if (c == '&' && entity.region(i, to).lookingAt()) {
+        out.append(text, i, entity.end());
+        i = entity.end() - 1;
+        continue;
+      }
+      switch (c) {
+        case '<' -> out.append("&lt;");
+        case '>' -> out.append("&gt;");
+        case '&' -> out.append("&amp;");
+        case '"' -> out.append("&quot;");
+        case '\'' -> out.append("&#39;");
+        default -> out.append(c);
+      }
+    }
+  }
+}
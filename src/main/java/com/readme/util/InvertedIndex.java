@@ -0,0 +1,307 @@
+package com.readme.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index mapping terms to the ids of the documents that
+ * contain them.
+ *
+ * <p>Documents are added in increasing id order, so each postings list is
+ * appended to in place and stored as variable-length deltas between
+ * consecutive ids: a list of dense ids costs about one byte per posting.
+ * Queries decode the shortest list of the query and intersect the others
+ * with it in a single merge pass each.
+ *
+ * <p>Facets are ordinary terms sharing a prefix, such as
+ * {@code technology:java}; {@link #facetCounts(String, long[], int)} counts
+ * each of them within a result set. Text tokens never contain {@code ':'},
+ * so they cannot collide with facet terms.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class InvertedIndex {
+
+  private static final int MIN_TOKEN_LENGTH = 2;
+  private static final int MAX_TOKEN_LENGTH = 32;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final TreeMap<String, Postings> terms = new TreeMap<>();
+  private Postings documents = new Postings();
+
+  /**
+   * Adds a document.
+   *
+   * @param id the document id, greater than every id added before
+   * @param documentTerms the distinct terms of the document
+   * @throws IllegalArgumentException if the id is not greater than the last one
+   */
+  public void add(long id, Set<String> documentTerms) {
+    lock.writeLock().lock();
+    try {
+      if (documents.count > 0 && id <= documents.last) {
+        throw new IllegalArgumentException("Document " + id + " added after " + documents.last);
+      }
+      documents.add(id);
+      for (String term : documentTerms) {
+        terms.computeIfAbsent(term, key -> new Postings()).add(id);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the documents containing all the given terms.
+   *
+   * @param required the terms; empty matches every document
+   * @return the matching ids, ascending
+   */
+  public long[] search(Set<String> required) {
+    lock.readLock().lock();
+    try {
+      if (required.isEmpty()) {
+        return documents.decode();
+      }
+      List<Postings> lists = new ArrayList<>(required.size());
+      for (String term : required) {
+        Postings postings = terms.get(term);
+        if (postings == null) {
+          return new long[0];
+        }
+        lists.add(postings);
+      }
+      lists.sort(Comparator.comparingInt(postings -> postings.count));
+
+      long[] result = lists.get(0).decode();
+      for (int i = 1; i < lists.size() && result.length > 0; i++) {
+        result = lists.get(i).intersect(result);
+      }
+      return result;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Counts, for every term starting with a prefix, how many of the given
+   * documents contain it.
+   *
+   * @param prefix the facet prefix, e.g. {@code technology:}
+   * @param matches document ids, ascending, as returned by {@link #search(Set)}
+   * @param limit the maximum number of values returned
+   * @return the facet values without the prefix, by decreasing count
+   */
+  public Map<String, Integer> facetCounts(String prefix, long[] matches, int limit) {
+    lock.readLock().lock();
+    try {
+      boolean all = matches.length == documents.count;
+      List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+      for (Map.Entry<String, Postings> entry
+          : terms.subMap(prefix, prefix + Character.MAX_VALUE).entrySet()) {
+        int count = all ? entry.getValue().count : entry.getValue().countIn(matches);
+        if (count > 0) {
+          counts.add(Map.entry(entry.getKey().substring(prefix.length()), count));
+        }
+      }
+      counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+          .thenComparing(Map.Entry.comparingByKey()));
+
+      Map<String, Integer> facets = new LinkedHashMap<>();
+      for (Map.Entry<String, Integer> count : counts.subList(0, Math.min(limit, counts.size()))) {
+        facets.put(count.getKey(), count.getValue());
+      }
+      return facets;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Drops the documents with an id lower than the given one, re-encoding the
+   * postings lists and dropping terms left without documents.
+   *
+   * @param id the lowest id kept
+   */
+  public void removeBefore(long id) {
+    lock.writeLock().lock();
+    try {
+      documents = documents.retainFrom(id);
+      Iterator<Map.Entry<String, Postings>> iterator = terms.entrySet().iterator();
+      while (iterator.hasNext()) {
+        Map.Entry<String, Postings> entry = iterator.next();
+        Postings retained = entry.getValue().retainFrom(id);
+        if (retained.count == 0) {
+          iterator.remove();
+        } else {
+          entry.setValue(retained);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Returns the number of indexed documents.
+   *
+   * @return the document count
+   */
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.count;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Splits text into lowercase tokens of letters and digits, 2 to 32
+   * characters long.
+   *
+   * @param text the text; may be null
+   * @return the distinct tokens
+   */
+  public static Set<String> tokenize(String text) {
+    Set<String> tokens = new HashSet<>();
+    if (text == null) {
+      return tokens;
+    }
+    int start = -1;
+    for (int i = 0; i <= text.length(); i++) {
+      boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+      if (word && start < 0) {
+        start = i;
+      } else if (!word && start >= 0) {
+        int length = i - start;
+        if (length >= MIN_TOKEN_LENGTH && length <= MAX_TOKEN_LENGTH) {
+          tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        }
+        start = -1;
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * Ascending ids stored as varint-encoded deltas.
+   */
+  private static final class Postings {
+
+    private byte[] data = new byte[4];
+    private int length;
+    private int count;
+    private long last;
+
+    void add(long id) {
+      if (length + 10 > data.length) {
+        data = Arrays.copyOf(data, Math.max(data.length * 2, length + 10));
+      }
+      long delta = count == 0 ? id : id - last;
+      while ((delta & ~0x7FL) != 0) {
+        data[length++] = (byte) (delta & 0x7F | 0x80);
+        delta >>>= 7;
+      }
+      data[length++] = (byte) delta;
+      last = id;
+      count++;
+    }
+
+    long[] decode() {
+      long[] ids = new long[count];
+      Cursor cursor = new Cursor();
+      for (int i = 0; i < count; i++) {
+        ids[i] = cursor.next();
+      }
+      return ids;
+    }
+
+    /**
+     * Returns the ids of {@code sorted} that are also in this list.
+     */
+    long[] intersect(long[] sorted) {
+      long[] result = new long[Math.min(count, sorted.length)];
+      int size = 0;
+      Cursor cursor = new Cursor();
+      int j = 0;
+      for (int i = 0; i < count && j < sorted.length; i++) {
+        long id = cursor.next();
+        while (j < sorted.length && sorted[j] < id) {
+          j++;
+        }
+        if (j < sorted.length && sorted[j] == id) {
+          result[size++] = id;
+          j++;
+        }
+      }
+      return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    int countIn(long[] sorted) {
+      int matches = 0;
+      Cursor cursor = new Cursor();
+      int j = 0;
+      for (int i = 0; i < count && j < sorted.length; i++) {
+        long id = cursor.next();
+        while (j < sorted.length && sorted[j] < id) {
+          j++;
+        }
+        if (j < sorted.length && sorted[j] == id) {
+          matches++;
+          j++;
+        }
+      }
+      return matches;
+    }
+
+    Postings retainFrom(long id) {
+      if (count == 0 || last < id) {
+        return new Postings();
+      }
+      Postings retained = new Postings();
+      Cursor cursor = new Cursor();
+      for (int i = 0; i < count; i++) {
+        long next = cursor.next();
+        if (next >= id) {
+          retained.add(next);
+        }
+      }
+      return retained;
+    }
+
+    /**
+     * Sequential decoder over the deltas.
+     */
+    private final class Cursor {
+
+      private int position;
+      private long id;
+
+      long next() {
+        long delta = 0;
+        int shift = 0;
+        byte value;
+        do {
+          value = data[position++];
+          delta |= (long) (value & 0x7F) << shift;
+          shift += 7;
+        } while (value < 0);
+        id += delta;
+        return id;
+      }
+    }
+  }
+}
@@ -0,0 +1,327 @@
+package com.readme.util;
+
+import com.readme.model.License;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Corpus of full SPDX license texts, loaded from the single
+ * {@code catalog/licenses.txt} resource.
+ *
+ * <p>The resource starts with an index of tab-separated
+ * {@code id, name, aliases, offset, length} lines, followed by a {@code %%}
+ * line and the concatenated license texts; offsets and lengths are byte
+ * positions in that text block. When the resource is a plain file it is
+ * memory-mapped, otherwise (inside an archive) it is read once into a direct
+ * buffer. License texts are never copied onto the heap: {@link #text(License)}
+ * returns a read-only slice of that buffer.
+ *
+ * <p>Texts may contain {@code {{year}}} and {@code {{holder}}} placeholders,
+ * located once at load time. {@link #render(License, int, String)} returns the
+ * plain slice for texts without placeholders; other texts are assembled from
+ * the slices between placeholders and kept in a bounded cache keyed by
+ * license, year and holder.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LicenseCorpus {
+
+  private static final String RESOURCE = "/catalog/licenses.txt";
+  private static final String SEPARATOR = "%%";
+  private static final byte[] YEAR = "{{year}}".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] HOLDER = "{{holder}}".getBytes(StandardCharsets.UTF_8);
+  private static final int RENDER_CACHE_SIZE = 256;
+
+  private final ByteBuffer texts;
+  private final List<License> licenses;
+  private final Map<String, Entry> index;
+  private final LruCache<RenderKey, ByteBuffer> rendered = new LruCache<>(RENDER_CACHE_SIZE);
+
+  private LicenseCorpus(ByteBuffer texts, List<License> licenses, Map<String, Entry> index) {
+    this.texts = texts;
+    this.licenses = licenses;
+    this.index = index;
+  }
+
+  /**
+   * Returns the corpus loaded from the bundled resource.
+   *
+   * @return the default corpus
+   */
+  public static LicenseCorpus getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Memory-maps a corpus file.
+   *
+   * @param path the corpus file
+   * @return the loaded corpus
+   * @throws IOException if the file cannot be mapped or is malformed
+   */
+  public static LicenseCorpus map(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return load(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Loads a corpus from its index and texts. The buffer is sliced, not
+   * copied, and must not be modified afterwards.
+   *
+   * @param data the corpus data, from its position to its limit
+   * @return the loaded corpus
+   * @throws IOException if the index is malformed or points outside the texts
+   */
+  public static LicenseCorpus load(ByteBuffer data) throws IOException {
+    ByteBuffer corpus = data.slice();
+    List<String[]> lines = new ArrayList<>();
+    int textStart = -1;
+    int position = 0;
+    int lineNumber = 0;
+    while (position < corpus.limit()) {
+      int end = position;
+      while (end < corpus.limit() && corpus.get(end) != '\n') {
+        end++;
+      }
+      byte[] bytes = new byte[end - position];
+      corpus.get(position, bytes);
+      String line = new String(bytes, StandardCharsets.UTF_8);
+      position = end + 1;
+      lineNumber++;
+
+      if (line.equals(SEPARATOR)) {
+        textStart = Math.min(position, corpus.limit());
+        break;
+      }
+      if (line.isBlank() || line.startsWith("#")) {
+        continue;
+      }
+      String[] fields = line.split("\t", -1);
+      if (fields.length != 5) {
+        throw new IOException("Malformed license corpus line " + lineNumber);
+      }
+      lines.add(fields);
+    }
+    if (textStart < 0) {
+      throw new IOException("License corpus has no " + SEPARATOR + " separator");
+    }
+
+    ByteBuffer texts = corpus.slice(textStart, corpus.limit() - textStart).asReadOnlyBuffer();
+    List<License> licenses = new ArrayList<>(lines.size());
+    Map<String, Entry> index = new HashMap<>();
+    for (String[] fields : lines) {
+      int offset;
+      int length;
+      try {
+        offset = Integer.parseInt(fields[3]);
+        length = Integer.parseInt(fields[4]);
+      } catch (NumberFormatException e) {
+        throw new IOException("Malformed offsets for license " + fields[0], e);
+      }
+      if (offset < 0 || length < 0 || offset > texts.limit() - length) {
+        throw new IOException("License " + fields[0] + " lies outside the corpus");
+      }
+
+      List<String> aliases = fields[2].isEmpty() ? List.of() : List.of(fields[2].split(","));
+      License license = new License(fields[0], fields[1], aliases);
+      Entry entry = new Entry(license, offset, length, placeholders(texts, offset, length));
+      licenses.add(license);
+      index.putIfAbsent(key(license.id()), entry);
+      for (String alias : aliases) {
+        index.putIfAbsent(key(alias), entry);
+      }
+    }
+    return new LicenseCorpus(texts, List.copyOf(licenses), Map.copyOf(index));
+  }
+
+  /**
+   * Returns the licenses in corpus order.
+   *
+   * @return the bundled licenses
+   */
+  public List<License> licenses() {
+    return licenses;
+  }
+
+  /**
+   * Finds a license by SPDX identifier or alias, ignoring case.
+   *
+   * @param id the license identifier
+   * @return the license, if bundled
+   */
+  public Optional<License> find(String id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    Entry entry = index.get(key(id));
+    return entry == null ? Optional.empty() : Optional.of(entry.license());
+  }
+
+  /**
+   * Returns the raw license text, placeholders included.
+   *
+   * @param license a license of this corpus
+   * @return a read-only slice of the corpus
+   */
+  public ByteBuffer text(License license) {
+    Entry entry = entry(license);
+    return texts.slice(entry.offset(), entry.length());
+  }
+
+  /**
+   * Returns the license text with the year and copyright holder substituted.
+   *
+   * @param license a license of this corpus
+   * @param year the copyright year
+   * @param holder the copyright holder
+   * @return a read-only buffer with the UTF-8 text, owned by the caller
+   */
+  public ByteBuffer render(License license, int year, String holder) {
+    Entry entry = entry(license);
+    if (entry.placeholders().isEmpty()) {
+      return texts.slice(entry.offset(), entry.length());
+    }
+    return rendered.computeIfAbsent(new RenderKey(license.id(), year, holder),
+        key -> substitute(entry, year, holder)).duplicate();
+  }
+
+  /**
+   * Returns the number of licenses in the corpus.
+   *
+   * @return the corpus size
+   */
+  public int size() {
+    return licenses.size();
+  }
+
+  private Entry entry(License license) {
+    Entry entry = index.get(key(license.id()));
+    if (entry == null || !entry.license().equals(license)) {
+      throw new IllegalArgumentException("License not in corpus: " + license.id());
+    }
+    return entry;
+  }
+
+  private ByteBuffer substitute(Entry entry, int year, String holder) {
+    byte[] yearValue = Integer.toString(year).getBytes(StandardCharsets.UTF_8);
+    byte[] holderValue = holder.getBytes(StandardCharsets.UTF_8);
+    int size = entry.length();
+    for (Placeholder placeholder : entry.placeholders()) {
+      size += placeholder.holder()
+          ? holderValue.length - HOLDER.length : yearValue.length - YEAR.length;
+    }
+
+    byte[] text = new byte[size];
+    int from = 0;
+    int to = 0;
+    for (Placeholder placeholder : entry.placeholders()) {
+      int chunk = placeholder.offset() - from;
+      texts.get(entry.offset() + from, text, to, chunk);
+      to += chunk;
+      byte[] value = placeholder.holder() ? holderValue : yearValue;
+      System.arraycopy(value, 0, text, to, value.length);
+      to += value.length;
+      from = placeholder.offset() + (placeholder.holder() ? HOLDER.length : YEAR.length);
+    }
+    texts.get(entry.offset() + from, text, to, entry.length() - from);
+    return ByteBuffer.wrap(text).asReadOnlyBuffer();
+  }
+
+  private static List<Placeholder> placeholders(ByteBuffer texts, int offset, int length) {
+    List<Placeholder> placeholders = new ArrayList<>();
+    int end = offset + length;
+    for (int i = offset; i < end - 1; i++) {
+      if (texts.get(i) != '{' || texts.get(i + 1) != '{') {
+        continue;
+      }
+      if (matches(texts, i, end, YEAR)) {
+        placeholders.add(new Placeholder(i - offset, false));
+        i += YEAR.length - 1;
+      } else if (matches(texts, i, end, HOLDER)) {
+        placeholders.add(new Placeholder(i - offset, true));
+        i += HOLDER.length - 1;
+      }
+    }
+    return List.copyOf(placeholders);
+  }
+
+  private static boolean matches(ByteBuffer texts, int at, int end, byte[] token) {
+    if (end - at < token.length) {
+      return false;
+    }
+    for (int i = 0; i < token.length; i++) {
+      if (texts.get(at + i) != token[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static String key(String id) {
+    return id.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Location of a license text in the corpus.
+   */
+  private record Entry(License license, int offset, int length,
+                       List<Placeholder> placeholders) {
+  }
+
+  /**
+   * Placeholder position relative to the start of its license text.
+   */
+  private record Placeholder(int offset, boolean holder) {
+  }
+
+  /**
+   * Cache key of a substituted license text.
+   */
+  private record RenderKey(String id, int year, String holder) {
+  }
+
+  /**
+   * Lazily maps the bundled corpus on first use.
+   */
+  private static final class Holder {
+
+    private static final LicenseCorpus INSTANCE = loadDefault();
+
+    private static LicenseCorpus loadDefault() {
+      URL url = LicenseCorpus.class.getResource(RESOURCE);
+      if (url == null) {
+        throw new IllegalStateException("License corpus not found: " + RESOURCE);
+      }
+      try {
+        if ("file".equals(url.getProtocol())) {
+          return map(Path.of(url.toURI()));
+        }
+        try (InputStream input = url.openStream()) {
+          byte[] data = input.readAllBytes();
+          return load(ByteBuffer.allocateDirect(data.length).put(data).flip());
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to load license corpus", e);
+      } catch (URISyntaxException e) {
+        throw new IllegalStateException("Invalid license corpus location: " + url, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.readme.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Small bounded least-recently-used cache.
+ * Backed by an access-ordered {@link LinkedHashMap} guarded by a
+ * {@link ReentrantLock}, so callers on virtual threads are never pinned.
+ *
+ * <p>Values are computed outside the lock; two threads missing on the same
+ * key at once may both compute it, and the last one stored wins.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LruCache<K, V> {
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Map<K, V> entries;
+
+  /**
+   * Creates a cache holding at most {@code maxSize} entries.
+   *
+   * @param maxSize the maximum number of entries
+   */
+  public LruCache(int maxSize) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("Cache size must be positive");
+    }
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached value for a key.
+   *
+   * @param key the key
+   * @return the value, or null if absent
+   */
+  public V get(K key) {
+    lock.lock();
+    try {
+      return entries.get(key);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stores a value, evicting the least recently used entry when full.
+   *
+   * @param key the key
+   * @param value the value
+   */
+  public void put(K key, V value) {
+    lock.lock();
+    try {
+      entries.put(key, value);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the cached value for a key, computing and storing it on a miss.
+   *
+   * @param key the key
+   * @param loader computes the value on a miss
+   * @return the cached or computed value
+   */
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> loader) {
+    V value = get(key);
+    if (value == null) {
+      value = loader.apply(key);
+      put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the number of cached entries.
+   *
+   * @return the entry count
+   */
+  public int size() {
+    lock.lock();
+    try {
+      return entries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+}
@@ -0,0 +1,242 @@
+package com.readme.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact immutable trie mapping string keys to int values, with ranked
+ * prefix suggestions.
+ *
+ * <p>Nodes are stored in flat arrays in breadth-first order, so the children
+ * of a node are contiguous and sorted by label and can be binary searched.
+ * Every node also stores the best {@code topK} values of its subtree, where
+ * a lower value ranks higher. A suggestion lookup is therefore a walk down
+ * the prefix followed by a copy, independent of how many keys share it.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PrefixTrie {
+
+  private static final int ROOT = 0;
+
+  private final char[] labels;
+  private final int[] firstChild;
+  private final int[] childCount;
+  private final int[] values;
+  private final int[] topStart;
+  private final int[] topValues;
+
+  private PrefixTrie(char[] labels, int[] firstChild, int[] childCount, int[] values,
+                     int[] topStart, int[] topValues) {
+    this.labels = labels;
+    this.firstChild = firstChild;
+    this.childCount = childCount;
+    this.values = values;
+    this.topStart = topStart;
+    this.topValues = topValues;
+  }
+
+  /**
+   * Creates a builder.
+   *
+   * @param topK the number of ranked suggestions kept per node
+   * @return a new builder
+   */
+  public static Builder builder(int topK) {
+    return new Builder(topK);
+  }
+
+  /**
+   * Looks up the value of an exact key.
+   *
+   * @param key the key
+   * @return the value, or -1 if the key is absent
+   */
+  public int get(CharSequence key) {
+    int node = walk(key);
+    return node < 0 ? -1 : values[node];
+  }
+
+  /**
+   * Returns the best-ranked values of all keys starting with a prefix.
+   *
+   * @param prefix the prefix; empty for the overall best values
+   * @param limit the maximum number of values, capped at the builder's topK
+   * @return the values in rank order (lowest first)
+   */
+  public int[] suggest(CharSequence prefix, int limit) {
+    int node = walk(prefix);
+    if (node < 0 || limit <= 0) {
+      return new int[0];
+    }
+    int from = topStart[node];
+    int to = Math.min(topStart[node + 1], from + limit);
+    return Arrays.copyOfRange(topValues, from, to);
+  }
+
+  /**
+   * Returns the number of nodes, a measure of the trie's size.
+   *
+   * @return the node count
+   */
+  public int nodeCount() {
+    return labels.length;
+  }
+
+  private int walk(CharSequence key) {
+    int node = ROOT;
+    for (int i = 0; i < key.length() && node >= 0; i++) {
+      node = child(node, key.charAt(i));
+    }
+    return node;
+  }
+
+  private int child(int node, char label) {
+    int low = firstChild[node];
+    int high = low + childCount[node] - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      char candidate = labels[mid];
+      if (candidate < label) {
+        low = mid + 1;
+      } else if (candidate > label) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Mutable builder; keys are collected in a pointer trie and flattened by
+   * {@link #build()}.
+   */
+  public static final class Builder {
+
+    private final int topK;
+    private final MutableNode root = new MutableNode('\0');
+    private int size = 1;
+
+    private Builder(int topK) {
+      if (topK < 1) {
+        throw new IllegalArgumentException("topK must be positive");
+      }
+      this.topK = topK;
+    }
+
+    /**
+     * Adds a key. When a key is added twice the better-ranked (lower) value
+     * is kept.
+     *
+     * @param key the key
+     * @param value a non-negative value; lower values rank higher
+     * @return this builder
+     */
+    public Builder put(CharSequence key, int value) {
+      if (value < 0) {
+        throw new IllegalArgumentException("Values must be non-negative");
+      }
+      MutableNode node = root;
+      for (int i = 0; i < key.length(); i++) {
+        char label = key.charAt(i);
+        MutableNode next = node.children.get(label);
+        if (next == null) {
+          next = new MutableNode(label);
+          node.children.put(label, next);
+          size++;
+        }
+        node = next;
+      }
+      node.value = node.value < 0 ? value : Math.min(node.value, value);
+      return this;
+    }
+
+    /**
+     * Builds the immutable trie.
+     *
+     * @return the trie
+     */
+    public PrefixTrie build() {
+      rank(root);
+
+      char[] labels = new char[size];
+      int[] firstChild = new int[size];
+      int[] childCount = new int[size];
+      int[] values = new int[size];
+      int[] topStart = new int[size + 1];
+      List<Integer> topValues = new ArrayList<>();
+
+      Deque<MutableNode> queue = new ArrayDeque<>();
+      queue.add(root);
+      int index = 0;
+      int nextFree = 1;
+      while (!queue.isEmpty()) {
+        MutableNode node = queue.poll();
+        labels[index] = node.label;
+        values[index] = node.value;
+        firstChild[index] = nextFree;
+        childCount[index] = node.children.size();
+        nextFree += node.children.size();
+        queue.addAll(node.children.values());
+
+        topStart[index] = topValues.size();
+        for (int value : node.top) {
+          topValues.add(value);
+        }
+        index++;
+      }
+      topStart[size] = topValues.size();
+
+      return new PrefixTrie(labels, firstChild, childCount, values, topStart,
+          topValues.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private void rank(MutableNode node) {
+      int[] merged = node.value >= 0 ? new int[] {node.value} : new int[0];
+      for (MutableNode child : node.children.values()) {
+        rank(child);
+        merged = mergeTop(merged, child.top);
+      }
+      node.top = merged;
+    }
+
+    private int[] mergeTop(int[] left, int[] right) {
+      int[] merged = new int[Math.min(topK, left.length + right.length)];
+      int i = 0;
+      int j = 0;
+      int n = 0;
+      while (n < merged.length && (i < left.length || j < right.length)) {
+        int next;
+        if (j >= right.length || (i < left.length && left[i] <= right[j])) {
+          next = left[i++];
+        } else {
+          next = right[j++];
+        }
+        if (n == 0 || merged[n - 1] != next) {
+          merged[n++] = next;
+        }
+      }
+      return n == merged.length ? merged : Arrays.copyOf(merged, n);
+    }
+  }
+
+  private static final class MutableNode {
+
+    private final char label;
+    private final Map<Character, MutableNode> children = new TreeMap<>();
+    private int value = -1;
+    private int[] top;
+
+    MutableNode(char label) {
+      this.label = label;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.readme.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token-bucket rate limiter.
+ *
+ * <p>Each bucket is kept as a single theoretical arrival time (the GCRA form
+ * of a token bucket): admitting a request advances it by one emission
+ * interval, and a request is rejected when that would put it more than
+ * {@code burst} intervals ahead of now. Updates are a compare-and-set on one
+ * {@link AtomicLong}, so admission is lock-free and allocates nothing for
+ * known clients.
+ *
+ * <p>Buckets live in a fixed number of independent map stripes. A bucket
+ * whose arrival time has passed is full again and indistinguishable from a
+ * missing one, so idle buckets are dropped without losing state: every few
+ * thousand admissions one stripe is swept, spreading eviction cost across
+ * requests instead of running a cleanup thread. A request racing with the
+ * eviction of its own bucket may be admitted without being counted, which at
+ * worst lets one extra request through.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class RateLimiter {
+
+  private static final int STRIPES = 16;
+  private static final int SWEEP_INTERVAL = 4096;
+
+  private final long intervalNanos;
+  private final long burstNanos;
+  private final LongSupplier clock;
+
+  @SuppressWarnings("unchecked")
+  private final Map<String, AtomicLong>[] stripes = new Map[STRIPES];
+  private final AtomicInteger admissions = new AtomicInteger();
+
+  /**
+   * Constructs a limiter.
+   *
+   * @param permitsPerMinute sustained rate per client
+   * @param burst number of requests a client may send at once
+   */
+  public RateLimiter(int permitsPerMinute, int burst) {
+    this(permitsPerMinute, burst, System::nanoTime);
+  }
+
+  /**
+   * Constructs a limiter with an explicit clock.
+   *
+   * @param permitsPerMinute sustained rate per client
+   * @param burst number of requests a client may send at once
+   * @param clock nanosecond time source
+   */
+  RateLimiter(int permitsPerMinute, int burst, LongSupplier clock) {
+    if (permitsPerMinute < 1 || burst < 1) {
+      throw new IllegalArgumentException("Rate and burst must be positive");
+    }
+    this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / permitsPerMinute;
+    this.burstNanos = intervalNanos * burst;
+    this.clock = clock;
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new ConcurrentHashMap<>();
+    }
+  }
+
+  /**
+   * Tries to admit a request from a client.
+   *
+   * @param client the client key
+   * @return 0 if admitted, otherwise the nanoseconds until a request would be admitted
+   */
+  public long tryAcquire(String client) {
+    long now = clock.getAsLong();
+    Map<String, AtomicLong> stripe = stripeFor(client);
+    AtomicLong bucket = stripe.get(client);
+    if (bucket == null) {
+      bucket = stripe.computeIfAbsent(client, key -> new AtomicLong(now));
+    }
+
+    while (true) {
+      long arrival = bucket.get();
+      long next = Math.max(arrival, now) + intervalNanos;
+      long wait = next - now - burstNanos;
+      if (wait > 0) {
+        return wait;
+      }
+      if (bucket.compareAndSet(arrival, next)) {
+        break;
+      }
+    }
+
+    int count = admissions.incrementAndGet();
+    if (count % SWEEP_INTERVAL == 0) {
+      evictIdle(stripes[Math.floorMod(count / SWEEP_INTERVAL, STRIPES)], now);
+    }
+    return 0;
+  }
+
+  /**
+   * Drops the buckets of all clients that are idle long enough for their
+   * bucket to have refilled.
+   */
+  public void evictIdle() {
+    long now = clock.getAsLong();
+    for (Map<String, AtomicLong> stripe : stripes) {
+      evictIdle(stripe, now);
+    }
+  }
+
+  /**
+   * Returns the number of clients currently tracked.
+   *
+   * @return the tracked client count
+   */
+  public int size() {
+    int size = 0;
+    for (Map<String, AtomicLong> stripe : stripes) {
+      size += stripe.size();
+    }
+    return size;
+  }
+
+  private static void evictIdle(Map<String, AtomicLong> stripe, long now) {
+    stripe.values().removeIf(bucket -> bucket.get() - now <= 0);
+  }
+
+  private Map<String, AtomicLong> stripeFor(String client) {
+    int hash = client.hashCode();
+    return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+  }
+}
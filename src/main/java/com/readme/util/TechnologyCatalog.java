@@ -0,0 +1,227 @@
+package com.readme.util;
+
+import com.readme.model.Technology;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Catalog of known technologies with their badge colors and logos.
+ * Loaded from the {@code catalog/technologies.tsv} resource, whose line order
+ * is the suggestion ranking.
+ *
+ * <p>Names and aliases are normalized by {@link #normalize(String)} (case
+ * folded, separators and punctuation dropped), so "Spring Boot",
+ * "spring-boot" and "SpringBoot" are the same key. Exact lookups are a single
+ * probe of a precomputed hash index; prefix suggestions use a
+ * {@link PrefixTrie}. Names that resolve to nothing are remembered in a
+ * bounded negative cache.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TechnologyCatalog {
+
+  /**
+   * Maximum number of suggestions returned for a prefix.
+   */
+  public static final int MAX_SUGGESTIONS = 16;
+
+  private static final String RESOURCE = "/catalog/technologies.tsv";
+  private static final String DEFAULT_COLOR = "0078D4";
+  private static final int NEGATIVE_CACHE_SIZE = 1024;
+
+  private final List<Technology> technologies;
+  private final Map<String, Technology> aliasIndex;
+  private final PrefixTrie prefixIndex;
+  private final LruCache<String, Technology> unknown = new LruCache<>(NEGATIVE_CACHE_SIZE);
+
+  private TechnologyCatalog(List<Technology> technologies, Map<String, Technology> aliasIndex,
+                            PrefixTrie prefixIndex) {
+    this.technologies = technologies;
+    this.aliasIndex = aliasIndex;
+    this.prefixIndex = prefixIndex;
+  }
+
+  /**
+   * Returns the catalog loaded from the bundled resource.
+   *
+   * @return the default catalog
+   */
+  public static TechnologyCatalog getDefault() {
+    return Holder.INSTANCE;
+  }
+
+  /**
+   * Loads a catalog from tab-separated lines of
+   * {@code name, slug, color, aliases}; blank lines and lines starting with
+   * {@code #} are ignored.
+   *
+   * @param input the catalog data
+   * @return the loaded catalog
+   * @throws IOException if the data cannot be read or a line is malformed
+   */
+  public static TechnologyCatalog load(InputStream input) throws IOException {
+    List<Technology> technologies = new ArrayList<>();
+    Map<String, Technology> aliasIndex = new HashMap<>();
+    PrefixTrie.Builder prefixIndex = PrefixTrie.builder(MAX_SUGGESTIONS);
+
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      String line;
+      int lineNumber = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 4) {
+          throw new IOException("Malformed technology catalog line " + lineNumber);
+        }
+        List<String> aliases = fields[3].isEmpty()
+            ? List.of() : List.of(fields[3].split(","));
+        int rank = technologies.size();
+        Technology technology = new Technology(
+            fields[0].intern(), fields[1].intern(), fields[2].intern(), aliases);
+        technologies.add(technology);
+
+        // Earlier (more popular) entries win when two names normalize alike
+        for (String key : keys(technology)) {
+          if (!key.isEmpty()) {
+            aliasIndex.putIfAbsent(key, technology);
+            prefixIndex.put(key, rank);
+          }
+        }
+      }
+    }
+    return new TechnologyCatalog(List.copyOf(technologies), Map.copyOf(aliasIndex),
+        prefixIndex.build());
+  }
+
+  private static List<String> keys(Technology technology) {
+    List<String> keys = new ArrayList<>(technology.aliases().size() + 1);
+    keys.add(normalize(technology.name()));
+    for (String alias : technology.aliases()) {
+      keys.add(normalize(alias));
+    }
+    return keys;
+  }
+
+  /**
+   * Finds a technology by name or alias, ignoring case, separators and
+   * punctuation.
+   *
+   * @param name the technology name
+   * @return the canonical technology, if known
+   */
+  public Optional<Technology> find(String name) {
+    if (name == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(aliasIndex.get(normalize(name)));
+  }
+
+  /**
+   * Resolves a technology for badge rendering. Known names return the shared
+   * canonical entry; unknown names return an entry keeping the given name,
+   * with the default color and a logo slug derived from the name, cached in
+   * a bounded negative cache.
+   *
+   * @param name the technology name
+   * @return the canonical or derived technology
+   */
+  public Technology resolve(String name) {
+    String key = normalize(name);
+    Technology known = aliasIndex.get(key);
+    if (known != null) {
+      return known;
+    }
+    return unknown.computeIfAbsent(name,
+        raw -> new Technology(raw, key, DEFAULT_COLOR, List.of()));
+  }
+
+  /**
+   * Returns the best-ranked technologies whose name or an alias starts with
+   * the given prefix, ignoring case.
+   *
+   * @param prefix the typed prefix; blank for the most popular technologies
+   * @param limit the maximum number of suggestions
+   * @return the suggestions in rank order
+   */
+  public List<Technology> suggest(String prefix, int limit) {
+    int[] ranks = prefixIndex.suggest(prefix == null ? "" : normalize(prefix), limit);
+    return Arrays.stream(ranks).mapToObj(technologies::get).toList();
+  }
+
+  /**
+   * Returns the most popular technologies.
+   *
+   * @param count the number of technologies
+   * @return the first {@code count} technologies in rank order
+   */
+  public List<Technology> featured(int count) {
+    return technologies.subList(0, Math.min(count, technologies.size()));
+  }
+
+  /**
+   * Returns the number of technologies in the catalog.
+   *
+   * @return the catalog size
+   */
+  public int size() {
+    return technologies.size();
+  }
+
+  /**
+   * Normalizes a technology name to its index key: letters and digits are
+   * kept and case-folded, '#' and '+' are spelled out so "C", "C#" and "C++"
+   * stay distinct, and everything else is dropped.
+   *
+   * @param name the technology name
+   * @return the normalized key
+   */
+  public static String normalize(String name) {
+    StringBuilder key = new StringBuilder(name.length() + 8);
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        key.append(Character.toLowerCase(c));
+      } else if (c == '#') {
+        key.append("sharp");
+      } else if (c == '+') {
+        key.append("plus");
+      }
+    }
+    return key.toString();
+  }
+
+  /**
+   * Lazily loads the bundled catalog on first use.
+   */
+  private static final class Holder {
+
+    private static final TechnologyCatalog INSTANCE = loadDefault();
+
+    private static TechnologyCatalog loadDefault() {
+      try (InputStream input = TechnologyCatalog.class.getResourceAsStream(RESOURCE)) {
+        if (input == null) {
+          throw new IllegalStateException("Technology catalog not found: " + RESOURCE);
+        }
+        return load(input);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to load technology catalog", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,298 @@
+package com.readme.util;
+
+import com.readme.dto.ReadmeRequest;
+import com.readme.exception.TemplateCompilationException;
+import com.readme.model.TemplateField;
+import com.readme.util.CompiledTemplate.Emitter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Parses and compiles user-defined README templates.
+ *
+ * <p>Templates are Markdown with Mustache-style tags:
+ * <ul>
+ *   <li>{@code {{field}}} inserts a {@link TemplateField} value; lists are
+ *       joined with ", "</li>
+ *   <li>{@code {{#field}}...{{/field}}} renders its body when the field is
+ *       set (non-blank text, true flag), or once per element of a list, where
+ *       {@code {{.}}} is the current element</li>
+ *   <li>{@code {{^field}}...{{/field}}} renders its body when the field is
+ *       not set</li>
+ *   <li>{@code {{! comment }}} is dropped</li>
+ * </ul>
+ * Section and comment tags alone on a line remove the whole line, so blocks
+ * can be laid out without leaving blank lines behind.
+ *
+ * <p>The source is parsed once into an AST, which is then compiled into
+ * emitters with every field reference resolved to its accessor.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TemplateCompiler {
+
+  private static final String OPEN = "{{";
+  private static final String CLOSE = "}}";
+  private static final String CURRENT_ITEM = ".";
+  private static final int VERSION_LENGTH = 16;
+  private static final int OUTPUT_HEADROOM = 512;
+
+  private TemplateCompiler() {
+    throw new UnsupportedOperationException("Utility class");
+  }
+
+  /**
+   * Parses and compiles a template.
+   *
+   * @param id the template identifier
+   * @param source the template source
+   * @return the compiled template
+   * @throws TemplateCompilationException if the template is malformed or
+   *     references an unknown field
+   */
+  public static CompiledTemplate compile(String id, String source)
+      throws TemplateCompilationException {
+    List<Node> ast = parse(source);
+    int[] textLength = new int[1];
+    List<Emitter> emitters = compile(ast, false, textLength);
+    return new CompiledTemplate(id, ContentHash.sha256(source).substring(0, VERSION_LENGTH),
+        emitters.toArray(Emitter[]::new), textLength[0] + OUTPUT_HEADROOM);
+  }
+
+  /**
+   * Parses a template into its AST.
+   *
+   * @param source the template source
+   * @return the top-level nodes
+   * @throws TemplateCompilationException if a tag is unclosed, empty or
+   *     mismatched
+   */
+  static List<Node> parse(String source) throws TemplateCompilationException {
+    Deque<OpenSection> open = new ArrayDeque<>();
+    List<Node> nodes = new ArrayList<>();
+    StringBuilder text = new StringBuilder();
+    int pos = 0;
+    int line = 1;
+
+    while (true) {
+      int start = source.indexOf(OPEN, pos);
+      if (start < 0) {
+        text.append(source, pos, source.length());
+        break;
+      }
+      line += countLines(source, pos, start);
+      int close = source.indexOf(CLOSE, start + OPEN.length());
+      if (close < 0) {
+        throw new TemplateCompilationException("Unclosed tag", line);
+      }
+      String tag = source.substring(start + OPEN.length(), close).strip();
+      if (tag.isEmpty()) {
+        throw new TemplateCompilationException("Empty tag", line);
+      }
+      char sigil = tag.charAt(0);
+      int textEnd = start;
+      int end = close + CLOSE.length();
+
+      if (sigil == '#' || sigil == '^' || sigil == '/' || sigil == '!') {
+        int lineStart = source.lastIndexOf('\n', start - 1) + 1;
+        int lineEnd = source.indexOf('\n', end);
+        if (lineEnd < 0) {
+          lineEnd = source.length();
+        }
+        if (lineStart >= pos && StringUtils.isBlank(source.substring(lineStart, start))
+            && StringUtils.isBlank(source.substring(end, lineEnd))) {
+          textEnd = lineStart;
+          end = Math.min(lineEnd + 1, source.length());
+        }
+      }
+      text.append(source, pos, textEnd);
+      int tagLine = line;
+      line += countLines(source, start, end);
+
+      if (sigil != '!') {
+        flushText(text, nodes);
+        String name = sigil == '#' || sigil == '^' || sigil == '/'
+            ? tag.substring(1).strip() : tag;
+        if (name.isEmpty()) {
+          throw new TemplateCompilationException("Missing field name", tagLine);
+        }
+        if (sigil == '#' || sigil == '^') {
+          open.push(new OpenSection(name, sigil == '^', tagLine, nodes));
+          nodes = new ArrayList<>();
+        } else if (sigil == '/') {
+          OpenSection section = open.poll();
+          if (section == null || !section.name().equals(name)) {
+            throw new TemplateCompilationException("Unexpected closing tag '" + name + "'",
+                tagLine);
+          }
+          section.parent().add(new Section(section.name(), section.inverted(),
+              List.copyOf(nodes), section.line()));
+          nodes = section.parent();
+        } else {
+          nodes.add(new Variable(name, tagLine));
+        }
+      }
+      pos = end;
+    }
+
+    if (!open.isEmpty()) {
+      OpenSection section = open.peek();
+      throw new TemplateCompilationException("Unclosed section '" + section.name() + "'",
+          section.line());
+    }
+    flushText(text, nodes);
+    return List.copyOf(nodes);
+  }
+
+  private static void flushText(StringBuilder text, List<Node> nodes) {
+    if (text.length() > 0) {
+      nodes.add(new Text(text.toString()));
+      text.setLength(0);
+    }
+  }
+
+  private static int countLines(String source, int from, int to) {
+    int lines = 0;
+    for (int i = from; i < to; i++) {
+      if (source.charAt(i) == '\n') {
+        lines++;
+      }
+    }
+    return lines;
+  }
+
+  private static List<Emitter> compile(List<Node> nodes, boolean inList, int[] textLength)
+      throws TemplateCompilationException {
+    List<Emitter> emitters = new ArrayList<>(nodes.size());
+    for (Node node : nodes) {
+      if (node instanceof Text text) {
+        String value = text.text();
+        textLength[0] += value.length();
+        emitters.add((request, item, out) -> out.append(value));
+      } else if (node instanceof Variable variable) {
+        emitters.add(compileVariable(variable, inList));
+      } else if (node instanceof Section section) {
+        emitters.add(compileSection(section, inList, textLength));
+      }
+    }
+    return emitters;
+  }
+
+  private static Emitter compileVariable(Variable variable, boolean inList)
+      throws TemplateCompilationException {
+    if (CURRENT_ITEM.equals(variable.name())) {
+      if (!inList) {
+        throw new TemplateCompilationException("'{{.}}' used outside a list section",
+            variable.line());
+      }
+      return (request, item, out) -> out.append(item);
+    }
+
+    TemplateField field = resolve(variable.name(), variable.line());
+    return switch (field.getKind()) {
+      case TEXT -> (request, item, out) -> {
+        String value = field.text(request);
+        if (value != null) {
+          out.append(value);
+        }
+      };
+      case LIST -> (request, item, out) -> out.append(String.join(", ", field.list(request)));
+      case FLAG -> (request, item, out) -> out.append(field.flag(request));
+    };
+  }
+
+  private static Emitter compileSection(Section section, boolean inList, int[] textLength)
+      throws TemplateCompilationException {
+    TemplateField field = resolve(section.name(), section.line());
+    boolean iterates = field.getKind() == TemplateField.Kind.LIST && !section.inverted();
+    Emitter[] body = compile(section.children(), inList || iterates, textLength)
+        .toArray(Emitter[]::new);
+    boolean expected = !section.inverted();
+
+    return switch (field.getKind()) {
+      case TEXT -> (request, item, out) -> {
+        if (StringUtils.isNotBlank(field.text(request)) == expected) {
+          emitAll(body, request, item, out);
+        }
+      };
+      case FLAG -> (request, item, out) -> {
+        if (field.flag(request) == expected) {
+          emitAll(body, request, item, out);
+        }
+      };
+      case LIST -> iterates
+          ? (request, item, out) -> {
+            for (String element : field.list(request)) {
+              emitAll(body, request, element, out);
+            }
+          }
+          : (request, item, out) -> {
+            if (field.list(request).isEmpty()) {
+              emitAll(body, request, item, out);
+            }
+          };
+    };
+  }
+
+  private static void emitAll(Emitter[] body, ReadmeRequest request, String item,
+                              StringBuilder out) {
+    for (Emitter emitter : body) {
+      emitter.emit(request, item, out);
+    }
+  }
+
+  private static TemplateField resolve(String name, int line)
+      throws TemplateCompilationException {
+    TemplateField field = TemplateField.fromKey(name);
+    if (field == null) {
+      throw new TemplateCompilationException("Unknown field '" + name + "'", line);
+    }
+    return field;
+  }
+
+  /**
+   * Template AST node.
+   */
+  sealed interface Node permits Text, Variable, Section {
+  }
+
+  /**
+   * Literal text copied to the output.
+   *
+   * @param text the text
+   */
+  record Text(String text) implements Node {
+  }
+
+  /**
+   * A {@code {{field}}} or {@code {{.}}} reference.
+   *
+   * @param name the field key
+   * @param line the source line
+   */
+  record Variable(String name, int line) implements Node {
+  }
+
+  /**
+   * A {@code {{#field}}} or {@code {{^field}}} block.
+   *
+   * @param name the field key
+   * @param inverted whether the body renders when the field is not set
+   * @param children the body
+   * @param line the source line of the opening tag
+   */
+  record Section(String name, boolean inverted, List<Node> children, int line)
+      implements Node {
+  }
+
+  /**
+   * A section whose closing tag has not been reached yet.
+   */
+  private record OpenSection(String name, boolean inverted, int line, List<Node> parent) {
+  }
+}
@@ -6,6 +6,8 @@
 const state = {
     technologies: [],
     currentMarkdown: '',
+    currentHtml: '',
+    sections: {},
     currentTab: 'rendered'
 };
 
@@ -15,6 +17,7 @@ const state = {
 const elements = {
     form: document.getElementById('readmeForm'),
     techInput: document.getElementById('technologiesInput'),
+    techSuggestions: document.getElementById('technologySuggestions'),
     techTags: document.getElementById('techTags'),
     techHidden: document.getElementById('technologies'),
     previewContent: document.getElementById('previewContent'),
@@ -48,6 +51,34 @@ elements.techInput.addEventListener('keypress', (e) => {
     }
 });
 
+// Autocomplete from the server-side technology catalog
+let suggestController;
+elements.techInput.addEventListener('input', async (e) => {
+    const prefix = e.target.value.trim();
+    if (suggestController) {
+        suggestController.abort();
+    }
+    if (!prefix) {
+        elements.techSuggestions.innerHTML = '';
+        return;
+    }
+
+    suggestController = new AbortController();
+    try {
+        const response = await fetch(
+            `/api/technologies?prefix=${encodeURIComponent(prefix)}&limit=8`,
+            { signal: suggestController.signal });
+        const suggestions = await response.json();
+        elements.techSuggestions.innerHTML = suggestions
+            .map(tech => `<option value="${escapeHtml(tech.name)}"></option>`)
+            .join('');
+    } catch (error) {
+        if (error.name !== 'AbortError') {
+            console.error('Error loading technology suggestions:', error);
+        }
+    }
+});
+
 function renderTechTags() {
     elements.techTags.innerHTML = state.technologies.map((tech, index) => `
         <span class="tech-tag">
@@ -58,6 +89,7 @@ function renderTechTags() {
     
     // Update hidden input
     elements.techHidden.value = JSON.stringify(state.technologies);
+    onFormEdited();
 }
 
 function removeTech(index) {
@@ -70,14 +102,23 @@ function removeTech(index) {
 // ===================================
 elements.form.addEventListener('submit', async (e) => {
     e.preventDefault();
-    
-    // Collect form data
-    const formData = new FormData(e.target);
-    const data = {
+    await generateReadme(collectFormData());
+});
+
+// User-defined templates are listed in the template select as "custom:<id>"
+function customTemplateId(formData) {
+    const value = formData.get('templateType') || '';
+    return value.startsWith('custom:') ? value.substring('custom:'.length) : null;
+}
+
+function collectFormData() {
+    const formData = new FormData(elements.form);
+    return {
         projectName: formData.get('projectName'),
         tagline: formData.get('tagline'),
         description: formData.get('description'),
-        templateType: formData.get('templateType'),
+        templateType: customTemplateId(formData) ? null : formData.get('templateType'),
+        templateId: customTemplateId(formData),
         technologies: state.technologies,
         features: formData.get('features'),
         installation: formData.get('installation'),
@@ -92,15 +133,13 @@ elements.form.addEventListener('submit', async (e) => {
         includeContributing: formData.get('includeContributing') === 'on',
         includeLicense: formData.get('includeLicense') === 'on'
     };
-    
-    await generateReadme(data);
-});
+}
 
 async function generateReadme(data) {
     showLoading(true);
     
     try {
-        const response = await fetch('/api/generate', {
+        const response = await fetch('/api/generate?render=true', {
             method: 'POST',
             headers: {
                 'Content-Type': 'application/json'
@@ -112,6 +151,8 @@ async function generateReadme(data) {
         
         if (result.status === 'success') {
             state.currentMarkdown = result.markdown;
+            state.currentHtml = result.html;
+            state.sections = {};
             updatePreview();
             showNotification('README généré avec succès !', 'success');
             elements.previewActions.style.display = 'flex';
@@ -126,6 +167,142 @@ async function generateReadme(data) {
     }
 }
 
+// ===================================
+// Incremental Regeneration
+// ===================================
+// Once a README has been generated, edits only fetch the sections whose
+// content changed; unchanged sections are reused from state.sections.
+async function regenerateChangedSections() {
+    const knownSections = {};
+    Object.entries(state.sections).forEach(([id, section]) => {
+        knownSections[id] = section.hash;
+    });
+
+    try {
+        const response = await fetch('/api/generate/patch', {
+            method: 'POST',
+            headers: {
+                'Content-Type': 'application/json'
+            },
+            body: JSON.stringify({ request: collectFormData(), knownSections })
+        });
+
+        const result = await response.json();
+        if (result.status !== 'success') {
+            return;
+        }
+
+        const sections = {};
+        result.sections.forEach(section => {
+            const content = section.content ?? state.sections[section.id]?.content ?? '';
+            sections[section.id] = { hash: section.hash, content };
+        });
+        state.sections = sections;
+
+        const markdown = result.sections.map(section => sections[section.id].content).join('');
+        if (markdown !== state.currentMarkdown) {
+            state.currentMarkdown = markdown;
+            await renderPreview();
+        }
+    } catch (error) {
+        console.error('Error regenerating README:', error);
+    }
+}
+
+async function renderPreview() {
+    const response = await fetch('/api/preview', {
+        method: 'POST',
+        headers: {
+            'Content-Type': 'application/json'
+        },
+        body: JSON.stringify({ markdown: state.currentMarkdown })
+    });
+
+    const result = await response.json();
+    if (result.status === 'success') {
+        state.currentHtml = result.html;
+        updatePreview();
+    }
+}
+
+// ===================================
+// Live Preview Channel
+// ===================================
+// Edits are streamed over a WebSocket; the server debounces bursts and only
+// pushes the README for the newest edit. Without a socket, edits fall back
+// to the debounced patch endpoint above.
+const live = {
+    socket: null,
+    seq: 0,
+    shownSeq: 0,
+    sentFields: {},
+    unavailable: false
+};
+
+function connectLivePreview() {
+    const protocol = window.location.protocol === 'https:' ? 'wss:' : 'ws:';
+    const socket = new WebSocket(`${protocol}//${window.location.host}/ws/preview`);
+    let opened = false;
+
+    socket.addEventListener('open', () => {
+        opened = true;
+        live.sentFields = {};
+        sendLiveEdit();
+    });
+    socket.addEventListener('message', (event) => {
+        const message = JSON.parse(event.data);
+        if (message.type !== 'preview' || message.seq < live.shownSeq) {
+            return;
+        }
+        live.shownSeq = message.seq;
+        state.currentMarkdown = message.markdown;
+        state.currentHtml = message.html;
+        state.sections = {};
+        updatePreview();
+    });
+    socket.addEventListener('close', () => {
+        live.socket = null;
+        live.unavailable = !opened;
+    });
+
+    live.socket = socket;
+}
+
+function sendLiveEdit() {
+    const data = collectFormData();
+    const fields = {};
+    Object.entries(data).forEach(([name, value]) => {
+        if (JSON.stringify(live.sentFields[name]) !== JSON.stringify(value)) {
+            fields[name] = value;
+        }
+    });
+    if (Object.keys(fields).length === 0) {
+        return;
+    }
+
+    live.sentFields = { ...live.sentFields, ...JSON.parse(JSON.stringify(fields)) };
+    live.seq++;
+    live.socket.send(JSON.stringify({ seq: live.seq, fields }));
+}
+
+let regenerateTimeout;
+function onFormEdited() {
+    if (!state.currentMarkdown) {
+        return;
+    }
+    if (!live.socket && !live.unavailable) {
+        connectLivePreview();
+    }
+    if (live.socket && live.socket.readyState === WebSocket.OPEN) {
+        sendLiveEdit();
+        return;
+    }
+    clearTimeout(regenerateTimeout);
+    regenerateTimeout = setTimeout(regenerateChangedSections, 300);
+}
+
+elements.form.addEventListener('input', onFormEdited);
+
 // ===================================
 // Preview Tab Management
 // ===================================
@@ -148,10 +325,10 @@ function updatePreview() {
     }
     
     if (state.currentTab === 'rendered') {
-        // Render Markdown as HTML
+        // Show the sanitized HTML rendered by the server
         elements.previewContent.innerHTML = `
             <div class="markdown-preview">
-                ${marked.parse(state.currentMarkdown)}
+                ${state.currentHtml}
             </div>
         `;
     } else {
@@ -301,7 +478,8 @@ document.addEventListener('DOMContentLoaded', () => {
 
 async function loadTemplates() {
     try {
-        const response = await fetch('/api/templates');
+        const catalogMeta = document.querySelector('meta[name="templates-url"]');
+        const response = await fetch(catalogMeta?.content || '/api/templates');
         const data = await response.json();
         
         // Populate license select if needed
@@ -319,6 +497,18 @@ async function loadTemplates() {
             });
         }
         
+        // Offer user-defined templates from the server's template directory
+        const customGroup = document.getElementById('customTemplates');
+        if (customGroup && data.customTemplates && data.customTemplates.length > 0) {
+            data.customTemplates.forEach(id => {
+                const option = document.createElement('option');
+                option.value = 'custom:' + id;
+                option.textContent = id;
+                customGroup.appendChild(option);
+            });
+            customGroup.hidden = false;
+        }
+        
         console.log('Templates loaded:', data);
     } catch (error) {
         console.error('Error loading templates:', error);
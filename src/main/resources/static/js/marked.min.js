@@ -1,81 +0,0 @@
-/**
- * Simplified Markdown Parser
- * A lightweight markdown to HTML converter
- */
-
-const marked = {
-    parse: function(markdown) {
-        if (!markdown) return '';
-        
-        let html = markdown;
-        
-        // Headers
-        html = html.replace(/^### (.*$)/gim, '<h3>$1</h3>');
-        html = html.replace(/^## (.*$)/gim, '<h2>$1</h2>');
-        html = html.replace(/^# (.*$)/gim, '<h1>$1</h1>');
-        
-        // Bold
-        html = html.replace(/\*\*(.*?)\*\*/g, '<strong>$1</strong>');
-        
-        // Italic
-        html = html.replace(/\*(.*?)\*/g, '<em>$1</em>');
-        
-        // Links
-        html = html.replace(/\[([^\]]+)\]\(([^)]+)\)/g, '<a href="$2" target="_blank">$1</a>');
-        
-        // Images
-        html = html.replace(/!\[([^\]]*)\]\(([^)]+)\)/g, '<img src="$2" alt="$1" />');
-        
-        // Inline code
-        html = html.replace(/`([^`]+)`/g, '<code>$1</code>');
-        
-        // Code blocks
-        html = html.replace(/```(\w+)?\n([\s\S]*?)```/g, function(match, lang, code) {
-            return '<pre><code class="language-' + (lang || 'plaintext') + '">' + 
-                   escapeHtml(code.trim()) + '</code></pre>';
-        });
-        
-        // Blockquotes
-        html = html.replace(/^> (.*$)/gim, '<blockquote>$1</blockquote>');
-        
-        // Horizontal rules
-        html = html.replace(/^---$/gim, '<hr>');
-        html = html.replace(/^\*\*\*$/gim, '<hr>');
-        
-        // Lists - Unordered
-        html = html.replace(/^\s*[-*+]\s+(.*)$/gim, '<li>$1</li>');
-        html = html.replace(/(<li>.*<\/li>)/s, '<ul>$1</ul>');
-        
-        // Lists - Ordered
-        html = html.replace(/^\s*\d+\.\s+(.*)$/gim, '<li>$1</li>');
-        
-        // Paragraphs
-        html = html.split('\n\n').map(para => {
-            para = para.trim();
-            if (!para) return '';
-            
-            // Don't wrap if already wrapped in a tag
-            if (para.match(/^<(h\d|ul|ol|li|pre|blockquote|hr|div)/)) {
-                return para;
-            }
-            
-            return '<p>' + para + '</p>';
-        }).join('\n');
-        
-        // Line breaks
-        html = html.replace(/\n/g, '<br>');
-        
-        return html;
-    }
-};
-
-function escapeHtml(text) {
-    const map = {
-        '&': '&amp;',
-        '<': '&lt;',
-        '>': '&gt;',
-        '"': '&quot;',
-        "'": '&#039;'
-    };
-    return text.replace(/[&<>"']/g, m => map[m]);
-}
\ No newline at end of file
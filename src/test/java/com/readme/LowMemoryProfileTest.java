@@ -0,0 +1,209 @@
+package com.readme;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readme.dto.ReadmeRequest;
+import com.readme.model.TemplateType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Footprint test for the {@code lowmem} profile.
+ * Starts the application in a separate JVM with the {@code JAVA_OPTS} of
+ * {@code docker-compose.lowmem.yml}, drives a fixed load against
+ * {@code /api/generate} and checks that the application process stays under
+ * the RSS budget.
+ *
+ * <p>The budget is read from the {@code lowmem.budget.rss-mb} system
+ * property and defaults to 200 MB, below the 256M container limit. The heap
+ * is bounded by the {@code -Xmx} flag itself: with
+ * {@code -XX:+ExitOnOutOfMemoryError} an overflow kills the process and
+ * fails the requests.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class LowMemoryProfileTest {
+
+  private static final Path COMPOSE_FILE = Path.of("docker-compose.lowmem.yml");
+  private static final String JAVA_OPTS = "JAVA_OPTS=";
+  private static final int REQUESTS = 1_000;
+  private static final int CLIENTS = 4;
+  private static final long MB = 1024L * 1024L;
+  private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(90);
+
+  private final HttpClient http = HttpClient.newHttpClient();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("Should serve a fixed load within the RSS budget under the low-memory JVM flags")
+  void testFootprintUnderLoad() throws Exception {
+    assumeTrue(Files.isReadable(Path.of("/proc/self/status")), "RSS is only measurable on Linux");
+    long rssBudget = Long.getLong("lowmem.budget.rss-mb", 200L) * MB;
+
+    int port = freePort();
+    Path log = Files.createTempFile("lowmem-app", ".log");
+    List<String> command = new ArrayList<>();
+    command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(lowMemoryJavaOpts());
+    command.addAll(List.of("-cp", System.getProperty("java.class.path"),
+        ReadmeGeneratorApplication.class.getName(),
+        "--server.port=" + port,
+        "--spring.profiles.active=prod,lowmem",
+        "--readme.rate-limit.enabled=false"));
+    Process app = new ProcessBuilder(command)
+        .redirectErrorStream(true)
+        .redirectOutput(log.toFile())
+        .start();
+    try {
+      awaitReady(app, port, log);
+
+      AtomicInteger failures = new AtomicInteger();
+      ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+          byte[] body = objectMapper.writeValueAsBytes(sampleRequest(i));
+          futures.add(clients.submit(() -> {
+            HttpResponse<Void> response = http.send(HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/api/generate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build(), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+              failures.incrementAndGet();
+            }
+            return null;
+          }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } finally {
+        clients.shutdown();
+      }
+
+      assertThat(failures.get()).isZero();
+      assertThat(app.isAlive()).as("application process, see %s", log).isTrue();
+
+      long rss = readResidentSetSize(app.pid());
+      assertThat(rss).as("RSS of the application process").isPositive().isLessThan(rssBudget);
+    } finally {
+      app.destroy();
+      if (!app.waitFor(10, TimeUnit.SECONDS)) {
+        app.destroyForcibly();
+      }
+    }
+    Files.deleteIfExists(log);
+  }
+
+  /**
+   * Reads the JVM flags of the application service from the low-memory
+   * compose override.
+   *
+   * @return the {@code JAVA_OPTS} flags
+   */
+  @SuppressWarnings("unchecked")
+  private static List<String> lowMemoryJavaOpts() throws IOException {
+    Map<String, Object> compose;
+    try (InputStream input = Files.newInputStream(COMPOSE_FILE)) {
+      compose = new Yaml().load(input);
+    }
+    Map<String, Object> services = (Map<String, Object>) compose.get("services");
+    Map<String, Object> service = (Map<String, Object>) services.get("readme-generator");
+    for (Object variable : (List<Object>) service.get("environment")) {
+      String value = variable.toString();
+      if (value.startsWith(JAVA_OPTS)) {
+        return Arrays.asList(value.substring(JAVA_OPTS.length()).trim().split("\\s+"));
+      }
+    }
+    throw new IllegalStateException("No JAVA_OPTS in " + COMPOSE_FILE);
+  }
+
+  private void awaitReady(Process app, int port, Path log) throws Exception {
+    HttpRequest readiness = HttpRequest.newBuilder(
+        URI.create("http://localhost:" + port + "/actuator/health/readiness")).build();
+    long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      assertThat(app.isAlive()).as("application process, see %s", log).isTrue();
+      try {
+        HttpResponse<String> response = http.send(readiness, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 200) {
+          JsonNode health = objectMapper.readTree(response.body());
+          if ("UP".equals(health.path("status").asText())) {
+            return;
+          }
+        }
+      } catch (ConnectException e) {
+        // Not listening yet
+      }
+      Thread.sleep(200);
+    }
+    throw new IllegalStateException("Application not ready after " + STARTUP_TIMEOUT
+        + ", see " + log);
+  }
+
+  private static ReadmeRequest sampleRequest(int index) {
+    TemplateType[] types = TemplateType.values();
+    return ReadmeRequest.builder()
+        .projectName("Project " + index)
+        .tagline("Footprint sample")
+        .description("A sample project used to measure the low-memory profile.")
+        .templateType(types[index % types.length])
+        .technologies(List.of("Java", "Spring Boot", "Docker"))
+        .features("Fast\nSmall\nSimple")
+        .installation("mvn package")
+        .usage("java -jar app.jar")
+        .repositoryUrl("https://github.com/user/project-" + index)
+        .license("MIT")
+        .author("Tester")
+        .includeTableOfContents(true)
+        .build();
+  }
+
+  /**
+   * Reads the resident set size of a process from {@code /proc/<pid>/status}.
+   *
+   * @param pid the process id
+   * @return the RSS in bytes, or -1 when unavailable
+   */
+  private static long readResidentSetSize(long pid) throws IOException {
+    for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+      if (line.startsWith("VmRSS:")) {
+        String kilobytes = line.substring("VmRSS:".length()).replace("kB", "").trim();
+        return Long.parseLong(kilobytes) * 1024L;
+      }
+    }
+    return -1;
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package com.readme.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import com.readme.dto.ReadmeRequest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * JMH comparison of request body encodings accepted by the API: JSON,
+ * Smile and CBOR, and JSON compressed with gzip or zstd. Each benchmark
+ * parses a large automation-style {@link ReadmeRequest} the way the server
+ * does, decompressing as a stream into Jackson. Wire sizes are printed
+ * before the run.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EncodingBenchmarkTest {
+
+  private static final String[] ENCODINGS = {"json", "smile", "cbor", "json-gzip", "json-zstd"};
+
+  @Param({"json", "smile", "cbor", "json-gzip", "json-zstd"})
+  public String encoding;
+
+  private byte[] body;
+  private ObjectReader reader;
+
+  @Test
+  @DisplayName("Request body encodings: parse cost and wire size (JMH)")
+  void benchmarkEncodings() throws Exception {
+    ReadmeRequest request = request();
+    for (String name : ENCODINGS) {
+      System.out.printf("[encoding-benchmark] %-10s %7d bytes%n", name,
+          encode(name, request).length);
+    }
+
+    Options options = new OptionsBuilder()
+        .include(EncodingBenchmarkTest.class.getName() + "\\.")
+        .forks(0)
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .build();
+
+    Collection<RunResult> results = new Runner(options).run();
+    assertThat(results).hasSize(ENCODINGS.length);
+  }
+
+  /**
+   * Encodes the request in the benchmarked encoding.
+   *
+   * @throws IOException if encoding fails
+   */
+  @Setup
+  public void setUp() throws IOException {
+    body = encode(encoding, request());
+    reader = mapper(encoding).readerFor(ReadmeRequest.class);
+  }
+
+  /**
+   * Decompresses (when applicable) and parses the request body.
+   *
+   * @return the parsed request
+   * @throws IOException if parsing fails
+   */
+  @Benchmark
+  public ReadmeRequest parse() throws IOException {
+    try (InputStream in = decoder(encoding, new ByteArrayInputStream(body))) {
+      return reader.readValue(in);
+    }
+  }
+
+  private static byte[] encode(String encoding, ReadmeRequest request) throws IOException {
+    byte[] encoded = mapper(encoding).writeValueAsBytes(request);
+    if (encoding.endsWith("-gzip")) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+        gzip.write(encoded);
+      }
+      return out.toByteArray();
+    }
+    if (encoding.endsWith("-zstd")) {
+      return Zstd.compress(encoded);
+    }
+    return encoded;
+  }
+
+  private static InputStream decoder(String encoding, InputStream in) throws IOException {
+    if (encoding.endsWith("-gzip")) {
+      return new GZIPInputStream(in, 8192);
+    }
+    if (encoding.endsWith("-zstd")) {
+      return new ZstdInputStreamNoFinalizer(in, RecyclingBufferPool.INSTANCE);
+    }
+    return in;
+  }
+
+  private static ObjectMapper mapper(String encoding) {
+    return switch (encoding) {
+      case "smile" -> new ObjectMapper(new SmileFactory());
+      case "cbor" -> new ObjectMapper(new CBORFactory());
+      default -> new ObjectMapper();
+    };
+  }
+
+  private static ReadmeRequest request() {
+    StringBuilder features = new StringBuilder();
+    StringBuilder sections = new StringBuilder("[");
+    for (int i = 0; i < 20; i++) {
+      features.append("- Feature ").append(i).append(": generates \"quoted\" output\n");
+      sections.append(i == 0 ? "" : ",")
+          .append("{\"title\":\"Section ").append(i).append("\",\"content\":\"")
+          .append("Line with `code` and \\\"quotes\\\"\\n".repeat(20)).append("\"}");
+    }
+    sections.append(']');
+
+    return ReadmeRequest.builder()
+        .projectName("Batch Project")
+        .tagline("Generated by internal automation")
+        .description("A project whose README is regenerated by CI on every merge.")
+        .technologies(List.of("Java", "Spring Boot", "Docker", "Kubernetes", "PostgreSQL"))
+        .features(features.toString())
+        .installation("git clone https://github.com/example/batch\ncd batch\n./mvnw install")
+        .usage("./mvnw spring-boot:run")
+        .license("MIT")
+        .author("Automation")
+        .repositoryUrl("https://github.com/example/batch")
+        .customSections(sections.toString())
+        .build();
+  }
+}
@@ -0,0 +1,154 @@
+package com.readme.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readme.exception.GitHubExportException;
+import com.readme.service.GitHubGateway;
+import com.readme.service.GitHubService;
+import com.readme.support.FakeGitHubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Thread-per-request benchmark comparing platform and virtual threads for
+ * blocking GitHub exports.
+ *
+ * <p>Each task calls the blocking {@link GitHubService#exportToGitHub} against
+ * {@link FakeGitHubServer} with a fixed per-call latency, the way a servlet
+ * thread does in thread-per-request mode. Platform threads are capped at
+ * Tomcat's default worker count; virtual threads are unbounded.
+ * The virtual-thread run is skipped on runtimes older than Java 21.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+class ExportConcurrencyBenchmarkTest {
+
+  private static final int TOMCAT_DEFAULT_THREADS = 200;
+  private static final int CONCURRENT_EXPORTS = 2_000;
+  private static final long STUB_LATENCY_MILLIS = 50;
+
+  private static final String TOKEN = "ghp_benchmark";
+  private static final int REPOSITORIES = CONCURRENT_EXPORTS;
+
+  private static FakeGitHubServer github;
+  private static GitHubService githubService;
+
+  @BeforeAll
+  static void startStub() throws IOException {
+    github = FakeGitHubServer.start()
+        .withToken(TOKEN)
+        .withRateLimit(Integer.MAX_VALUE)
+        .withLatency(Duration.ofMillis(STUB_LATENCY_MILLIS));
+    for (int i = 0; i < REPOSITORIES; i++) {
+      github.withRepository("bench/repo-" + i);
+    }
+    // Pin the adaptive export limit open: this benchmark measures raw throughput
+    githubService = new GitHubService(new GitHubGateway(new ObjectMapper(), github.getBaseUrl()),
+        CONCURRENT_EXPORTS, CONCURRENT_EXPORTS, CONCURRENT_EXPORTS, new SimpleMeterRegistry());
+  }
+
+  @AfterAll
+  static void stopStub() {
+    github.close();
+  }
+
+  @Test
+  @DisplayName("Platform threads: exports bounded by the Tomcat pool size")
+  void benchmarkPlatformThreads() throws Exception {
+    Result result = run(Executors.newFixedThreadPool(TOMCAT_DEFAULT_THREADS));
+    report("platform(" + TOMCAT_DEFAULT_THREADS + ")", result);
+    assertThat(result.errors).isZero();
+  }
+
+  @Test
+  @DisplayName("Virtual threads: one virtual thread per export")
+  void benchmarkVirtualThreads() throws Exception {
+    ExecutorService executor = newVirtualThreadExecutor();
+    assumeTrue(executor != null, "Virtual threads require Java 21+");
+    Result result = run(executor);
+    report("virtual", result);
+    assertThat(result.errors).isZero();
+  }
+
+  private Result run(ExecutorService executor) throws Exception {
+    long[] latencies = new long[CONCURRENT_EXPORTS];
+    List<Future<Boolean>> futures = new ArrayList<>(CONCURRENT_EXPORTS);
+    long start = System.nanoTime();
+
+    try {
+      for (int i = 0; i < CONCURRENT_EXPORTS; i++) {
+        final int index = i;
+        futures.add(executor.submit(() -> {
+          long begin = System.nanoTime();
+          try {
+            String repositoryUrl = "https://github.com/bench/repo-" + (index % REPOSITORIES);
+            githubService.exportToGitHub(repositoryUrl, "# Benchmark " + index, TOKEN);
+            return true;
+          } catch (GitHubExportException e) {
+            return false;
+          } finally {
+            latencies[index] = System.nanoTime() - begin;
+          }
+        }));
+      }
+
+      int errors = 0;
+      for (Future<Boolean> future : futures) {
+        if (!future.get()) {
+          errors++;
+        }
+      }
+      return new Result(System.nanoTime() - start, latencies, errors);
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  private static void report(String mode, Result result) {
+    long[] sorted = result.latencies.clone();
+    Arrays.sort(sorted);
+    double seconds = result.elapsedNanos / 1e9;
+    System.out.printf("[export-benchmark] %-14s exports=%d throughput=%.1f/s p50=%.1fms "
+            + "p99=%.1fms errors=%d%n",
+        mode, sorted.length, sorted.length / seconds,
+        percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.99) / 1e6, result.errors);
+  }
+
+  private static long percentile(long[] sorted, double quantile) {
+    int index = (int) Math.ceil(quantile * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+  }
+
+  private record Result(long elapsedNanos, long[] latencies, int errors) {
+  }
+}
@@ -0,0 +1,125 @@
+package com.readme.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.readme.util.InvertedIndex;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * JMH measurement of history search over 300,000 indexed READMEs.
+ *
+ * <p>Each document gets 60 words drawn from a skewed 20,000-word vocabulary,
+ * so common words have postings lists of a large share of the corpus, plus
+ * one template and two technologies out of 40. Queries intersect a common
+ * and a rarer word, with and without counting the technology facet over the
+ * matches.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HistorySearchBenchmarkTest {
+
+  private static final int DOCUMENTS = 300_000;
+  private static final int VOCABULARY = 20_000;
+  private static final int WORDS = 60;
+  private static final int TECHNOLOGIES = 40;
+
+  private InvertedIndex index;
+  private Set<String> query;
+  private Set<String> facetQuery;
+
+  @Test
+  @DisplayName("History search over 300k documents (JMH)")
+  void benchmarkHistorySearch() throws Exception {
+    Options options = new OptionsBuilder()
+        .include(HistorySearchBenchmarkTest.class.getName() + "\\.")
+        .forks(0)
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .build();
+
+    Collection<RunResult> results = new Runner(options).run();
+    assertThat(results).hasSize(3);
+  }
+
+  /**
+   * Indexes the synthetic corpus.
+   */
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    index = new InvertedIndex();
+    for (int id = 1; id <= DOCUMENTS; id++) {
+      Set<String> terms = new HashSet<>();
+      for (int i = 0; i < WORDS; i++) {
+        // Squaring a uniform draw skews toward the first words
+        double draw = random.nextDouble();
+        terms.add("w" + (int) (draw * draw * VOCABULARY));
+      }
+      terms.add("template:" + (id % 5));
+      terms.add("technology:t" + random.nextInt(TECHNOLOGIES));
+      terms.add("technology:t" + random.nextInt(TECHNOLOGIES));
+      index.add(id, terms);
+    }
+    query = Set.of("w10", "w5000");
+    facetQuery = Set.of("w10", "template:3");
+  }
+
+  /**
+   * Intersects a common and a rarer word.
+   *
+   * @return the matching ids
+   */
+  @Benchmark
+  public long[] searchTwoWords() {
+    return index.search(query);
+  }
+
+  /**
+   * Intersects a common word with a facet and counts the technologies.
+   *
+   * @return the technology counts
+   */
+  @Benchmark
+  public Map<String, Integer> searchWithFacets() {
+    return index.facetCounts("technology:", index.search(facetQuery), 50);
+  }
+
+  /**
+   * Counts the technologies over the whole corpus.
+   *
+   * @return the technology counts
+   */
+  @Benchmark
+  public Map<String, Integer> facetsOverAll() {
+    return index.facetCounts("technology:", index.search(Set.of()), 50);
+  }
+}
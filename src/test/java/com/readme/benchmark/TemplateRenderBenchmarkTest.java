@@ -0,0 +1,142 @@
+package com.readme.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.readme.dto.ReadmeRequest;
+import com.readme.exception.ReadmeGenerationException;
+import com.readme.exception.TemplateCompilationException;
+import com.readme.service.ReadmeGeneratorService;
+import com.readme.service.TemplateRegistry;
+import com.readme.util.CompiledTemplate;
+import com.readme.util.TemplateCompiler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * JMH comparison of the built-in README layout against a compiled
+ * user-defined template with an equivalent layout
+ * ({@code custom-templates/standard.tpl}).
+ *
+ * <p>The built-in generator is measured both with section memoization hits
+ * and with a one-entry cache fed two alternating requests, so every section
+ * is rebuilt; the compiled template always renders from scratch.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateRenderBenchmarkTest {
+
+  private static final String TEMPLATE = "/custom-templates/standard.tpl";
+
+  private ReadmeRequest[] requests;
+  private ReadmeGeneratorService memoized;
+  private ReadmeGeneratorService uncached;
+  private CompiledTemplate template;
+  private int next;
+
+  @Test
+  @DisplayName("Compiled templates vs built-in layout (JMH)")
+  void benchmarkTemplateRendering() throws Exception {
+    Options options = new OptionsBuilder()
+        .include(TemplateRenderBenchmarkTest.class.getName() + "\\.")
+        .forks(0)
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .build();
+
+    Collection<RunResult> results = new Runner(options).run();
+    assertThat(results).hasSize(3);
+  }
+
+  /**
+   * Compiles the template and prepares two requests differing in every field.
+   *
+   * @throws IOException if the template resource cannot be read
+   * @throws TemplateCompilationException if the template does not compile
+   */
+  @Setup
+  public void setUp() throws IOException, TemplateCompilationException {
+    requests = new ReadmeRequest[] {request("Alpha"), request("Beta")};
+    memoized = new ReadmeGeneratorService();
+    uncached = new ReadmeGeneratorService(1, 50, 65536, new TemplateRegistry(""));
+    try (InputStream input = TemplateRenderBenchmarkTest.class.getResourceAsStream(TEMPLATE)) {
+      template = TemplateCompiler.compile("standard",
+          new String(input.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Built-in layout with every section served from the memoization cache.
+   *
+   * @return the README
+   * @throws ReadmeGenerationException if generation fails
+   */
+  @Benchmark
+  public String builtInMemoized() throws ReadmeGenerationException {
+    return memoized.generateReadme(requests[0]);
+  }
+
+  /**
+   * Built-in layout rebuilding every section.
+   *
+   * @return the README
+   * @throws ReadmeGenerationException if generation fails
+   */
+  @Benchmark
+  public String builtInUncached() throws ReadmeGenerationException {
+    return uncached.generateReadme(requests[next++ & 1]);
+  }
+
+  /**
+   * Compiled user-defined template.
+   *
+   * @return the README
+   */
+  @Benchmark
+  public String compiledTemplate() {
+    return template.render(requests[next++ & 1]);
+  }
+
+  private static ReadmeRequest request(String name) {
+    return ReadmeRequest.builder()
+        .projectName(name + " Project")
+        .tagline("The " + name + " tagline")
+        .description("The " + name + " project generates professional README files.")
+        .technologies(List.of("Java", "Spring Boot", "Docker", name))
+        .features("- Fast generation\n- Live preview\n- " + name + " support")
+        .installation("git clone https://github.com/example/" + name.toLowerCase())
+        .usage("./mvnw spring-boot:run")
+        .license("MIT")
+        .author(name + " Team")
+        .repositoryUrl("https://github.com/example/" + name.toLowerCase())
+        .includeBadges(true)
+        .build();
+  }
+}
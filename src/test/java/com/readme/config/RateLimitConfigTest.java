@@ -0,0 +1,106 @@
+package com.readme.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.readme.dto.GitHubExportRequest;
+import com.readme.dto.ReadmeRequest;
+import com.readme.support.FakeGitHubServer;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Integration tests for {@link RateLimitConfig}.
+ * Tests per-client rejection with {@code Retry-After} on the generation endpoint
+ * and single-token accounting for asynchronous responses.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"readme.warmup.enabled=false", "readme.rate-limit.client-header=X-API-Key",
+        "readme.rate-limit.generate.per-minute=1", "readme.rate-limit.generate.burst=2",
+        "readme.rate-limit.export.per-minute=1", "readme.rate-limit.export.burst=1"})
+class RateLimitConfigTest {
+
+  private static FakeGitHubServer github;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @DynamicPropertySource
+  static void githubStub(DynamicPropertyRegistry registry) throws IOException {
+    github = FakeGitHubServer.start().withToken("token").withRepository("acme/demo");
+    registry.add("github.api-url", github::getBaseUrl);
+  }
+
+  @AfterAll
+  static void stopGithubStub() {
+    github.close();
+  }
+
+  @Test
+  @DisplayName("Should answer 429 with Retry-After once a client's burst is spent")
+  void testRateLimitedClient() {
+    assertThat(generate("client-a").getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(generate("client-a").getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    ResponseEntity<String> limited = generate("client-a");
+    assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    assertThat(Long.parseLong(limited.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)))
+        .isBetween(1L, 60L);
+    assertThat(limited.getBody()).contains("\"status\":\"error\"");
+
+    assertThat(generate("client-b").getStatusCode()).isEqualTo(HttpStatus.OK);
+  }
+
+  @Test
+  @DisplayName("Should take a single token for streamed and asynchronous responses")
+  void testAsyncRequestsTakeOneToken() {
+    HttpHeaders markdown = new HttpHeaders();
+    markdown.setAccept(List.of(MediaType.parseMediaType("text/markdown")));
+    assertThat(generate("client-c", markdown).getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(generate("client-c", markdown).getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(generate("client-c", markdown).getStatusCode())
+        .isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("X-API-Key", "client-d");
+    GitHubExportRequest export = GitHubExportRequest.builder()
+        .repositoryUrl("https://github.com/acme/demo")
+        .readmeContent("# Demo")
+        .githubToken("token")
+        .build();
+    ResponseEntity<String> exported = restTemplate.postForEntity("/api/export",
+        new HttpEntity<>(export, headers), String.class);
+    assertThat(exported.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(exported.getBody()).contains("\"status\" : \"success\"");
+  }
+
+  private ResponseEntity<String> generate(String apiKey) {
+    return generate(apiKey, new HttpHeaders());
+  }
+
+  private ResponseEntity<String> generate(String apiKey, HttpHeaders headers) {
+    headers.set("X-API-Key", apiKey);
+    ReadmeRequest request = ReadmeRequest.builder()
+        .projectName("Limited")
+        .description("Rate limited project")
+        .build();
+    return restTemplate.postForEntity("/api/generate", new HttpEntity<>(request, headers),
+        String.class);
+  }
+}
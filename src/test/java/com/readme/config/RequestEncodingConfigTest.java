@@ -0,0 +1,264 @@
+package com.readme.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.github.luben.zstd.Zstd;
+import com.readme.dto.ReadmeRequest;
+import com.readme.dto.ReadmeResponse;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Integration tests for {@link RequestEncodingConfig}.
+ * Tests compressed request bodies, the decompressed size limit and the
+ * Smile and CBOR encodings, and that the decoder is released.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"readme.warmup.enabled=false", "readme.rate-limit.enabled=false",
+        "readme.request.max-decompressed-size=8KB"})
+class RequestEncodingConfigTest {
+
+  private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+  private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("Should accept gzip and zstd encoded JSON bodies")
+  void testCompressedBodies() throws IOException {
+    byte[] json = objectMapper.writeValueAsBytes(request());
+
+    ResponseEntity<ReadmeResponse> gzip = post(gzip(json), MediaType.APPLICATION_JSON, "gzip",
+        MediaType.APPLICATION_JSON, ReadmeResponse.class);
+    assertThat(gzip.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(gzip.getBody().getMarkdown()).contains("# Encoded");
+
+    ResponseEntity<ReadmeResponse> zstd = post(Zstd.compress(json), MediaType.APPLICATION_JSON,
+        "zstd", MediaType.APPLICATION_JSON, ReadmeResponse.class);
+    assertThat(zstd.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(zstd.getBody().getMarkdown()).isEqualTo(gzip.getBody().getMarkdown());
+  }
+
+  @Test
+  @DisplayName("Should reject bodies over the decompressed limit and unknown encodings")
+  void testLimitsAndUnsupportedEncoding() throws IOException {
+    ReadmeRequest large = request();
+    large.setFeatures("x".repeat(1000));
+    large.setCustomSections("{\"Notes\": \"" + "y".repeat(16_000) + "\"}");
+    byte[] json = objectMapper.writeValueAsBytes(large);
+
+    ResponseEntity<String> tooLarge = post(gzip(json), MediaType.APPLICATION_JSON, "gzip",
+        MediaType.APPLICATION_JSON, String.class);
+    assertThat(tooLarge.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+    assertThat(tooLarge.getBody()).contains("exceeds 8192 bytes");
+
+    ResponseEntity<String> unsupported = post(json, MediaType.APPLICATION_JSON, "br",
+        MediaType.APPLICATION_JSON, String.class);
+    assertThat(unsupported.getStatusCode()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+
+    ResponseEntity<String> corrupt = post(new byte[] {1, 2, 3}, MediaType.APPLICATION_JSON,
+        "gzip", MediaType.APPLICATION_JSON, String.class);
+    assertThat(corrupt.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  @DisplayName("Should read and write Smile and CBOR when negotiated")
+  void testBinaryEncodings() throws IOException {
+    ObjectMapper smile = new ObjectMapper(new SmileFactory());
+    ResponseEntity<byte[]> smileResponse = post(smile.writeValueAsBytes(request()), SMILE, null,
+        SMILE, byte[].class);
+    assertThat(smileResponse.getHeaders().getContentType().isCompatibleWith(SMILE)).isTrue();
+    ReadmeResponse fromSmile = smile.readValue(smileResponse.getBody(), ReadmeResponse.class);
+    assertThat(fromSmile.getMarkdown()).contains("# Encoded");
+
+    ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+    ResponseEntity<byte[]> cborResponse = post(gzip(cbor.writeValueAsBytes(request())), CBOR,
+        "gzip", CBOR, byte[].class);
+    assertThat(cborResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(cborResponse.getHeaders().getContentType().isCompatibleWith(CBOR)).isTrue();
+    assertThat(cbor.readValue(cborResponse.getBody(), ReadmeResponse.class).getMarkdown())
+        .isEqualTo(fromSmile.getMarkdown());
+  }
+
+  @Test
+  @DisplayName("Should close the decoder once the request is handled")
+  void testDecoderClosed() throws Exception {
+    AtomicBoolean closed = new AtomicBoolean();
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/generate") {
+      @Override
+      public ServletInputStream getInputStream() {
+        ServletInputStream in = super.getInputStream();
+        return new DelegatingServletInputStream(in) {
+          @Override
+          public void close() throws IOException {
+            closed.set(true);
+            super.close();
+          }
+        };
+      }
+    };
+    request.setContent(Zstd.compress(objectMapper.writeValueAsBytes(request())));
+    request.addHeader(HttpHeaders.CONTENT_ENCODING, "zstd");
+
+    byte[][] body = new byte[1][];
+    new RequestEncodingConfig.RequestDecompressionFilter(8192).doFilter(request,
+        new MockHttpServletResponse(),
+        (req, res) -> body[0] = StreamUtils.copyToByteArray(
+            StreamUtils.nonClosing(req.getInputStream())));
+
+    assertThat(objectMapper.readValue(body[0], ReadmeRequest.class).getProjectName())
+        .isEqualTo("Encoded");
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should decode a compressed body read through a ReadListener")
+  void testNonBlockingRead() throws Exception {
+    byte[] compressed = gzip(objectMapper.writeValueAsBytes(request()));
+    ChunkedInputStream raw = new ChunkedInputStream(compressed);
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/generate") {
+      @Override
+      public ServletInputStream getInputStream() {
+        return raw;
+      }
+    };
+    request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+    ByteArrayOutputStream received = new ByteArrayOutputStream();
+    AtomicBoolean allRead = new AtomicBoolean();
+    new RequestEncodingConfig.RequestDecompressionFilter(8192).doFilter(request,
+        new MockHttpServletResponse(), (req, res) -> {
+          ServletInputStream in = req.getInputStream();
+          in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+              byte[] buffer = new byte[256];
+              int read;
+              while (in.isReady() && (read = in.read(buffer)) != -1) {
+                received.write(buffer, 0, read);
+              }
+            }
+
+            @Override
+            public void onAllDataRead() {
+              allRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+              throw new AssertionError(error);
+            }
+          });
+        });
+
+    raw.deliver(compressed.length / 2);
+    assertThat(received.size()).isZero();
+    raw.deliver(compressed.length);
+
+    assertThat(allRead).isTrue();
+    assertThat(objectMapper.readValue(received.toByteArray(), ReadmeRequest.class)
+        .getProjectName()).isEqualTo("Encoded");
+  }
+
+  private <T> ResponseEntity<T> post(byte[] body, MediaType contentType, String encoding,
+                                     MediaType accept, Class<T> type) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(contentType);
+    headers.setAccept(List.of(accept));
+    if (encoding != null) {
+      headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+    }
+    return restTemplate.postForEntity("/api/generate", new HttpEntity<>(body, headers), type);
+  }
+
+  private static byte[] gzip(byte[] data) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(data);
+    }
+    return out.toByteArray();
+  }
+
+  private static ReadmeRequest request() {
+    return ReadmeRequest.builder()
+        .projectName("Encoded")
+        .description("A project generated from an encoded request")
+        .technologies(List.of("Java", "Spring Boot"))
+        .license("MIT")
+        .build();
+  }
+
+  /**
+   * Servlet stream delivering its content in chunks to a {@link ReadListener},
+   * as a container does for non-blocking reads.
+   */
+  private static final class ChunkedInputStream extends ServletInputStream {
+
+    private final byte[] data;
+    private int position;
+    private int available;
+    private ReadListener listener;
+
+    ChunkedInputStream(byte[] data) {
+      this.data = data;
+    }
+
+    void deliver(int upTo) throws IOException {
+      available = upTo;
+      listener.onDataAvailable();
+      if (available == data.length) {
+        listener.onAllDataRead();
+      }
+    }
+
+    @Override
+    public int read() {
+      return position < available ? data[position++] & 0xff : -1;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return position == data.length;
+    }
+
+    @Override
+    public boolean isReady() {
+      return position < available;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      this.listener = readListener;
+    }
+  }
+}
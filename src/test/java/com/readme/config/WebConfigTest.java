@@ -0,0 +1,63 @@
+package com.readme.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Integration tests for {@link WebConfig}.
+ * Tests fingerprinted asset URLs, precompressed variants and cache headers.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "readme.warmup.enabled=false")
+class WebConfigTest {
+
+  private static final Pattern SCRIPT = Pattern.compile("src=\"(/js/app-[0-9a-f]{32}\\.js)\"");
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Test
+  @DisplayName("Should serve fingerprinted, precompressed assets as immutable")
+  void testFingerprintedAsset() {
+    String page = restTemplate.getForObject("/", String.class);
+    Matcher script = SCRIPT.matcher(page);
+    assertThat(script.find()).isTrue();
+    assertThat(page).containsPattern("href=\"/css/style-[0-9a-f]{32}\\.css\"");
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    ResponseEntity<byte[]> response = restTemplate.exchange(
+        script.group(1), HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeaders().getCacheControl())
+        .contains("max-age=31536000", "immutable");
+    assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT_ENCODING);
+  }
+
+  @Test
+  @DisplayName("Should require revalidation for unversioned asset URLs")
+  void testPlainAsset() {
+    ResponseEntity<String> response = restTemplate.getForEntity("/js/app.js", String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+  }
+}
@@ -0,0 +1,99 @@
+package com.readme.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.readme.dto.ReadmeRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Integration tests for content negotiation on {@code /api/generate}.
+ * Tests the JSON envelope, the raw Markdown document and the zip archive.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"readme.warmup.enabled=false", "readme.rate-limit.enabled=false"})
+class GenerateContentNegotiationTest {
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Test
+  @DisplayName("Should keep the JSON envelope for clients accepting anything")
+  void testJsonByDefault() {
+    ResponseEntity<String> response = generate(MediaType.ALL, String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_JSON))
+        .isTrue();
+    assertThat(response.getBody()).contains("\"status\" : \"success\"");
+  }
+
+  @Test
+  @DisplayName("Should stream the raw document for text/markdown")
+  void testRawMarkdown() {
+    ResponseEntity<String> response = generate(MediaType.parseMediaType("text/markdown"),
+        String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType().toString()).startsWith("text/markdown");
+    assertThat(response.getBody()).startsWith("<div align=\"center\">")
+        .contains("# Negotiated")
+        .contains("## License")
+        .doesNotContain("\\n");
+  }
+
+  @Test
+  @DisplayName("Should stream a zip with README, LICENSE and CONTRIBUTING for application/zip")
+  void testZipArchive() throws IOException {
+    ResponseEntity<byte[]> response = generate(MediaType.parseMediaType("application/zip"),
+        byte[].class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentDisposition().getFilename())
+        .isEqualTo("negotiated.zip");
+
+    Map<String, String> entries = new LinkedHashMap<>();
+    try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(response.getBody()))) {
+      ZipEntry entry;
+      while ((entry = zip.getNextEntry()) != null) {
+        entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+      }
+    }
+    assertThat(entries).containsOnlyKeys("README.md", "LICENSE", "CONTRIBUTING.md");
+    assertThat(entries.get("README.md")).contains("# Negotiated");
+    assertThat(entries.get("LICENSE")).startsWith("MIT License").contains("Jane Doe");
+    assertThat(entries.get("CONTRIBUTING.md")).startsWith("# Contributing to Negotiated");
+  }
+
+  private <T> ResponseEntity<T> generate(MediaType accept, Class<T> type) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setAccept(List.of(accept));
+    ReadmeRequest request = ReadmeRequest.builder()
+        .projectName("Negotiated")
+        .description("A project served in several formats")
+        .license("MIT")
+        .author("Jane Doe")
+        .build();
+    return restTemplate.postForEntity("/api/generate", new HttpEntity<>(request, headers), type);
+  }
+}
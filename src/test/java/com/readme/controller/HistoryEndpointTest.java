@@ -0,0 +1,123 @@
+package com.readme.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.readme.dto.HistorySearchResponse;
+import com.readme.dto.ReadmeRequest;
+import com.readme.model.HistoryEntry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Integration tests for the {@code /api/history} endpoints.
+ * Tests that generated READMEs are recorded and served compressed or plain.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"readme.warmup.enabled=false", "readme.rate-limit.enabled=false"})
+class HistoryEndpointTest {
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @DynamicPropertySource
+  static void historyDirectory(DynamicPropertyRegistry registry) throws IOException {
+    String directory = Files.createTempDirectory("readme-history").toString();
+    registry.add("readme.history.dir", () -> directory);
+  }
+
+  @Test
+  @DisplayName("Should record generated READMEs and serve them gzip-encoded or plain")
+  void testHistory() throws IOException {
+    ReadmeRequest request = ReadmeRequest.builder()
+        .projectName("Chronicle")
+        .description("A project with a history")
+        .license("MIT")
+        .author("Jane Doe")
+        .technologies(List.of("Java", "Docker"))
+        .build();
+    String markdown = restTemplate.postForEntity("/api/generate",
+        new HttpEntity<>(request, markdownHeaders()), String.class).getBody();
+
+    ResponseEntity<String> list =
+        restTemplate.getForEntity("/api/history?project=chronicle", String.class);
+    assertThat(list.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(list.getBody()).contains("\"projectName\" : \"Chronicle\"")
+        .contains("\"kind\" : \"GENERATED\"");
+    long id = Long.parseLong(list.getBody().replaceAll("(?s).*?\"id\" : (\\d+).*", "$1"));
+
+    HttpHeaders gzip = new HttpHeaders();
+    gzip.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+    ResponseEntity<byte[]> compressed = restTemplate.exchange("/api/history/" + id
+        + "/readme.md", HttpMethod.GET, new HttpEntity<>(gzip), byte[].class);
+    assertThat(compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    try (GZIPInputStream in = new GZIPInputStream(
+        new ByteArrayInputStream(compressed.getBody()))) {
+      assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(markdown);
+    }
+
+    ResponseEntity<String> plain =
+        restTemplate.getForEntity("/api/history/" + id + "/readme.md", String.class);
+    assertThat(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    assertThat(plain.getBody()).isEqualTo(markdown);
+
+    assertThat(restTemplate.getForEntity("/api/history/999999", String.class).getStatusCode())
+        .isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  @DisplayName("Should search recorded READMEs by words and facets")
+  void testSearch() {
+    for (String technology : List.of("Python", "Go")) {
+      ReadmeRequest request = ReadmeRequest.builder()
+          .projectName("Searchable " + technology)
+          .description("A project indexed for the history search")
+          .license("Apache-2.0")
+          .technologies(List.of(technology))
+          .build();
+      restTemplate.postForEntity("/api/generate",
+          new HttpEntity<>(request, markdownHeaders()), String.class);
+    }
+
+    ResponseEntity<HistorySearchResponse> response = restTemplate.getForEntity(
+        "/api/history/search?q=indexed searchable&license=apache-2.0", HistorySearchResponse.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().getTotal()).isEqualTo(2);
+    assertThat(response.getBody().getEntries()).extracting(HistoryEntry::projectName)
+        .containsExactly("Searchable Go", "Searchable Python");
+    assertThat(response.getBody().getFacets().get("technology"))
+        .containsOnly(Map.entry("python", 1), Map.entry("go", 1));
+
+    HistorySearchResponse filtered = restTemplate.getForObject(
+        "/api/history/search?q=searchable&technology=GO", HistorySearchResponse.class);
+    assertThat(filtered.getEntries()).extracting(HistoryEntry::labels)
+        .containsExactly(new HistoryEntry.Labels(null, "Apache-2.0", List.of("Go")));
+  }
+
+  private static HttpHeaders markdownHeaders() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setAccept(List.of(MediaType.parseMediaType("text/markdown")));
+    return headers;
+  }
+}
@@ -0,0 +1,59 @@
+package com.readme.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Integration tests for the {@code /api/licenses} endpoints.
+ * Tests the license list and full LICENSE files rendered from the corpus.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"readme.warmup.enabled=false", "readme.rate-limit.enabled=false"})
+class LicenseEndpointTest {
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Test
+  @DisplayName("Should list the bundled licenses")
+  void testListLicenses() {
+    ResponseEntity<String> response = restTemplate.getForEntity("/api/licenses", String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody())
+        .contains("\"id\" : \"MIT\"")
+        .contains("\"name\" : \"Apache License 2.0\"")
+        .contains("GPL-3.0-or-later");
+  }
+
+  @Test
+  @DisplayName("Should render a full LICENSE file with year and holder substituted")
+  void testGetLicense() {
+    ResponseEntity<String> response = restTemplate.getForEntity(
+        "/api/licenses/bsd-3-clause?holder=Jane Doe&year=2021", String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.TEXT_PLAIN))
+        .isTrue();
+    assertThat(response.getBody())
+        .startsWith("BSD 3-Clause License\n\nCopyright (c) 2021, Jane Doe\n")
+        .contains("Neither the name of the copyright holder");
+
+    assertThat(restTemplate.getForEntity("/api/licenses/Proprietary?holder=Jane",
+        String.class).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(restTemplate.getForEntity("/api/licenses/MIT?holder= ",
+        String.class).getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+}
@@ -0,0 +1,104 @@
+package com.readme.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * Integration tests for {@link LivePreviewHandler}.
+ * Tests coalescing of edit bursts on the live preview channel.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"readme.warmup.enabled=false", "readme.preview.live.debounce=200ms",
+        "readme.preview.live.max-wait=2s"})
+class LivePreviewHandlerTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private final BlockingQueue<JsonNode> received = new LinkedBlockingQueue<>();
+  private WebSocketSession session;
+
+  @BeforeEach
+  void connect() throws Exception {
+    session = new StandardWebSocketClient()
+        .execute(new TextWebSocketHandler() {
+          @Override
+          protected void handleTextMessage(WebSocketSession session, TextMessage message)
+              throws Exception {
+            received.add(objectMapper.readTree(message.getPayload()));
+          }
+        }, "ws://localhost:" + port + "/ws/preview")
+        .get(5, TimeUnit.SECONDS);
+  }
+
+  @AfterEach
+  void disconnect() throws Exception {
+    session.close();
+  }
+
+  @Test
+  @DisplayName("Should coalesce a burst of edits into one preview of the newest state")
+  void testBurstIsCoalesced() throws Exception {
+    double rendersBefore = meterRegistry.counter("readme.preview.live.renders").count();
+
+    send(1, Map.of("projectName", "Live Project",
+        "description", "Rendered over the live preview channel"));
+    for (int seq = 2; seq <= 20; seq++) {
+      send(seq, Map.of("usage", "npm run step-" + seq));
+    }
+
+    JsonNode preview = received.poll(5, TimeUnit.SECONDS);
+    assertThat(preview).isNotNull();
+    assertThat(preview.path("type").asText()).isEqualTo("preview");
+    assertThat(preview.path("seq").asLong()).isEqualTo(20);
+    assertThat(preview.path("markdown").asText()).contains("npm run step-20");
+    assertThat(preview.path("html").asText()).contains("<h2>Usage</h2>");
+    assertThat(received.poll(500, TimeUnit.MILLISECONDS)).isNull();
+    assertThat(meterRegistry.counter("readme.preview.live.renders").count() - rendersBefore)
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Should report validation errors for an invalid form")
+  void testInvalidFormReturnsError() throws Exception {
+    send(1, Map.of("projectName", "No description"));
+
+    JsonNode message = received.poll(5, TimeUnit.SECONDS);
+    assertThat(message).isNotNull();
+    assertThat(message.path("type").asText()).isEqualTo("error");
+    assertThat(message.path("error").asText()).isEqualTo("Description is required");
+  }
+
+  private void send(long seq, Map<String, Object> fields) throws Exception {
+    session.sendMessage(new TextMessage(
+        objectMapper.writeValueAsString(Map.of("seq", seq, "fields", fields))));
+  }
+}
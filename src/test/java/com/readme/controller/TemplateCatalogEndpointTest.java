@@ -0,0 +1,79 @@
+package com.readme.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readme.service.TemplateCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Integration tests for the {@code /api/templates} catalog endpoint.
+ * Tests the pre-serialized body, ETag revalidation and versioned caching.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "readme.warmup.enabled=false")
+class TemplateCatalogEndpointTest {
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  private TemplateCatalog templateCatalog;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("Should serve the catalog with a strong ETag and revalidation")
+  void testCatalogWithETag() throws Exception {
+    ResponseEntity<String> response = restTemplate.getForEntity("/api/templates", String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    String etag = response.getHeaders().getETag();
+    assertThat(etag).isEqualTo("\"" + templateCatalog.current().version() + "\"");
+    assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+
+    JsonNode catalog = objectMapper.readTree(response.getBody());
+    assertThat(catalog.path("types")).isNotEmpty();
+    assertThat(catalog.path("licenses").toString()).contains("MIT");
+    assertThat(response.getBody()).doesNotContain("\n");
+  }
+
+  @Test
+  @DisplayName("Should answer 304 when the ETag matches")
+  void testCatalogNotModified() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch("\"" + templateCatalog.current().version() + "\"");
+
+    ResponseEntity<String> response = restTemplate.exchange(
+        "/api/templates", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(response.getBody()).isNull();
+  }
+
+  @Test
+  @DisplayName("Should mark the versioned catalog URL as immutable")
+  void testVersionedCatalogIsImmutable() {
+    ResponseEntity<String> response = restTemplate.getForEntity(
+        templateCatalog.getVersionedUrl(), String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getCacheControl())
+        .contains("max-age=31536000", "immutable");
+  }
+}
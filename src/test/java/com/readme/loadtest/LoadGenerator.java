@@ -0,0 +1,420 @@
+package com.readme.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.readme.support.FakeGitHubServer;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Open-model load generator for the README Generator HTTP API.
+ *
+ * <p>Each {@link Scenario} is driven at a constant arrival rate: requests are
+ * scheduled on a fixed timetable and sent asynchronously, regardless of how
+ * many earlier requests are still outstanding. Latency is measured from the
+ * intended send time, so queueing delay caused by a slow server is included
+ * (no coordinated omission).
+ *
+ * <p>Results hold throughput, error rate and a latency percentile spectrum per
+ * scenario, plus server-side GC pause time read from the actuator
+ * {@code jvm.gc.pause} metric. They are written as key-sorted, indented JSON
+ * so runs can be compared with a plain diff.
+ *
+ * <p>Standalone usage against a running application, with a local GitHub stub
+ * for {@code /api/export} (start the app with {@code --github.api-url} pointing
+ * at the stub port):
+ * <pre>
+ * java -cp target/test-classes:... com.readme.loadtest.LoadGenerator \
+ *     -Dload.target=http://localhost:8080 -Dload.github-stub.port=9090 \
+ *     -Dload.rate.generate=200 -Dload.rate.templates=100 -Dload.rate.export=20
+ * </pre>
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+public final class LoadGenerator {
+
+  /** Token accepted by the GitHub stub started for export scenarios. */
+  public static final String STUB_TOKEN = "ghp_loadtest";
+
+  /** Number of stub repositories exports are spread over. */
+  public static final int STUB_REPOSITORIES = 1_000;
+
+  private static final double[] PERCENTILES = {50.0, 75.0, 90.0, 95.0, 99.0, 99.9, 99.99};
+  private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+  private static final int MAX_IN_FLIGHT = 10_000;
+
+  private final URI target;
+  private final Duration warmup;
+  private final Duration duration;
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT)
+      .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+  /**
+   * A request type driven at a constant arrival rate.
+   *
+   * @param name the scenario name used in the results
+   * @param method the HTTP method
+   * @param path the request path
+   * @param body factory for the JSON body of the n-th request, or null for none
+   * @param ratePerSecond the target arrival rate
+   */
+  public record Scenario(String name, String method, String path,
+                         IntFunction<String> body, double ratePerSecond) {
+  }
+
+  /**
+   * Creates a generator.
+   *
+   * @param target base URL of the application under test
+   * @param warmup time to drive load before recording
+   * @param duration recorded measurement time
+   */
+  public LoadGenerator(URI target, Duration warmup, Duration duration) {
+    this.target = target;
+    this.warmup = warmup;
+    this.duration = duration;
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+  }
+
+  /**
+   * Builds the standard scenario mix.
+   *
+   * @param generateRate arrival rate for {@code POST /api/generate}
+   * @param templatesRate arrival rate for {@code GET /api/templates}
+   * @param exportRate arrival rate for {@code POST /api/export}, 0 to skip
+   * @return the scenarios with a non-zero rate
+   */
+  public static List<Scenario> standardScenarios(double generateRate, double templatesRate,
+                                                 double exportRate) {
+    List<Scenario> scenarios = new ArrayList<>();
+    if (generateRate > 0) {
+      scenarios.add(new Scenario("generate", "POST", "/api/generate",
+          LoadGenerator::generateBody, generateRate));
+    }
+    if (templatesRate > 0) {
+      scenarios.add(new Scenario("templates", "GET", "/api/templates", null, templatesRate));
+    }
+    if (exportRate > 0) {
+      scenarios.add(new Scenario("export", "POST", "/api/export",
+          LoadGenerator::exportBody, exportRate));
+    }
+    return scenarios;
+  }
+
+  /**
+   * Registers the token and repositories the export scenario uses.
+   *
+   * @param github the stub to prepare
+   * @return the stub
+   */
+  public static FakeGitHubServer prepareStub(FakeGitHubServer github) {
+    github.withToken(STUB_TOKEN).withRateLimit(Integer.MAX_VALUE);
+    for (int i = 0; i < STUB_REPOSITORIES; i++) {
+      github.withRepository("load/repo-" + i);
+    }
+    return github;
+  }
+
+  /**
+   * Runs all scenarios concurrently and collects the results.
+   *
+   * @param scenarios the scenarios to drive
+   * @return the results, ready to be written as JSON
+   * @throws InterruptedException if interrupted while waiting for the run
+   */
+  public Map<String, Object> run(List<Scenario> scenarios) throws InterruptedException {
+    List<ScenarioRun> runs = new ArrayList<>();
+    for (Scenario scenario : scenarios) {
+      runs.add(new ScenarioRun(scenario));
+    }
+
+    long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+    long measureStart = start + warmup.toNanos();
+    long end = measureStart + duration.toNanos();
+
+    CountDownLatch done = new CountDownLatch(runs.size());
+    for (ScenarioRun run : runs) {
+      Thread thread = new Thread(() -> {
+        try {
+          run.drive(start, measureStart, end);
+        } finally {
+          done.countDown();
+        }
+      }, "load-" + run.scenario.name());
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    LockSupport.parkNanos(Math.max(0, measureStart - System.nanoTime()));
+    GcSnapshot gcBefore = readGc();
+    done.await();
+    for (ScenarioRun run : runs) {
+      run.awaitOutstanding(Duration.ofSeconds(30));
+    }
+    GcSnapshot gcAfter = readGc();
+
+    Map<String, Object> results = new TreeMap<>();
+    Map<String, Object> config = new TreeMap<>();
+    config.put("target", target.toString());
+    config.put("warmupSeconds", warmup.toSeconds());
+    config.put("durationSeconds", duration.toSeconds());
+    results.put("config", config);
+
+    Map<String, Object> scenarioResults = new TreeMap<>();
+    for (ScenarioRun run : runs) {
+      scenarioResults.put(run.scenario.name(), run.summarize(duration));
+    }
+    results.put("scenarios", scenarioResults);
+
+    Map<String, Object> server = new TreeMap<>();
+    server.put("gcPauseCount", gcAfter.count - gcBefore.count);
+    server.put("gcPauseTimeMs", round((gcAfter.totalSeconds - gcBefore.totalSeconds) * 1000.0));
+    results.put("server", server);
+    return results;
+  }
+
+  /**
+   * Writes results as diffable JSON.
+   *
+   * @param results the results from {@link #run(List)}
+   * @param output the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public void write(Map<String, Object> results, Path output) throws IOException {
+    if (output.getParent() != null) {
+      Files.createDirectories(output.getParent());
+    }
+    Files.write(output, objectMapper.writeValueAsBytes(results));
+  }
+
+  /**
+   * Command-line entry point. Configuration comes from {@code load.*} system properties.
+   *
+   * @param args unused
+   * @throws Exception if the run fails
+   */
+  public static void main(String[] args) throws Exception {
+    URI target = URI.create(System.getProperty("load.target", "http://localhost:8080"));
+    Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10));
+    Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 60));
+    Path output = Path.of(System.getProperty("load.output", "target/load-results/results.json"));
+
+    FakeGitHubServer github = null;
+    String stubPort = System.getProperty("load.github-stub.port");
+    if (stubPort != null) {
+      github = prepareStub(FakeGitHubServer.start(Integer.parseInt(stubPort)));
+      System.out.println("GitHub stub listening on " + github.getBaseUrl());
+    }
+
+    try {
+      LoadGenerator generator = new LoadGenerator(target, warmup, duration);
+      Map<String, Object> results = generator.run(standardScenarios(
+          Double.parseDouble(System.getProperty("load.rate.generate", "200")),
+          Double.parseDouble(System.getProperty("load.rate.templates", "100")),
+          github != null ? Double.parseDouble(System.getProperty("load.rate.export", "20")) : 0));
+      generator.write(results, output);
+      System.out.println("Results written to " + output.toAbsolutePath());
+    } finally {
+      if (github != null) {
+        github.close();
+      }
+    }
+  }
+
+  private static String generateBody(int index) {
+    String[] types = {"API", "LIBRARY", "FRONTEND", "CLI", "FULLSTACK"};
+    return "{\"projectName\":\"Load " + index + "\","
+        + "\"description\":\"Project generated by the load test harness.\","
+        + "\"templateType\":\"" + types[index % types.length] + "\","
+        + "\"technologies\":[\"Java\",\"Spring Boot\",\"React\"],"
+        + "\"features\":\"Fast\\nReliable\\nSimple\","
+        + "\"installation\":\"mvn install\",\"usage\":\"java -jar app.jar\","
+        + "\"repositoryUrl\":\"https://github.com/load/repo-" + (index % STUB_REPOSITORIES) + "\","
+        + "\"license\":\"MIT\",\"author\":\"Load Test\",\"includeTableOfContents\":true}";
+  }
+
+  private static String exportBody(int index) {
+    return "{\"repositoryUrl\":\"https://github.com/load/repo-"
+        + ThreadLocalRandom.current().nextInt(STUB_REPOSITORIES) + "\","
+        + "\"readmeContent\":\"# Load " + index + "\\n\\nExported by the load test.\","
+        + "\"githubToken\":\"" + STUB_TOKEN + "\"}";
+  }
+
+  private GcSnapshot readGc() {
+    try {
+      HttpRequest request = HttpRequest.newBuilder(target.resolve("/actuator/metrics/jvm.gc.pause"))
+          .timeout(Duration.ofSeconds(5))
+          .GET()
+          .build();
+      HttpResponse<byte[]> response =
+          httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+      if (response.statusCode() != 200) {
+        return new GcSnapshot(0, 0);
+      }
+      long count = 0;
+      double total = 0;
+      for (JsonNode measurement : objectMapper.readTree(response.body()).path("measurements")) {
+        switch (measurement.path("statistic").asText()) {
+          case "COUNT" -> count = measurement.path("value").asLong();
+          case "TOTAL_TIME" -> total = measurement.path("value").asDouble();
+          default -> {
+            // MAX is not needed
+          }
+        }
+      }
+      return new GcSnapshot(count, total);
+    } catch (IOException e) {
+      return new GcSnapshot(0, 0);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new GcSnapshot(0, 0);
+    }
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 1000.0) / 1000.0;
+  }
+
+  private record GcSnapshot(long count, double totalSeconds) {
+  }
+
+  /**
+   * Drives one scenario and records its outcomes.
+   */
+  private final class ScenarioRun {
+
+    private final Scenario scenario;
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong saturated = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<>();
+
+    ScenarioRun(Scenario scenario) {
+      this.scenario = scenario;
+    }
+
+    void drive(long start, long measureStart, long end) {
+      long interval = (long) (TimeUnit.SECONDS.toNanos(1) / scenario.ratePerSecond());
+      recorder.reset();
+      for (int i = 0; ; i++) {
+        long intended = start + i * interval;
+        if (intended >= end) {
+          return;
+        }
+        long wait = intended - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+        fire(i, intended, intended >= measureStart);
+      }
+    }
+
+    private void fire(int index, long intended, boolean measured) {
+      if (inFlight.get() >= MAX_IN_FLIGHT) {
+        if (measured) {
+          saturated.incrementAndGet();
+          errors.incrementAndGet();
+        }
+        return;
+      }
+
+      HttpRequest.Builder builder = HttpRequest.newBuilder(target.resolve(scenario.path()))
+          .timeout(Duration.ofSeconds(60))
+          .header("Accept", "application/json");
+      if (scenario.body() != null) {
+        builder.header("Content-Type", "application/json")
+            .method(scenario.method(), HttpRequest.BodyPublishers.ofString(
+                scenario.body().apply(index), StandardCharsets.UTF_8));
+      } else {
+        builder.method(scenario.method(), HttpRequest.BodyPublishers.noBody());
+      }
+
+      inFlight.incrementAndGet();
+      httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding())
+          .whenComplete((response, error) -> {
+            inFlight.decrementAndGet();
+            if (!measured) {
+              return;
+            }
+            recorder.recordValue(Math.min(HIGHEST_TRACKABLE_NANOS, System.nanoTime() - intended));
+            completed.incrementAndGet();
+            int status = response != null ? response.statusCode() : 0;
+            statusCounts.computeIfAbsent(status, key -> new AtomicLong()).incrementAndGet();
+            if (error != null || status >= 400) {
+              errors.incrementAndGet();
+            }
+          });
+    }
+
+    void awaitOutstanding(Duration timeout) {
+      long deadline = System.nanoTime() + timeout.toNanos();
+      while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+      }
+    }
+
+    Map<String, Object> summarize(Duration measured) {
+      Histogram histogram = recorder.getIntervalHistogram();
+      Map<String, Object> result = new TreeMap<>();
+      result.put("targetRatePerSecond", scenario.ratePerSecond());
+      result.put("throughputPerSecond", round(completed.get() / (double) measured.toSeconds()));
+      result.put("requests", completed.get() + saturated.get());
+      result.put("errors", errors.get());
+      result.put("errorRate", completed.get() + saturated.get() == 0 ? 0.0
+          : round((double) errors.get() / (completed.get() + saturated.get())));
+      result.put("clientSaturated", saturated.get());
+
+      Map<String, Object> statuses = new TreeMap<>();
+      statusCounts.forEach((status, count) ->
+          statuses.put(status == 0 ? "transportError" : String.valueOf(status), count.get()));
+      result.put("statusCodes", statuses);
+
+      Map<String, Object> latency = new LinkedHashMap<>();
+      for (double percentile : PERCENTILES) {
+        latency.put("p" + formatPercentile(percentile),
+            round(histogram.getValueAtPercentile(percentile) / 1e6));
+      }
+      latency.put("max", round(histogram.getMaxValue() / 1e6));
+      latency.put("mean", round(histogram.getMean() / 1e6));
+      result.put("latencyMs", latency);
+      return result;
+    }
+
+    private String formatPercentile(double percentile) {
+      return percentile == Math.rint(percentile)
+          ? String.valueOf((long) percentile)
+          : String.valueOf(percentile).replace(".", "");
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package com.readme.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.readme.support.FakeGitHubServer;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Capacity run of {@link LoadGenerator} against an in-process application
+ * whose GitHub integration points at {@link FakeGitHubServer}.
+ *
+ * <p>Rates and durations come from the same {@code load.*} system properties
+ * as the standalone generator. Results are written to
+ * {@code target/load-results/load-test.json}.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark -Dtest=LoadTestBenchmarkTest}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "readme.rate-limit.enabled=false")
+class LoadTestBenchmarkTest {
+
+  private static FakeGitHubServer github;
+
+  @LocalServerPort
+  private int port;
+
+  @DynamicPropertySource
+  static void githubStub(DynamicPropertyRegistry registry) throws IOException {
+    github = LoadGenerator.prepareStub(FakeGitHubServer.start()
+        .withLatency(Duration.ofMillis(Long.getLong("load.github-latency-ms", 30))));
+    registry.add("github.api-url", github::getBaseUrl);
+  }
+
+  @AfterAll
+  static void stopStub() {
+    github.close();
+  }
+
+  @Test
+  @DisplayName("Drive generate, templates and export at constant arrival rates")
+  void runLoadTest() throws Exception {
+    LoadGenerator generator = new LoadGenerator(
+        URI.create("http://localhost:" + port),
+        Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5)),
+        Duration.ofSeconds(Long.getLong("load.duration-seconds", 20)));
+
+    Map<String, Object> results = generator.run(LoadGenerator.standardScenarios(
+        Double.parseDouble(System.getProperty("load.rate.generate", "40")),
+        Double.parseDouble(System.getProperty("load.rate.templates", "20")),
+        Double.parseDouble(System.getProperty("load.rate.export", "5"))));
+
+    Path output = Path.of(System.getProperty("load.output", "target/load-results/load-test.json"));
+    generator.write(results, output);
+    System.out.println("[load-test] results written to " + output.toAbsolutePath());
+
+    assertThat(results).containsKeys("config", "scenarios", "server");
+  }
+}
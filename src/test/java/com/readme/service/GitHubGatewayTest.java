@@ -0,0 +1,91 @@
+package com.readme.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readme.support.FakeGitHubServer;
+import com.readme.util.CircuitBreaker;
+import com.readme.util.HedgePolicy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link GitHubGateway}.
+ * Exercises read hedging against {@link FakeGitHubServer}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class GitHubGatewayTest {
+
+  private static final String TOKEN = "ghp_test";
+  private static final String REPO = "user/repo";
+
+  private FakeGitHubServer github;
+  private HedgePolicy hedgePolicy;
+  private GitHubGateway gateway;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    github = FakeGitHubServer.start()
+        .withToken(TOKEN)
+        .withRepository(REPO);
+    hedgePolicy = new HedgePolicy(95, 100, Duration.ofMillis(10), Duration.ofMillis(100));
+    gateway = new GitHubGateway(new ObjectMapper(), github.getBaseUrl(),
+        new CircuitBreaker(20, 10, 50, 80, Duration.ofSeconds(5), Duration.ofSeconds(30), 3),
+        hedgePolicy);
+  }
+
+  @AfterEach
+  void tearDown() {
+    github.close();
+  }
+
+  @Test
+  @DisplayName("Should answer a stalled read with a hedged request")
+  void testHedgedReadWins() throws Exception {
+    // Establish the connection first so the stalled request is the original one
+    assertThat(gateway.isCredentialValid(TOKEN).get(3, TimeUnit.SECONDS)).isTrue();
+    github.withStalls(1, Duration.ofSeconds(5));
+
+    long start = System.nanoTime();
+    JsonNode repository = gateway.getRepository(REPO, TOKEN).get(3, TimeUnit.SECONDS);
+
+    assertThat(repository.path("full_name").asText()).isEqualTo(REPO);
+    assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(3));
+    assertThat(hedgePolicy.getHedges()).isEqualTo(1);
+    assertThat(hedgePolicy.getWins()).isEqualTo(1);
+    assertThat(github.getRequestCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should answer with the hedge when the original read fails with a 503")
+  void testHedgeWinsOverServerError() throws Exception {
+    assertThat(gateway.isCredentialValid(TOKEN).get(3, TimeUnit.SECONDS)).isTrue();
+    // The original fails while the hedge, sent within 100 ms, is still pending
+    github.withLatency(Duration.ofMillis(300)).withFailures(1, 503);
+
+    JsonNode repository = gateway.getRepository(REPO, TOKEN).get(3, TimeUnit.SECONDS);
+
+    assertThat(repository.path("full_name").asText()).isEqualTo(REPO);
+    assertThat(hedgePolicy.getHedges()).isEqualTo(1);
+    assertThat(hedgePolicy.getWins()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not hedge reads that answer within the hedge delay")
+  void testFastReadNotHedged() throws Exception {
+    assertThat(gateway.isCredentialValid(TOKEN).get(3, TimeUnit.SECONDS)).isTrue();
+    assertThat(gateway.getContent(REPO, "README.md", TOKEN).get(3, TimeUnit.SECONDS)).isEmpty();
+    Thread.sleep(200);
+
+    assertThat(hedgePolicy.getHedges()).isZero();
+    assertThat(github.getRequestCount()).isEqualTo(2);
+  }
+}
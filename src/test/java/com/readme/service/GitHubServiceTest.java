@@ -0,0 +1,198 @@
+package com.readme.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readme.exception.GitHubExportException;
+import com.readme.exception.ServiceUnavailableException;
+import com.readme.support.FakeGitHubServer;
+import com.readme.util.CircuitBreaker;
+import com.readme.util.HedgePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link GitHubService}.
+ * Exercises the export path against {@link FakeGitHubServer}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class GitHubServiceTest {
+
+  private static final String TOKEN = "ghp_test";
+  private static final String REPO = "user/repo";
+  private static final String REPO_URL = "https://github.com/" + REPO;
+
+  private FakeGitHubServer github;
+  private GitHubService service;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    github = FakeGitHubServer.start()
+        .withToken(TOKEN)
+        .withRepository(REPO);
+    service = new GitHubService(new GitHubGateway(new ObjectMapper(), github.getBaseUrl()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    github.close();
+  }
+
+  @Test
+  @DisplayName("Should create README when none exists")
+  void testExportCreatesReadme() throws GitHubExportException {
+    String result = service.exportToGitHub(REPO_URL, "# Hello", TOKEN);
+
+    assertThat(result).isEqualTo("README.md created successfully in user/repo");
+    assertThat(github.getFile(REPO, "README.md")).isEqualTo("# Hello");
+  }
+
+  @Test
+  @DisplayName("Should update existing README")
+  void testExportUpdatesReadme() throws GitHubExportException {
+    github.withFile(REPO, "README.md", "# Old");
+
+    String result = service.exportToGitHub(REPO_URL, "# New", TOKEN);
+
+    assertThat(result).isEqualTo("README.md updated successfully in user/repo");
+    assertThat(github.getFile(REPO, "README.md")).isEqualTo("# New");
+  }
+
+  @Test
+  @DisplayName("Should reject invalid token")
+  void testExportInvalidToken() {
+    assertThatThrownBy(() -> service.exportToGitHub(REPO_URL, "# Hello", "wrong"))
+        .isInstanceOf(GitHubExportException.class)
+        .hasMessageContaining("Invalid GitHub token");
+    assertThat(github.getWriteCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should fail for inaccessible repository")
+  void testExportMissingRepository() {
+    assertThatThrownBy(() -> service.exportToGitHub(
+        "https://github.com/user/missing", "# Hello", TOKEN))
+        .isInstanceOf(GitHubExportException.class)
+        .hasMessageContaining("Unable to access repository");
+  }
+
+  @Test
+  @DisplayName("Should reject malformed repository URL without calling GitHub")
+  void testExportInvalidRepositoryUrl() {
+    assertThatThrownBy(() -> service.exportToGitHub(
+        "https://github.com/user", "# Hello", TOKEN))
+        .isInstanceOf(GitHubExportException.class)
+        .hasMessageContaining("Invalid repository URL format");
+    assertThat(github.getRequestCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should reject repository paths with characters GitHub does not allow")
+  void testExportRejectsUnsafeRepositoryPath() {
+    assertThatThrownBy(() -> service.exportToGitHub(
+        "https://github.com/user/repo x", "# Hello", TOKEN))
+        .isInstanceOf(GitHubExportException.class)
+        .hasMessageContaining("Invalid repository URL format");
+    assertThat(github.getRequestCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should release the concurrency permit when a GitHub call fails synchronously")
+  void testExportReleasesPermitOnSynchronousFailure() throws Exception {
+    AtomicBoolean fail = new AtomicBoolean(true);
+    GitHubGateway gateway = new GitHubGateway(new ObjectMapper(), github.getBaseUrl()) {
+      @Override
+      public CompletableFuture<Boolean> isCredentialValid(String token) {
+        if (fail.getAndSet(false)) {
+          throw new IllegalArgumentException("Illegal character in path");
+        }
+        return super.isCredentialValid(token);
+      }
+    };
+    GitHubService limited = new GitHubService(gateway, 1, 1, 1, new SimpleMeterRegistry());
+
+    assertThatThrownBy(() -> limited.exportToGitHub(REPO_URL, "# One", TOKEN))
+        .isInstanceOf(GitHubExportException.class)
+        .isNotInstanceOf(ServiceUnavailableException.class);
+    assertThat(limited.exportToGitHub(REPO_URL, "# Two", TOKEN))
+        .isEqualTo("README.md created successfully in user/repo");
+  }
+
+  @Test
+  @DisplayName("Should surface rate limiting")
+  void testExportRateLimited() {
+    github.withRateLimit(0);
+
+    assertThatThrownBy(() -> service.exportToGitHub(REPO_URL, "# Hello", TOKEN))
+        .isInstanceOf(GitHubExportException.class)
+        .hasMessageContaining("rate limit");
+  }
+
+  @Test
+  @DisplayName("Should fail fast when the export concurrency limit is reached")
+  void testExportConcurrencyLimit() throws Exception {
+    github.withLatency(Duration.ofMillis(200));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    GitHubService limited = new GitHubService(
+        new GitHubGateway(new ObjectMapper(), github.getBaseUrl()), 1, 1, 1, meterRegistry);
+
+    CompletableFuture<String> first = limited.exportToGitHubAsync(REPO_URL, "# One", TOKEN);
+    assertThatThrownBy(() -> limited.exportToGitHub(REPO_URL, "# Two", TOKEN))
+        .isInstanceOf(ServiceUnavailableException.class)
+        .hasMessageContaining("Too many exports");
+
+    assertThat(first.get()).isEqualTo("README.md created successfully in user/repo");
+    assertThat(github.getFile(REPO, "README.md")).isEqualTo("# One");
+    assertThat(meterRegistry.get("readme.export.concurrency.rejected").functionCounter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("readme.export.concurrency.inflight").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should fail fast without calling GitHub once the circuit is open")
+  void testCircuitBreakerFailsFast() {
+    github.withErrorRate(1.0);
+    CircuitBreaker circuitBreaker = new CircuitBreaker(4, 4, 50, 100, Duration.ofSeconds(5),
+        Duration.ofMinutes(1), 1);
+    GitHubService guarded = new GitHubService(
+        new GitHubGateway(new ObjectMapper(), github.getBaseUrl(), circuitBreaker,
+            HedgePolicy.disabled()));
+
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> guarded.validateToken(TOKEN))
+          .isInstanceOf(GitHubExportException.class)
+          .hasMessageContaining("HTTP 502");
+    }
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    int requests = github.getRequestCount();
+    assertThatThrownBy(() -> guarded.exportToGitHub(REPO_URL, "# Hello", TOKEN))
+        .isInstanceOf(ServiceUnavailableException.class)
+        .hasMessageContaining("GitHub is currently unavailable");
+    assertThatThrownBy(() -> guarded.validateToken(TOKEN))
+        .isInstanceOf(ServiceUnavailableException.class);
+    assertThat(github.getRequestCount()).isEqualTo(requests);
+  }
+
+  @Test
+  @DisplayName("Should validate tokens")
+  void testValidateToken() throws GitHubExportException {
+    assertThat(service.validateToken(TOKEN)).isTrue();
+    assertThatThrownBy(() -> service.validateToken("wrong"))
+        .isInstanceOf(GitHubExportException.class)
+        .hasMessageContaining("Invalid GitHub token");
+    assertThatThrownBy(() -> service.validateToken(" "))
+        .isInstanceOf(GitHubExportException.class)
+        .hasMessageContaining("token is required");
+  }
+}
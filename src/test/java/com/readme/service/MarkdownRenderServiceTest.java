@@ -0,0 +1,80 @@
+package com.readme.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MarkdownRenderService}.
+ * Tests GFM rendering, sanitization and the render cache.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class MarkdownRenderServiceTest {
+
+  private MarkdownRenderService renderService;
+
+  @BeforeEach
+  void setUp() {
+    renderService = new MarkdownRenderService(16);
+  }
+
+  @Test
+  @DisplayName("Should render GFM tables")
+  void testRenderTable() {
+    String html = renderService.render("| A | B |\n|---|---|\n| 1 | 2 |\n");
+
+    assertThat(html).contains("<table>", "<th>A</th>", "<td>2</td>");
+  }
+
+  @Test
+  @DisplayName("Should render GFM strikethrough")
+  void testRenderStrikethrough() {
+    assertThat(renderService.render("~~old~~")).contains("<del>old</del>");
+  }
+
+  @Test
+  @DisplayName("Should keep whitelisted HTML used by README layouts")
+  void testRenderAllowedHtml() {
+    String html = renderService.render(
+        "<div align=\"center\">\n\n# Title\n\n<img src=\"https://example.com/logo.png\" "
+            + "alt=\"Logo\" onerror=\"alert(1)\">\n\n</div>\n");
+
+    assertThat(html)
+        .contains("<div align=\"center\">", "<h1>Title</h1>")
+        .contains("<img src=\"https://example.com/logo.png\" alt=\"Logo\">")
+        .doesNotContain("onerror");
+  }
+
+  @Test
+  @DisplayName("Should escape script tags and drop unsafe URLs")
+  void testRenderStripsUnsafeContent() {
+    String html = renderService.render(
+        "<script>alert(1)</script>\n\n[link](javascript:alert(1)) "
+            + "<a href=\"javascript:alert(1)\">x</a>\n");
+
+    assertThat(html)
+        .doesNotContain("<script>")
+        .doesNotContain("href=\"javascript:")
+        .contains("&lt;script&gt;");
+  }
+
+  @Test
+  @DisplayName("Should return cached HTML for identical content")
+  void testRenderCache() {
+    String first = renderService.render("# Cached\n");
+    String second = renderService.render("# Cached\n");
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  @DisplayName("Should return empty HTML for empty markdown")
+  void testRenderEmpty() {
+    assertThat(renderService.render("")).isEmpty();
+    assertThat(renderService.render(null)).isEmpty();
+  }
+}
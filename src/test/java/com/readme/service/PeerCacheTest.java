@@ -0,0 +1,160 @@
+package com.readme.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readme.ReadmeGeneratorApplication;
+import com.readme.dto.ReadmeRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Integration tests for {@link PeerCache}.
+ * Starts several application instances on one machine, sharing a static
+ * membership, and drives {@code /api/generate} against them.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class PeerCacheTest {
+
+  private static final String SECRET = "peer-secret";
+
+  private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+  private final HttpClient http = HttpClient.newHttpClient();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @AfterEach
+  void tearDown() {
+    nodes.forEach(ConfigurableApplicationContext::close);
+  }
+
+  @Test
+  @DisplayName("Should generate a request once across replicas and serve it from the near-cache")
+  void testSharedGeneration() throws Exception {
+    int portA = freePort();
+    int portB = freePort();
+    String members = url(portA) + "," + url(portB);
+    PeerCache nodeA = start(portA, members);
+    PeerCache nodeB = start(portB, members);
+    ReadmeRequest request = ownedBy(nodeA, url(portB));
+
+    assertThat(generate(portA, request)).contains(request.getProjectName());
+    assertThat(nodeA.getRemoteFetches()).isEqualTo(1);
+    assertThat(nodeA.getGenerations()).isZero();
+    assertThat(nodeB.getGenerations()).isEqualTo(1);
+
+    assertThat(generate(portB, request)).contains(request.getProjectName());
+    assertThat(nodeB.getOwnedHits()).isEqualTo(1);
+    assertThat(nodeB.getGenerations()).isEqualTo(1);
+
+    assertThat(generate(portA, request)).contains(request.getProjectName());
+    assertThat(nodeA.getNearHits()).isEqualTo(1);
+    assertThat(nodeA.getRemoteFetches()).isEqualTo(1);
+
+    HttpResponse<String> untrusted = http.send(HttpRequest.newBuilder(
+            URI.create(url(portB) + PeerCache.SECTIONS_PATH))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request)))
+        .build(), HttpResponse.BodyHandlers.ofString());
+    assertThat(untrusted.statusCode()).isEqualTo(403);
+
+    request.setDescription("Too short");
+    HttpResponse<String> invalid = http.send(HttpRequest.newBuilder(
+            URI.create(url(portB) + PeerCache.SECTIONS_PATH))
+        .header("Content-Type", "application/json")
+        .header(PeerCache.SECRET_HEADER, SECRET)
+        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request)))
+        .build(), HttpResponse.BodyHandlers.ofString());
+    assertThat(invalid.statusCode()).isEqualTo(400);
+    assertThat(nodeB.getGenerations()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should refuse to start with members but no secret")
+  void testSecretRequired() {
+    assertThatThrownBy(() -> new PeerCache(new ReadmeGeneratorService(), objectMapper,
+        url(8080), url(8080) + "," + url(8081), 128, 16, 16, Duration.ofMillis(500), " ",
+        new SimpleMeterRegistry()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("readme.cache.peers.secret");
+  }
+
+  @Test
+  @DisplayName("Should generate locally when the owning peer is down")
+  void testFallbackWhenPeerDown() throws Exception {
+    int portA = freePort();
+    int downPort = freePort();
+    PeerCache nodeA = start(portA, url(portA) + "," + url(downPort));
+    ReadmeRequest request = ownedBy(nodeA, url(downPort));
+
+    assertThat(generate(portA, request)).contains(request.getProjectName());
+    assertThat(nodeA.getFallbacks()).isEqualTo(1);
+    assertThat(nodeA.getGenerations()).isEqualTo(1);
+
+    assertThat(generate(portA, request)).contains(request.getProjectName());
+    assertThat(nodeA.getNearHits()).isEqualTo(1);
+  }
+
+  private PeerCache start(int port, String members) {
+    ConfigurableApplicationContext context =
+        new SpringApplicationBuilder(ReadmeGeneratorApplication.class).run(
+            "--server.port=" + port,
+            "--spring.jmx.enabled=false",
+            "--readme.warmup.enabled=false",
+            "--readme.rate-limit.enabled=false",
+            "--readme.cache.peers.self=" + url(port),
+            "--readme.cache.peers.members=" + members,
+            "--readme.cache.peers.secret=" + SECRET);
+    nodes.add(context);
+    return context.getBean(PeerCache.class);
+  }
+
+  private String generate(int port, ReadmeRequest request) throws Exception {
+    HttpResponse<String> response = http.send(HttpRequest.newBuilder(
+            URI.create(url(port) + "/api/generate"))
+        .header("Content-Type", "application/json")
+        .header("Accept", "text/markdown")
+        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(request)))
+        .build(), HttpResponse.BodyHandlers.ofString());
+    assertThat(response.statusCode()).isEqualTo(200);
+    return response.body();
+  }
+
+  private static ReadmeRequest ownedBy(PeerCache cache, String owner) throws Exception {
+    for (int i = 0; ; i++) {
+      ReadmeRequest request = ReadmeRequest.builder()
+          .projectName("Replicated " + i)
+          .description("Generated once per cluster")
+          .technologies(List.of("Java"))
+          .build();
+      if (cache.ownerOf(request).equals(owner)) {
+        return request;
+      }
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static String url(int port) {
+    return "http://localhost:" + port;
+  }
+}
@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.readme.dto.ReadmeRequest;
+import com.readme.dto.ReadmeSection;
 import com.readme.exception.ReadmeGenerationException;
 import com.readme.model.TemplateType;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -324,4 +327,115 @@ class ReadmeGeneratorServiceTest {
     assertThat(readme).contains("License");
     assertThat(readme).contains("Test Author");
   }
+
+  @Test
+  @DisplayName("Should concatenate sections into the full README")
+  void testGenerateSectionsMatchesReadme() throws ReadmeGenerationException {
+    ReadmeRequest request = ReadmeRequest.builder()
+        .projectName("Sections")
+        .description("Section description")
+        .features("Feature 1")
+        .usage("npm start")
+        .build();
+
+    List<ReadmeSection> sections = service.generateSections(request);
+
+    assertThat(sections).extracting(ReadmeSection::getId)
+        .containsExactly("header", "badges", "about", "features", "usage",
+            "contributing", "license", "footer");
+    assertThat(String.join("", sections.stream().map(ReadmeSection::getContent).toList()))
+        .isEqualTo(service.generateReadme(request));
+  }
+
+  @Test
+  @DisplayName("Should only return content for sections whose inputs changed")
+  void testGeneratePatch() throws ReadmeGenerationException {
+    ReadmeRequest request = ReadmeRequest.builder()
+        .projectName("Patch")
+        .description("Patch description")
+        .features("Feature 1")
+        .usage("npm start")
+        .build();
+    Map<String, String> known = service.generateSections(request).stream()
+        .collect(Collectors.toMap(ReadmeSection::getId, ReadmeSection::getHash));
+
+    request.setUsage("npm run dev");
+    List<ReadmeSection> patch = service.generatePatch(request, known);
+
+    assertThat(patch).filteredOn(section -> section.getContent() != null)
+        .extracting(ReadmeSection::getId)
+        .containsExactly("usage");
+    assertThat(patch).hasSize(known.size());
+  }
+
+  @Test
+  @DisplayName("Should render custom sections from JSON and list them in the TOC")
+  void testCustomSections() throws ReadmeGenerationException {
+    ReadmeRequest request = ReadmeRequest.builder()
+        .projectName("Custom")
+        .description("Custom description")
+        .includeTableOfContents(true)
+        .customSections("[{\"title\": \"Architecture\", \"content\": \"Layered.\"},"
+            + " {\"content\": \"Ask on *Discord*.\", \"extra\": [1], \"title\": \"FAQ\"}]")
+        .build();
+
+    String readme = service.generateReadme(request);
+
+    assertThat(readme).contains("## Architecture\n\nLayered.\n\n## FAQ\n\nAsk on *Discord*.");
+    assertThat(readme).contains("- [Architecture](#architecture)\n- [FAQ](#faq)");
+    assertThat(readme.indexOf("## FAQ")).isLessThan(readme.indexOf("## Contributing"));
+
+    request.setCustomSections("{\"Roadmap\": \"- v2\"}");
+    assertThat(service.generateReadme(request)).contains("## Roadmap\n\n- v2");
+  }
+
+  @Test
+  @DisplayName("Should reject malformed or oversized custom sections")
+  void testCustomSectionLimits() {
+    ReadmeGeneratorService limited = new ReadmeGeneratorService(16, 2, 128,
+        new TemplateRegistry(""));
+    ReadmeRequest request = ReadmeRequest.builder()
+        .projectName("Limits")
+        .description("Limits description")
+        .customSections("{\"A\": \"a\", \"B\": \"b\", \"C\": \"c\"}")
+        .build();
+
+    assertThatThrownBy(() -> limited.generateReadme(request))
+        .isInstanceOf(ReadmeGenerationException.class)
+        .hasMessageContaining("At most 2 custom sections");
+
+    request.setCustomSections("{\"A\": \"" + "x".repeat(200) + "\"}");
+    assertThatThrownBy(() -> limited.generateReadme(request))
+        .hasMessageContaining("must not exceed 128 bytes");
+
+    request.setCustomSections("[{\"title\": \"A\", \"content\": ");
+    assertThatThrownBy(() -> limited.generateReadme(request))
+        .hasMessageContaining("Invalid custom sections JSON");
+
+    request.setCustomSections("[{\"content\": \"no title\"}]");
+    assertThatThrownBy(() -> limited.generateReadme(request))
+        .hasMessageContaining("has no title");
+  }
+
+  @Test
+  @DisplayName("Should generate LICENSE and CONTRIBUTING files for the archive")
+  void testLicenseAndContributingFiles() {
+    ReadmeRequest request = ReadmeRequest.builder()
+        .projectName("Archived")
+        .description("Project shipped as an archive")
+        .license("Apache-2.0")
+        .repositoryUrl("https://github.com/user/archived")
+        .build();
+
+    assertThat(service.generateLicenseFile(request))
+        .contains("Apache License")
+        .contains("TERMS AND CONDITIONS FOR USE, REPRODUCTION, AND DISTRIBUTION");
+    request.setLicense("AGPL-3.0");
+    assertThat(service.generateLicenseFile(request))
+        .contains("Archived is licensed under the AGPL-3.0 license.")
+        .contains("https://spdx.org/licenses/AGPL-3.0.html");
+    assertThat(service.generateContributingFile(request))
+        .startsWith("# Contributing to Archived")
+        .contains("https://github.com/user/archived/issues");
+  }
 }
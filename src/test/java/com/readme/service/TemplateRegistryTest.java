@@ -0,0 +1,113 @@
+package com.readme.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.readme.dto.ReadmeRequest;
+import com.readme.exception.ReadmeGenerationException;
+import com.readme.util.CompiledTemplate;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link TemplateRegistry}.
+ * Tests loading, hot reloading and rendering of user-defined templates.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class TemplateRegistryTest {
+
+  @TempDir
+  Path directory;
+
+  private TemplateRegistry registry;
+
+  private final ReadmeRequest request = ReadmeRequest.builder()
+      .projectName("Demo")
+      .description("A demo project")
+      .build();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Files.writeString(directory.resolve("minimal.tpl"), "# {{projectName}}\n");
+    Files.writeString(directory.resolve("ignored.txt"), "not a template");
+    registry = new TemplateRegistry(directory.toString());
+    registry.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    registry.stop();
+  }
+
+  @Test
+  @DisplayName("Should compile template files found at startup")
+  void testStartupLoad() {
+    assertThat(registry.getIds()).containsExactly("minimal");
+    assertThat(registry.find("minimal").map(template -> template.render(request)))
+        .contains("# Demo\n");
+  }
+
+  @Test
+  @DisplayName("Should hot-reload created, modified and deleted templates")
+  void testHotReload() throws Exception {
+    CompiledTemplate before = registry.find("minimal").orElseThrow();
+    AtomicInteger notifications = new AtomicInteger();
+    registry.addListener(notifications::incrementAndGet);
+
+    Files.writeString(directory.resolve("minimal.tpl"), "## {{projectName}}\n");
+    Files.writeString(directory.resolve("extra.tpl"), "{{description}}");
+    awaitTrue(() -> registry.getIds().contains("extra")
+        && !registry.find("minimal").orElseThrow().getVersion().equals(before.getVersion()));
+
+    assertThat(registry.find("minimal").orElseThrow().render(request)).isEqualTo("## Demo\n");
+    assertThat(before.render(request)).isEqualTo("# Demo\n");
+    assertThat(notifications.get()).isPositive();
+
+    Files.delete(directory.resolve("extra.tpl"));
+    awaitTrue(() -> !registry.getIds().contains("extra"));
+  }
+
+  @Test
+  @DisplayName("Should keep the previous version when a template fails to compile")
+  void testBrokenTemplateKeepsPrevious() throws Exception {
+    Path file = directory.resolve("minimal.tpl");
+    Files.writeString(file, "{{#projectName}}unclosed");
+    registry.reload(file);
+
+    assertThat(registry.find("minimal").orElseThrow().render(request)).isEqualTo("# Demo\n");
+  }
+
+  @Test
+  @DisplayName("Should render requests through the selected template")
+  void testGenerateWithTemplateId() throws ReadmeGenerationException {
+    ReadmeGeneratorService generator = new ReadmeGeneratorService(16, 50, 65536, registry);
+    request.setTemplateId("minimal");
+
+    assertThat(generator.generateReadme(request)).isEqualTo("# Demo\n");
+    assertThat(generator.generateSections(request))
+        .extracting(section -> section.getId()).containsExactly("custom");
+
+    request.setTemplateId("missing");
+    assertThatThrownBy(() -> generator.generateReadme(request))
+        .isInstanceOf(ReadmeGenerationException.class)
+        .hasMessageContaining("Unknown template: missing");
+  }
+
+  private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertThat(System.nanoTime()).as("condition reached before timeout").isLessThan(deadline);
+      Thread.sleep(20);
+    }
+  }
+}
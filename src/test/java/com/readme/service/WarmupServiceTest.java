@@ -0,0 +1,38 @@
+package com.readme.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit tests for {@link WarmupService}.
+ * Tests that every iteration over the corpus completes.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class WarmupServiceTest {
+
+  @Test
+  @DisplayName("Should complete every warm-up iteration over the corpus")
+  void testWarmup() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    TemplateRegistry templateRegistry = new TemplateRegistry("");
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    WarmupService warmupService = new WarmupService(templateRegistry,
+        new TemplateCatalog(objectMapper, templateRegistry), objectMapper, meterRegistry);
+    ReflectionTestUtils.setField(warmupService, "enabled", true);
+    ReflectionTestUtils.setField(warmupService, "iterations", 100);
+    ReflectionTestUtils.setField(warmupService, "timeBudget", Duration.ofMinutes(1));
+
+    warmupService.run(null);
+
+    assertThat(meterRegistry.get("readme.warmup.iterations").gauge().value()).isEqualTo(100);
+    assertThat(meterRegistry.get("readme.warmup.completed").gauge().value()).isEqualTo(1.0);
+  }
+}
@@ -0,0 +1,444 @@
+package com.readme.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for the GitHub REST API, for tests and benchmarks.
+ *
+ * <p>Implements the endpoints used by {@code GitHubGateway}:
+ * <ul>
+ *   <li>GET / and GET /user - API root and credential check</li>
+ *   <li>GET /rate_limit - current rate-limit status</li>
+ *   <li>GET /repos/{owner}/{repo} - repository lookup</li>
+ *   <li>GET and PUT /repos/{owner}/{repo}/contents/{path} - file read and write</li>
+ * </ul>
+ *
+ * <p>Every response carries {@code X-RateLimit-*} headers. Latency, random
+ * server error rate and the rate-limit quota are configurable at runtime.
+ * Point the application at it with {@code github.api-url=}{@link #getBaseUrl()}.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+public final class FakeGitHubServer implements AutoCloseable {
+
+  private static final Pattern REPO_PATH = Pattern.compile("^/repos/([^/]+/[^/]+)$");
+  private static final Pattern CONTENTS_PATH =
+      Pattern.compile("^/repos/([^/]+/[^/]+)/contents/(.+)$");
+  private static final Pattern AUTH_SCHEME = Pattern.compile("^(Bearer|token)\\s+");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpServer server;
+  private final ExecutorService executor;
+
+  private final Set<String> validTokens = ConcurrentHashMap.newKeySet();
+  private final Set<String> repositories = ConcurrentHashMap.newKeySet();
+  private final Map<String, String> files = new ConcurrentHashMap<>();
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final AtomicInteger writeCount = new AtomicInteger();
+
+  private volatile Duration latency = Duration.ZERO;
+  private volatile Duration stall = Duration.ZERO;
+  private final AtomicInteger stallsRemaining = new AtomicInteger();
+  private final AtomicInteger failuresRemaining = new AtomicInteger();
+  private volatile int failureStatus;
+  private volatile double errorRate;
+  private volatile int rateLimit = 5_000;
+  private final AtomicInteger rateRemaining = new AtomicInteger(5_000);
+  private final AtomicLong rateReset = new AtomicLong(nextReset());
+
+  private FakeGitHubServer(HttpServer server, ExecutorService executor) {
+    this.server = server;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts a stub on an ephemeral loopback port.
+   *
+   * @return the running server
+   * @throws IOException if the port cannot be bound
+   */
+  public static FakeGitHubServer start() throws IOException {
+    return start(0);
+  }
+
+  /**
+   * Starts a stub on the given loopback port.
+   *
+   * @param port the port to bind, or 0 for an ephemeral port
+   * @return the running server
+   * @throws IOException if the port cannot be bound
+   */
+  public static FakeGitHubServer start(int port) throws IOException {
+    // Without TCP_NODELAY, split header/body writes stall on delayed ACKs
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    HttpServer httpServer = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 4096);
+    ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "fake-github");
+      thread.setDaemon(true);
+      return thread;
+    });
+    FakeGitHubServer fake = new FakeGitHubServer(httpServer, executor);
+    httpServer.createContext("/", fake::handle);
+    httpServer.setExecutor(executor);
+    httpServer.start();
+    return fake;
+  }
+
+  /**
+   * Gets the base URL to use as {@code github.api-url}.
+   *
+   * @return the stub's base URL
+   */
+  public String getBaseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  /**
+   * Registers a token that authenticates successfully.
+   *
+   * @param token the token
+   * @return this server
+   */
+  public FakeGitHubServer withToken(String token) {
+    validTokens.add(token);
+    return this;
+  }
+
+  /**
+   * Registers an existing repository.
+   *
+   * @param repoPath the repository path (owner/repo)
+   * @return this server
+   */
+  public FakeGitHubServer withRepository(String repoPath) {
+    repositories.add(repoPath);
+    return this;
+  }
+
+  /**
+   * Stores a file in a registered repository.
+   *
+   * @param repoPath the repository path (owner/repo)
+   * @param path the file path
+   * @param content the file content
+   * @return this server
+   */
+  public FakeGitHubServer withFile(String repoPath, String path, String content) {
+    files.put(repoPath + "/" + path, content);
+    return this;
+  }
+
+  /**
+   * Sets the artificial latency added to every response.
+   *
+   * @param latency the delay before responding
+   * @return this server
+   */
+  public FakeGitHubServer withLatency(Duration latency) {
+    this.latency = latency;
+    return this;
+  }
+
+  /**
+   * Makes the next requests stall before responding, on top of the regular
+   * latency.
+   *
+   * @param count the number of requests to stall
+   * @param stall the extra delay of each stalled request
+   * @return this server
+   */
+  public FakeGitHubServer withStalls(int count, Duration stall) {
+    this.stall = stall;
+    this.stallsRemaining.set(count);
+    return this;
+  }
+
+  /**
+   * Makes the next requests answer with an error status, after the regular
+   * latency. Requests are counted in arrival order.
+   *
+   * @param count the number of requests to fail
+   * @param status the error status
+   * @return this server
+   */
+  public FakeGitHubServer withFailures(int count, int status) {
+    this.failureStatus = status;
+    this.failuresRemaining.set(count);
+    return this;
+  }
+
+  /**
+   * Sets the fraction of requests answered with a 502 error.
+   *
+   * @param errorRate a value between 0 and 1
+   * @return this server
+   */
+  public FakeGitHubServer withErrorRate(double errorRate) {
+    this.errorRate = errorRate;
+    return this;
+  }
+
+  /**
+   * Sets the hourly request quota and resets the remaining count.
+   *
+   * @param limit the number of requests allowed per window
+   * @return this server
+   */
+  public FakeGitHubServer withRateLimit(int limit) {
+    this.rateLimit = limit;
+    this.rateRemaining.set(limit);
+    this.rateReset.set(nextReset());
+    return this;
+  }
+
+  /**
+   * Gets the current content of a file.
+   *
+   * @param repoPath the repository path (owner/repo)
+   * @param path the file path
+   * @return the content, or null if the file does not exist
+   */
+  public String getFile(String repoPath, String path) {
+    return files.get(repoPath + "/" + path);
+  }
+
+  /**
+   * Gets the number of requests received.
+   *
+   * @return the request count
+   */
+  public int getRequestCount() {
+    return requestCount.get();
+  }
+
+  /**
+   * Gets the number of successful content writes.
+   *
+   * @return the write count
+   */
+  public int getWriteCount() {
+    return writeCount.get();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      requestCount.incrementAndGet();
+      boolean fail = failuresRemaining.getAndUpdate(n -> Math.max(0, n - 1)) > 0;
+      byte[] body;
+      try (InputStream in = exchange.getRequestBody()) {
+        body = in.readAllBytes();
+      }
+      simulateLatency();
+
+      if (fail) {
+        respond(exchange, failureStatus, message("Server Error"));
+        return;
+      }
+
+      if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+        respond(exchange, 502, message("Server Error"));
+        return;
+      }
+      if (!consumeQuota()) {
+        respond(exchange, 403, message("API rate limit exceeded"));
+        return;
+      }
+      route(exchange, body);
+    }
+  }
+
+  private void route(HttpExchange exchange, byte[] body) throws IOException {
+    String method = exchange.getRequestMethod();
+    String path = exchange.getRequestURI().getPath();
+
+    if ("GET".equals(method) && "/".equals(path)) {
+      respond(exchange, 200, objectMapper.createObjectNode()
+          .put("current_user_url", getBaseUrl() + "/user"));
+      return;
+    }
+    if ("GET".equals(method) && "/rate_limit".equals(path)) {
+      ObjectNode core = objectMapper.createObjectNode()
+          .put("limit", rateLimit)
+          .put("remaining", Math.max(0, rateRemaining.get()))
+          .put("reset", rateReset.get());
+      ObjectNode json = objectMapper.createObjectNode();
+      json.putObject("resources").set("core", core);
+      json.set("rate", core);
+      respond(exchange, 200, json);
+      return;
+    }
+
+    if (!isAuthorized(exchange)) {
+      respond(exchange, 401, message("Bad credentials"));
+      return;
+    }
+
+    if ("GET".equals(method) && "/user".equals(path)) {
+      respond(exchange, 200, objectMapper.createObjectNode().put("login", "fake-user"));
+      return;
+    }
+
+    Matcher repo = REPO_PATH.matcher(path);
+    if ("GET".equals(method) && repo.matches()) {
+      if (!repositories.contains(repo.group(1))) {
+        respond(exchange, 404, message("Not Found"));
+        return;
+      }
+      respond(exchange, 200, objectMapper.createObjectNode()
+          .put("full_name", repo.group(1))
+          .put("default_branch", "main"));
+      return;
+    }
+
+    Matcher contents = CONTENTS_PATH.matcher(path);
+    if (contents.matches() && repositories.contains(contents.group(1))) {
+      String key = contents.group(1) + "/" + contents.group(2);
+      if ("GET".equals(method)) {
+        getContents(exchange, contents.group(2), key);
+        return;
+      }
+      if ("PUT".equals(method)) {
+        putContents(exchange, contents.group(2), key, body);
+        return;
+      }
+    }
+
+    respond(exchange, 404, message("Not Found"));
+  }
+
+  private void getContents(HttpExchange exchange, String path, String key) throws IOException {
+    String content = files.get(key);
+    if (content == null) {
+      respond(exchange, 404, message("Not Found"));
+      return;
+    }
+    respond(exchange, 200, objectMapper.createObjectNode()
+        .put("type", "file")
+        .put("path", path)
+        .put("sha", sha(content))
+        .put("encoding", "base64")
+        .put("content", Base64.getEncoder().encodeToString(
+            content.getBytes(StandardCharsets.UTF_8))));
+  }
+
+  private void putContents(HttpExchange exchange, String path, String key, byte[] body)
+      throws IOException {
+    JsonNode request = objectMapper.readTree(body);
+    String existing = files.get(key);
+    String sha = request.path("sha").asText(null);
+
+    if (existing != null && !sha(existing).equals(sha)) {
+      respond(exchange, 409, message(path + " does not match " + sha));
+      return;
+    }
+    if (existing == null && sha != null) {
+      respond(exchange, 422, message("sha supplied for a new file"));
+      return;
+    }
+
+    String content = new String(Base64.getMimeDecoder().decode(
+        request.path("content").asText()), StandardCharsets.UTF_8);
+    files.put(key, content);
+    writeCount.incrementAndGet();
+
+    ObjectNode json = objectMapper.createObjectNode();
+    json.putObject("content").put("path", path).put("sha", sha(content));
+    respond(exchange, existing == null ? 201 : 200, json);
+  }
+
+  private boolean isAuthorized(HttpExchange exchange) {
+    String header = exchange.getRequestHeaders().getFirst("Authorization");
+    if (header == null) {
+      return false;
+    }
+    String token = AUTH_SCHEME.matcher(header).replaceFirst("");
+    return validTokens.contains(token);
+  }
+
+  private boolean consumeQuota() {
+    long now = Instant.now().getEpochSecond();
+    long reset = rateReset.get();
+    if (now >= reset && rateReset.compareAndSet(reset, nextReset())) {
+      rateRemaining.set(rateLimit);
+    }
+    return rateRemaining.getAndDecrement() > 0;
+  }
+
+  private void simulateLatency() {
+    long millis = latency.toMillis();
+    if (stallsRemaining.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+      millis += stall.toMillis();
+    }
+    if (millis > 0) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void respond(HttpExchange exchange, int status, JsonNode json) throws IOException {
+    byte[] response = objectMapper.writeValueAsBytes(json);
+    exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+    exchange.getResponseHeaders().add("X-RateLimit-Limit", String.valueOf(rateLimit));
+    exchange.getResponseHeaders().add("X-RateLimit-Remaining",
+        String.valueOf(Math.max(0, rateRemaining.get())));
+    exchange.getResponseHeaders().add("X-RateLimit-Reset", String.valueOf(rateReset.get()));
+    exchange.sendResponseHeaders(status, response.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(response);
+    }
+  }
+
+  private ObjectNode message(String text) {
+    return objectMapper.createObjectNode()
+        .put("message", text)
+        .put("documentation_url", "https://docs.github.com/rest");
+  }
+
+  private static long nextReset() {
+    return Instant.now().plus(Duration.ofHours(1)).getEpochSecond();
+  }
+
+  private static String sha(String content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AdaptiveConcurrencyLimiter}.
+ * Tests rejection at the limit, growth at baseline latency and shrinking
+ * under rising latency or overload.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final AdaptiveConcurrencyLimiter limiter =
+      new AdaptiveConcurrencyLimiter(10, 2, 100, now::get);
+
+  @Test
+  @DisplayName("Should reject operations beyond the limit and admit again after release")
+  void testRejectsBeyondLimit() {
+    List<AdaptiveConcurrencyLimiter.Permit> permits = acquireAll();
+    assertThat(permits).hasSize(10);
+    assertThat(limiter.tryAcquire()).isNull();
+    assertThat(limiter.getInFlight()).isEqualTo(10);
+    assertThat(limiter.getRejected()).isEqualTo(2);
+
+    permits.get(0).ignore();
+    permits.get(0).ignore();
+    assertThat(limiter.getInFlight()).isEqualTo(9);
+    assertThat(limiter.tryAcquire()).isNotNull();
+  }
+
+  @Test
+  @DisplayName("Should grow the limit while latency stays at baseline")
+  void testGrowsAtBaselineLatency() {
+    for (int round = 0; round < 20; round++) {
+      completeAll(acquireAll(), 50);
+    }
+    assertThat(limiter.getLimit()).isGreaterThan(10);
+  }
+
+  @Test
+  @DisplayName("Should shrink the limit when latency rises or GitHub is overloaded")
+  void testShrinksUnderLatencyAndOverload() {
+    for (int round = 0; round < 20; round++) {
+      completeAll(acquireAll(), 50);
+    }
+    int grown = limiter.getLimit();
+    for (int round = 0; round < 2; round++) {
+      completeAll(acquireAll(), 500);
+    }
+    int slowed = limiter.getLimit();
+    assertThat(slowed).isLessThan(grown);
+
+    for (AdaptiveConcurrencyLimiter.Permit permit : acquireAll()) {
+      permit.overloaded();
+    }
+    assertThat(limiter.getLimit()).isLessThan(slowed).isGreaterThanOrEqualTo(2);
+  }
+
+  private List<AdaptiveConcurrencyLimiter.Permit> acquireAll() {
+    List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+    AdaptiveConcurrencyLimiter.Permit permit;
+    while ((permit = limiter.tryAcquire()) != null) {
+      permits.add(permit);
+    }
+    return permits;
+  }
+
+  private void completeAll(List<AdaptiveConcurrencyLimiter.Permit> permits, long latencyMillis) {
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+    permits.forEach(AdaptiveConcurrencyLimiter.Permit::success);
+  }
+}
@@ -80,6 +80,15 @@ class BadgeGeneratorTest {
     assertThat(badge).contains("0078D4");
   }
 
+  @Test
+  @DisplayName("Should resolve technology spelling variants to the canonical badge")
+  void testGenerateTechnologyBadgeVariant() {
+    String badge = BadgeGenerator.generateTechnologyBadge("spring-boot");
+
+    assertThat(badge).isEqualTo(BadgeGenerator.generateTechnologyBadge("Spring Boot"));
+    assertThat(badge).contains("Spring_Boot-6DB33F", "logo=springboot");
+  }
+
   @Test
   @DisplayName("Should extract repository path from GitHub URL")
   void testExtractRepoPath() {
@@ -0,0 +1,103 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CircuitBreaker}.
+ * Tests opening on failure and slow call rates, half-open probing and
+ * transition notifications.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class CircuitBreakerTest {
+
+  private final AtomicLong now = new AtomicLong();
+  private final List<String> transitions = new ArrayList<>();
+  private final CircuitBreaker breaker = new CircuitBreaker(10, 4, 50, 80,
+      Duration.ofSeconds(1), Duration.ofSeconds(30), 2, now::get);
+
+  {
+    breaker.addListener((from, to) -> transitions.add(from + "->" + to));
+  }
+
+  @Test
+  @DisplayName("Should open once the failure rate reaches the threshold and fail fast")
+  void testOpensOnFailureRate() {
+    breaker.tryAcquire().success();
+    breaker.tryAcquire().failure();
+    breaker.tryAcquire().success();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    breaker.tryAcquire().failure();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(breaker.tryAcquire()).isNull();
+    assertThat(breaker.getRejected()).isEqualTo(1);
+    assertThat(breaker.getRetryAfterNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+    assertThat(transitions).containsExactly("CLOSED->OPEN");
+  }
+
+  @Test
+  @DisplayName("Should open when most calls are slow")
+  void testOpensOnSlowCalls() {
+    for (int i = 0; i < 4; i++) {
+      CircuitBreaker.Permit permit = breaker.tryAcquire();
+      now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+      permit.success();
+    }
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  @DisplayName("Should probe after the open duration and close when probes succeed")
+  void testHalfOpenProbesClose() {
+    open();
+    now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+    CircuitBreaker.Permit first = breaker.tryAcquire();
+    CircuitBreaker.Permit second = breaker.tryAcquire();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    assertThat(first).isNotNull();
+    assertThat(second).isNotNull();
+    assertThat(breaker.tryAcquire()).isNull();
+
+    first.success();
+    second.success();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN",
+        "HALF_OPEN->CLOSED");
+  }
+
+  @Test
+  @DisplayName("Should reopen when probes fail and ignore calls started before the transition")
+  void testHalfOpenProbesReopen() {
+    CircuitBreaker.Permit stale = breaker.tryAcquire();
+    open();
+    now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+    CircuitBreaker.Permit first = breaker.tryAcquire();
+    CircuitBreaker.Permit second = breaker.tryAcquire();
+    stale.success();
+    first.failure();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+    second.success();
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    assertThat(breaker.tryAcquire()).isNull();
+  }
+
+  private void open() {
+    for (int i = 0; i < 4; i++) {
+      breaker.tryAcquire().failure();
+    }
+    assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+  }
+}
@@ -0,0 +1,72 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HashRing}.
+ * Tests ownership balance, order independence and stability on membership changes.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class HashRingTest {
+
+  private static final List<String> MEMBERS = List.of(
+      "http://node-a:8080", "http://node-b:8080", "http://node-c:8080");
+  private static final int KEYS = 30_000;
+
+  @Test
+  @DisplayName("Should spread keys evenly across members")
+  void testBalance() {
+    HashRing ring = new HashRing(MEMBERS, 128);
+    Map<String, Integer> owned = new HashMap<>();
+    for (int i = 0; i < KEYS; i++) {
+      owned.merge(ring.owner(key(i)), 1, Integer::sum);
+    }
+
+    assertThat(owned).containsOnlyKeys(MEMBERS);
+    assertThat(owned.values()).allSatisfy(count ->
+        assertThat(count).isBetween(KEYS / 3 * 8 / 10, KEYS / 3 * 12 / 10));
+  }
+
+  @Test
+  @DisplayName("Should build the same ring whatever the member order")
+  void testOrderIndependent() {
+    HashRing ring = new HashRing(MEMBERS, 64);
+    HashRing shuffled = new HashRing(
+        List.of("http://node-c:8080", "http://node-a:8080", "http://node-b:8080",
+            "http://node-a:8080"), 64);
+
+    assertThat(shuffled.members()).isEqualTo(ring.members());
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(shuffled.owner(key(i))).isEqualTo(ring.owner(key(i)));
+    }
+  }
+
+  @Test
+  @DisplayName("Should only move the keys of a removed member")
+  void testRemoveMember() {
+    HashRing ring = new HashRing(MEMBERS, 128);
+    HashRing shrunk = new HashRing(MEMBERS.subList(0, 2), 128);
+
+    for (int i = 0; i < 5_000; i++) {
+      String owner = ring.owner(key(i));
+      if (!owner.equals("http://node-c:8080")) {
+        assertThat(shrunk.owner(key(i))).isEqualTo(owner);
+      }
+    }
+    assertThatThrownBy(() -> new HashRing(List.of(), 8))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static long key(int i) {
+    return HashRing.hash(ContentHash.sha256("request-" + i));
+  }
+}
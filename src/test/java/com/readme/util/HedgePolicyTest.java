@@ -0,0 +1,67 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HedgePolicy}.
+ * Tests the percentile-based hedge delay and the hedge budget.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class HedgePolicyTest {
+
+  @Test
+  @DisplayName("Should derive the hedge delay from the latency percentile within bounds")
+  void testDelayFollowsPercentile() {
+    HedgePolicy policy = new HedgePolicy(90, 10, Duration.ofMillis(5), Duration.ofSeconds(1));
+    assertThat(policy.getDelayNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+    for (int i = 1; i <= 64; i++) {
+      policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+    }
+    // 90th percentile of 1..64 ms
+    assertThat(policy.getDelayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(58));
+
+    for (int i = 0; i < 512; i++) {
+      policy.recordLatency(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+    assertThat(policy.getDelayNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+  }
+
+  @Test
+  @DisplayName("Should allow one hedge per budgeted share of reads")
+  void testBudget() {
+    HedgePolicy policy = new HedgePolicy(95, 10, Duration.ZERO, Duration.ofSeconds(1));
+    assertThat(policy.tryHedge()).isFalse();
+
+    for (int i = 0; i < 10; i++) {
+      policy.onRead();
+    }
+    assertThat(policy.tryHedge()).isTrue();
+    assertThat(policy.tryHedge()).isFalse();
+    assertThat(policy.getHedges()).isEqualTo(1);
+    assertThat(policy.getDenied()).isEqualTo(2);
+
+    for (int i = 0; i < 1_000; i++) {
+      policy.onRead();
+    }
+    int granted = 0;
+    while (policy.tryHedge()) {
+      granted++;
+    }
+    assertThat(granted).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("Should report a zero budget as disabled")
+  void testDisabled() {
+    assertThat(HedgePolicy.disabled().isEnabled()).isFalse();
+    assertThat(new HedgePolicy(95, 5, Duration.ZERO, Duration.ZERO).isEnabled()).isTrue();
+  }
+}
@@ -0,0 +1,143 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.readme.model.HistoryEntry;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for HistoryLog.
+ * Tests deduplication, queries, crash recovery and compaction.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class HistoryLogTest {
+
+  private static final String README = "# Demo\n\n" + IntStream.range(0, 300)
+      .mapToObj(i -> "- Step " + i + " of " + i * 7919 % 1000 + "\n")
+      .collect(Collectors.joining());
+
+  private static final HistoryEntry.Labels NONE = HistoryEntry.Labels.NONE;
+
+  @TempDir
+  Path directory;
+
+  private final AtomicLong now = new AtomicLong(1_000_000L);
+
+  @Test
+  @DisplayName("Should share payloads and skip repeated entries of the same stream")
+  void testDeduplication() throws IOException {
+    try (HistoryLog history = HistoryLog.open(directory, now::get)) {
+      HistoryEntry.Labels labels = new HistoryEntry.Labels("minimal", "MIT", List.of("Java"));
+      HistoryEntry first = history.append(HistoryEntry.Kind.GENERATED, "Demo", null, labels,
+          README);
+      HistoryEntry repeated = history.append(HistoryEntry.Kind.GENERATED, "demo ", null, labels,
+          README);
+      long sizeAfterFirst = history.sizeOnDisk();
+      HistoryEntry exported = history.append(HistoryEntry.Kind.EXPORTED, "demo",
+          "https://github.com/acme/demo.git", NONE, README);
+
+      assertThat(repeated).isEqualTo(first);
+      assertThat(first.labels()).isEqualTo(labels);
+      assertThat(exported.labels()).isEqualTo(NONE);
+      assertThat(exported.id()).isEqualTo(first.id() + 1);
+      assertThat(exported.contentHash()).isEqualTo(first.contentHash());
+      assertThat(first.storedSize()).isLessThan(first.size() / 2);
+      assertThat(history.sizeOnDisk() - sizeAfterFirst).isLessThan(first.storedSize());
+      assertThat(history.size()).isEqualTo(2);
+      assertThat(history.read(exported.id())).contains(README);
+    }
+  }
+
+  @Test
+  @DisplayName("Should filter by project, repository and time, newest first")
+  void testFind() throws IOException {
+    try (HistoryLog history = HistoryLog.open(directory, now::get)) {
+      for (int i = 0; i < 10; i++) {
+        now.addAndGet(1000);
+        history.append(HistoryEntry.Kind.EXPORTED, i % 2 == 0 ? "Alpha" : "Beta",
+            "https://github.com/acme/" + (i % 2 == 0 ? "alpha" : "beta"), NONE, README + i);
+      }
+
+      List<HistoryEntry> alpha = history.find("ALPHA", null, null, null, 10);
+      assertThat(alpha).extracting(HistoryEntry::id).containsExactly(9L, 7L, 5L, 3L, 1L);
+
+      List<HistoryEntry> beta = history.find(null, "https://github.com/acme/beta/", null,
+          null, 2);
+      assertThat(beta).extracting(HistoryEntry::id).containsExactly(10L, 8L);
+
+      List<HistoryEntry> window = history.find(null, null, Instant.ofEpochMilli(1_003_000L),
+          Instant.ofEpochMilli(1_006_000L), 10);
+      assertThat(window).extracting(HistoryEntry::id).containsExactly(5L, 4L, 3L);
+      assertThat(history.get(42)).isEmpty();
+    }
+  }
+
+  @Test
+  @DisplayName("Should truncate a torn record and rebuild a missing index on open")
+  void testRecovery() throws IOException {
+    try (HistoryLog history = HistoryLog.open(directory, now::get)) {
+      history.append(HistoryEntry.Kind.GENERATED, "One", null, NONE, README + 1);
+      history.append(HistoryEntry.Kind.GENERATED, "Two", null, NONE, README + 2);
+    }
+    Path log = directory.resolve("history-1.log");
+    long size = Files.size(log);
+    try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+      channel.truncate(size - 10);
+    }
+    Files.delete(directory.resolve("history-1.idx"));
+
+    try (HistoryLog history = HistoryLog.open(directory, now::get)) {
+      assertThat(history.size()).isEqualTo(1);
+      assertThat(history.read(1)).contains(README + 1);
+      HistoryEntry next = history.append(HistoryEntry.Kind.GENERATED, "Three", null, NONE, README);
+      assertThat(next.id()).isEqualTo(2);
+    }
+    try (HistoryLog history = HistoryLog.open(directory, now::get)) {
+      assertThat(history.find(null, null, null, null, 10))
+          .extracting(HistoryEntry::projectName).containsExactly("Three", "One");
+    }
+  }
+
+  @Test
+  @DisplayName("Should drop expired and surplus entries when compacting")
+  void testCompaction() throws IOException {
+    try (HistoryLog history = HistoryLog.open(directory, now::get)) {
+      for (int i = 0; i < 6; i++) {
+        now.addAndGet(Duration.ofDays(1).toMillis());
+        history.append(HistoryEntry.Kind.GENERATED, "Project" + i, null, NONE,
+            i < 3 ? README : README + i);
+      }
+
+      HistoryLog.Compaction result = history.compact(Duration.ofDays(4), 2);
+
+      assertThat(result.kept()).isEqualTo(2);
+      assertThat(result.removed()).isEqualTo(4);
+      assertThat(result.bytesAfter()).isLessThan(result.bytesBefore());
+      assertThat(history.get(4)).isEmpty();
+      assertThat(history.read(6)).contains(README + 5);
+      assertThat(history.blob(6).orElseThrow().file().getFileName().toString())
+          .isEqualTo("history-2.log");
+      assertThat(history.append(HistoryEntry.Kind.GENERATED, "Next", null, NONE, README).id())
+          .isEqualTo(7);
+    }
+    try (HistoryLog history = HistoryLog.open(directory, now::get)) {
+      assertThat(history.size()).isEqualTo(3);
+      assertThat(Files.exists(directory.resolve("history-1.log"))).isFalse();
+    }
+  }
+}
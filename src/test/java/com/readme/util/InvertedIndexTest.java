@@ -0,0 +1,83 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for InvertedIndex.
+ * Tests tokenization, intersections, facet counts and pruning.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class InvertedIndexTest {
+
+  @Test
+  @DisplayName("Should split text into distinct lowercase tokens")
+  void testTokenize() {
+    assertThat(InvertedIndex.tokenize("# Spring Boot — REST API, spring-boot 3 x"))
+        .containsExactlyInAnyOrder("spring", "boot", "rest", "api");
+    assertThat(InvertedIndex.tokenize(null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should return the documents containing every term")
+  void testSearch() {
+    InvertedIndex index = new InvertedIndex();
+    index.add(1, Set.of("java", "spring", "technology:java"));
+    index.add(2, Set.of("python", "technology:python"));
+    index.add(300, Set.of("java", "technology:java", "technology:docker"));
+    index.add(100_000, Set.of("java", "spring", "technology:java", "technology:docker"));
+
+    assertThat(index.search(Set.of("java", "spring"))).containsExactly(1L, 100_000L);
+    assertThat(index.search(Set.of("technology:docker"))).containsExactly(300L, 100_000L);
+    assertThat(index.search(Set.of("java", "unknown"))).isEmpty();
+    assertThat(index.search(Set.of())).containsExactly(1L, 2L, 300L, 100_000L);
+    assertThatThrownBy(() -> index.add(300, Set.of("late")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  @DisplayName("Should count facet values within the matches")
+  void testFacetCounts() {
+    InvertedIndex index = new InvertedIndex();
+    for (int id = 1; id <= 1000; id++) {
+      Set<String> terms = new HashSet<>(Set.of(id % 2 == 0 ? "even" : "odd",
+          "technology:" + (id % 3 == 0 ? "java" : "go")));
+      if (id % 5 == 0) {
+        terms.add("technology:docker");
+      }
+      index.add(id, terms);
+    }
+
+    Map<String, Integer> all = index.facetCounts("technology:", index.search(Set.of()), 10);
+    assertThat(all).containsExactly(Map.entry("go", 667), Map.entry("java", 333),
+        Map.entry("docker", 200));
+
+    Map<String, Integer> even = index.facetCounts("technology:", index.search(Set.of("even")), 2);
+    assertThat(even).containsExactly(Map.entry("go", 334), Map.entry("java", 166));
+  }
+
+  @Test
+  @DisplayName("Should drop documents below an id and terms left empty")
+  void testRemoveBefore() {
+    InvertedIndex index = new InvertedIndex();
+    index.add(1, Set.of("old"));
+    index.add(2, Set.of("shared"));
+    index.add(3, Set.of("shared", "new"));
+
+    index.removeBefore(3);
+
+    assertThat(index.size()).isEqualTo(1);
+    assertThat(index.search(Set.of("old"))).isEmpty();
+    assertThat(index.search(Set.of("shared"))).containsExactly(3L);
+    assertThat(index.facetCounts("", index.search(Set.of()), 10)).containsOnlyKeys("new",
+        "shared");
+  }
+}
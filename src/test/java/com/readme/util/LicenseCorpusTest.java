@@ -0,0 +1,96 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.readme.model.License;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LicenseCorpus}.
+ * Tests the bundled corpus, lookups, placeholder substitution and index validation.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class LicenseCorpusTest {
+
+  private final LicenseCorpus corpus = LicenseCorpus.getDefault();
+
+  @Test
+  @DisplayName("Should map the bundled corpus with every indexed text in place")
+  void testDefaultCorpus() {
+    assertThat(corpus.size()).isGreaterThanOrEqualTo(12);
+    assertThat(corpus.licenses()).extracting(License::id)
+        .startsWith("MIT", "Apache-2.0", "GPL-3.0", "BSD-3-Clause", "ISC");
+
+    assertThat(text(corpus.text(corpus.find("MIT").orElseThrow()))).startsWith("MIT License");
+    assertThat(text(corpus.text(corpus.find("GPL-3.0").orElseThrow())))
+        .contains("GNU GENERAL PUBLIC LICENSE").contains("Version 3, 29 June 2007")
+        .endsWith("<https://www.gnu.org/licenses/why-not-lgpl.html>.\n");
+    assertThat(text(corpus.text(corpus.find("MPL-2.0").orElseThrow())))
+        .startsWith("Mozilla Public License Version 2.0");
+  }
+
+  @Test
+  @DisplayName("Should find licenses by identifier or alias ignoring case")
+  void testFind() {
+    assertThat(corpus.find("apache-2.0")).get().extracting(License::name)
+        .isEqualTo("Apache License 2.0");
+    assertThat(corpus.find(" GPL-3.0-or-later ")).get().extracting(License::id)
+        .isEqualTo("GPL-3.0");
+    assertThat(corpus.find("Proprietary")).isEmpty();
+    assertThat(corpus.find(null)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should substitute year and holder and cache the rendering")
+  void testRender() {
+    License mit = corpus.find("MIT").orElseThrow();
+    ByteBuffer first = corpus.render(mit, 2024, "Jane Doe");
+
+    assertThat(first.isReadOnly()).isTrue();
+    assertThat(text(first))
+        .startsWith("MIT License\n\nCopyright (c) 2024 Jane Doe\n\nPermission is hereby granted")
+        .doesNotContain("{{");
+    assertThat(text(corpus.render(mit, 2024, "Jane Doe"))).isEqualTo(text(first));
+    assertThat(text(corpus.render(mit, 2025, "Jöhn Ünïcode")))
+        .contains("Copyright (c) 2025 Jöhn Ünïcode\n");
+
+    License gpl = corpus.find("GPL-3.0").orElseThrow();
+    assertThat(corpus.render(gpl, 2024, "Jane Doe")).isEqualTo(corpus.text(gpl));
+  }
+
+  @Test
+  @DisplayName("Should reject corpora whose index is malformed")
+  void testMalformedCorpus() {
+    assertThatThrownBy(() -> load("X\tX\t\t0\t4\n"))
+        .isInstanceOf(IOException.class).hasMessageContaining("separator");
+    assertThatThrownBy(() -> load("X\tX\t\t2\t4\n%%\nabcd"))
+        .isInstanceOf(IOException.class).hasMessageContaining("outside the corpus");
+    assertThatThrownBy(() -> load("X\tX\t0\t4\n%%\nabcd"))
+        .isInstanceOf(IOException.class).hasMessageContaining("line 1");
+  }
+
+  @Test
+  @DisplayName("Should only substitute placeholders inside the indexed text")
+  void testPlaceholdersWithinBounds() throws IOException {
+    LicenseCorpus small = load("# comment\nX\tLicense X\tY\t0\t12\n%%\n{{year}} {{holder}}");
+    License license = small.find("y").orElseThrow();
+
+    assertThat(text(small.render(license, 1999, "Z"))).isEqualTo("1999 {{h");
+    assertThat(license.aliases()).containsExactly("Y");
+  }
+
+  private static LicenseCorpus load(String data) throws IOException {
+    return LicenseCorpus.load(ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static String text(ByteBuffer buffer) {
+    return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+  }
+}
@@ -0,0 +1,49 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PrefixTrie}.
+ * Tests exact lookups and ranked prefix suggestions.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class PrefixTrieTest {
+
+  private PrefixTrie trie;
+
+  @BeforeEach
+  void setUp() {
+    trie = PrefixTrie.builder(3)
+        .put("java", 0)
+        .put("javascript", 2)
+        .put("jquery", 5)
+        .put("jest", 4)
+        .put("js", 2)
+        .put("go", 1)
+        .build();
+  }
+
+  @Test
+  @DisplayName("Should return values for exact keys only")
+  void testGet() {
+    assertThat(trie.get("java")).isZero();
+    assertThat(trie.get("js")).isEqualTo(2);
+    assertThat(trie.get("jav")).isEqualTo(-1);
+    assertThat(trie.get("rust")).isEqualTo(-1);
+  }
+
+  @Test
+  @DisplayName("Should suggest distinct values in rank order, limited to top K")
+  void testSuggest() {
+    assertThat(trie.suggest("j", 10)).containsExactly(0, 2, 4);
+    assertThat(trie.suggest("ja", 10)).containsExactly(0, 2);
+    assertThat(trie.suggest("", 2)).containsExactly(0, 1);
+    assertThat(trie.suggest("x", 10)).isEmpty();
+  }
+}
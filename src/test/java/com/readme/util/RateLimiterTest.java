@@ -0,0 +1,58 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RateLimiter}.
+ * Tests burst admission, refill, per-client isolation and idle eviction.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class RateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+  private final RateLimiter limiter = new RateLimiter(60, 3, now::get);
+
+  @Test
+  @DisplayName("Should admit a burst, then reject until a token refills")
+  void testBurstAndRefill() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(limiter.tryAcquire("alice")).isZero();
+    }
+    long wait = limiter.tryAcquire("alice");
+    assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+
+    now.addAndGet(wait);
+    assertThat(limiter.tryAcquire("alice")).isZero();
+    assertThat(limiter.tryAcquire("alice")).isPositive();
+  }
+
+  @Test
+  @DisplayName("Should keep separate buckets per client")
+  void testClientsAreIsolated() {
+    for (int i = 0; i < 3; i++) {
+      limiter.tryAcquire("alice");
+    }
+    assertThat(limiter.tryAcquire("alice")).isPositive();
+    assertThat(limiter.tryAcquire("bob")).isZero();
+  }
+
+  @Test
+  @DisplayName("Should evict only clients whose bucket has refilled")
+  void testEvictIdle() {
+    limiter.tryAcquire("alice");
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+    limiter.tryAcquire("bob");
+    now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+
+    limiter.evictIdle();
+
+    assertThat(limiter.size()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,71 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.readme.model.Technology;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TechnologyCatalog}.
+ * Tests the bundled catalog, lookups and prefix suggestions.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class TechnologyCatalogTest {
+
+  private final TechnologyCatalog catalog = TechnologyCatalog.getDefault();
+
+  @Test
+  @DisplayName("Should load the bundled catalog")
+  void testDefaultCatalog() {
+    assertThat(catalog.size()).isGreaterThan(400);
+    assertThat(catalog.featured(3)).extracting(Technology::name)
+        .containsExactly("Java", "Spring Boot", "JavaScript");
+  }
+
+  @Test
+  @DisplayName("Should find technologies by name or alias ignoring case")
+  void testFind() {
+    assertThat(catalog.find("node.js")).get()
+        .extracting(Technology::slug).isEqualTo("nodedotjs");
+    assertThat(catalog.find("k8s")).get()
+        .extracting(Technology::name).isEqualTo("Kubernetes");
+    assertThat(catalog.find("UnknownTech")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should suggest technologies by prefix in rank order")
+  void testSuggest() {
+    assertThat(catalog.suggest("Ja", 5)).extracting(Technology::name)
+        .startsWith("Java", "JavaScript");
+    assertThat(catalog.suggest("post", 5)).extracting(Technology::name)
+        .contains("PostgreSQL", "Postman");
+    assertThat(catalog.suggest("zzz", 5)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should resolve spelling variants to the same canonical entry")
+  void testFindNormalizedVariants() {
+    Technology springBoot = catalog.find("Spring Boot").orElseThrow();
+
+    assertThat(catalog.find("springboot")).containsSame(springBoot);
+    assertThat(catalog.find("spring-boot")).containsSame(springBoot);
+    assertThat(catalog.find("SpringBoot")).containsSame(springBoot);
+    assertThat(catalog.find("c#").orElseThrow().name()).isEqualTo("C#");
+    assertThat(catalog.find("c++").orElseThrow().name()).isEqualTo("C++");
+    assertThat(catalog.find("C").orElseThrow().name()).isEqualTo("C");
+  }
+
+  @Test
+  @DisplayName("Should cache unknown technologies in the negative cache")
+  void testResolveUnknown() {
+    Technology first = catalog.resolve("My Internal-Tool");
+
+    assertThat(first.name()).isEqualTo("My Internal-Tool");
+    assertThat(first.slug()).isEqualTo("myinternaltool");
+    assertThat(first.color()).isEqualTo("0078D4");
+    assertThat(catalog.resolve("My Internal-Tool")).isSameAs(first);
+  }
+}
@@ -0,0 +1,83 @@
+package com.readme.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.readme.dto.ReadmeRequest;
+import com.readme.exception.TemplateCompilationException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TemplateCompiler}.
+ * Tests template parsing, compiled rendering and compile errors.
+ *
+ * @author README Generator Team
+ * @version 1.0.0
+ */
+class TemplateCompilerTest {
+
+  private final ReadmeRequest request = ReadmeRequest.builder()
+      .projectName("Demo")
+      .description("A demo project")
+      .technologies(List.of("Java", "Docker"))
+      .features("- Fast\n- Small\n")
+      .includeLicense(false)
+      .build();
+
+  @Test
+  @DisplayName("Should substitute text, list and flag fields")
+  void testVariables() throws TemplateCompilationException {
+    CompiledTemplate template = TemplateCompiler.compile("vars",
+        "# {{projectName}} ({{technologies}}) license={{includeLicense}}{{tagline}}");
+
+    assertThat(template.render(request)).isEqualTo("# Demo (Java, Docker) license=false");
+  }
+
+  @Test
+  @DisplayName("Should render sections conditionally and iterate lists")
+  void testSections() throws TemplateCompilationException {
+    CompiledTemplate template = TemplateCompiler.compile("sections", """
+        {{#featureList}}
+        - {{.}}
+        {{/featureList}}
+        {{#includeLicense}}
+        ## License
+        {{/includeLicense}}
+        {{^tagline}}
+        No tagline
+        {{/tagline}}
+        {{! comments and standalone tags leave no blank lines }}
+        End""");
+
+    assertThat(template.render(request)).isEqualTo("- Fast\n- Small\nNo tagline\nEnd");
+  }
+
+  @Test
+  @DisplayName("Should keep text around inline section tags")
+  void testInlineSection() throws TemplateCompilationException {
+    CompiledTemplate template = TemplateCompiler.compile("inline",
+        "Stack: {{#technologies}}[{{.}}]{{/technologies}}!");
+
+    assertThat(template.render(request)).isEqualTo("Stack: [Java][Docker]!");
+  }
+
+  @Test
+  @DisplayName("Should reject malformed templates with the offending line")
+  void testCompilationErrors() {
+    assertThatThrownBy(() -> TemplateCompiler.compile("bad", "line\n{{unknownField}}"))
+        .isInstanceOf(TemplateCompilationException.class)
+        .hasMessageContaining("Unknown field 'unknownField'")
+        .hasMessageContaining("line 2");
+    assertThatThrownBy(() -> TemplateCompiler.compile("bad", "{{#usage}}open"))
+        .isInstanceOf(TemplateCompilationException.class)
+        .hasMessageContaining("Unclosed section 'usage'");
+    assertThatThrownBy(() -> TemplateCompiler.compile("bad", "{{#usage}}{{/license}}"))
+        .isInstanceOf(TemplateCompilationException.class)
+        .hasMessageContaining("Unexpected closing tag");
+    assertThatThrownBy(() -> TemplateCompiler.compile("bad", "{{.}}"))
+        .isInstanceOf(TemplateCompilationException.class)
+        .hasMessageContaining("outside a list section");
+  }
+}
@@ -0,0 +1,75 @@
+{{! Mirrors the built-in layout; used by TemplateRenderBenchmark }}
+<div align="center">
+
+# {{projectName}}
+
+{{#tagline}}
+### {{tagline}}
+
+{{/tagline}}
+</div>
+
+{{#includeBadges}}
+<div align="center">
+
+{{#technologyBadges}}
+{{.}}
+{{/technologyBadges}}
+
+</div>
+
+{{/includeBadges}}
+## About
+
+{{description}}
+
+{{#demoUrl}}
+**[Live Demo]({{demoUrl}})**
+
+{{/demoUrl}}
+{{#features}}
+## Features
+
+{{#featureList}}
+- {{.}}
+{{/featureList}}
+
+{{/features}}
+{{#technologies}}
+## Tech Stack
+
+{{/technologies}}
+{{#technologies}}
+- **{{.}}**
+{{/technologies}}
+
+{{#installation}}
+## Installation
+
+```bash
+{{installation}}
+```
+
+{{/installation}}
+{{#usage}}
+## Usage
+
+```bash
+{{usage}}
+```
+
+{{/usage}}
+{{#includeLicense}}
+## License
+
+This project is licensed under the {{#license}}{{license}}{{/license}}{{^license}}MIT{{/license}} License - see the [LICENSE](LICENSE) file for details.
+
+{{/includeLicense}}
+---
+<div align="center">
+
+{{#author}}
+Made by **{{author}}**
+
+{{/author}}
+</div>